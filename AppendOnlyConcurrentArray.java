@@ -0,0 +1,173 @@
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free, append-only array for many threads adding at the end at the same time
+ * Each add claims a slot with a single atomic increment, so producers never wait for each other
+ * Storage is a list of segments that double in size; growing allocates one new segment
+ * and never copies existing elements
+ * An element becomes visible once it and every element before it have been written, so
+ * get(i) for any i below size() is wait-free and always sees a fully written element
+ * Null elements are not allowed, since an empty slot marks an element that is not written yet
+ * @param <T> Type of elements stored in array
+ */
+public class AppendOnlyConcurrentArray<T> implements DynamicArrayADT<T> {
+
+    private static final int FIRST_SEGMENT_BITS = 4; //first segment holds 16 elements
+    private static final int FIRST_SEGMENT_SIZE = 1 << FIRST_SEGMENT_BITS;
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT_SIZE;
+
+    private final AtomicReferenceArray<AtomicReferenceArray<T>> segments; //segment k holds 16 << k slots
+    private final AtomicInteger claimed = new AtomicInteger(); //slots handed out to producers
+    private final AtomicInteger published = new AtomicInteger(); //length of fully written prefix
+
+    /**
+     * Constructor makes a new, empty AppendOnlyConcurrentArray
+     */
+    public AppendOnlyConcurrentArray() {
+        this.segments = new AtomicReferenceArray<>(Integer.SIZE - FIRST_SEGMENT_BITS);
+    }
+
+    /**
+     * Appends specified element to end of array without locking
+     * @param value Element to be appended
+     * @return Index the element was stored at
+     * @throws NullPointerException if value is null
+     * @throws IllegalStateException if the array is full
+     */
+    public int add(T value) {
+        if (value == null) {
+            throw new NullPointerException("AppendOnlyConcurrentArray cannot store null elements.");
+        }
+        int index = claimed.getAndIncrement();
+        if (index < 0 || index >= MAX_SIZE) {
+            claimed.decrementAndGet();
+            throw new IllegalStateException("AppendOnlyConcurrentArray is full.");
+        }
+        segmentFor(index, true).set(offsetOf(index), value);
+        publish();
+        return index;
+    }
+
+    /**
+     * Returns element at specified position in array; wait-free
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is negative or not yet published
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return segmentFor(index, false).get(offsetOf(index));
+    }
+
+    /**
+     * Replaces a published element with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is negative or not yet published
+     * @throws NullPointerException if newElement is null
+     */
+    public T set(int index, T newElement) {
+        if (newElement == null) {
+            throw new NullPointerException("AppendOnlyConcurrentArray cannot store null elements.");
+        }
+        checkIndex(index);
+        return segmentFor(index, false).getAndSet(offsetOf(index), newElement);
+    }
+
+    /**
+     * Returns number of published elements, i.e. the length of the fully written prefix
+     * @return Number of elements readable with get
+     */
+    public int size() {
+        return published.get();
+    }
+
+    /**
+     * Copies the currently published elements into a new DynamicArray
+     * @return New DynamicArray holding the first size() elements
+     */
+    public DynamicArray<T> toDynamicArray() {
+        int count = size();
+        DynamicArray<T> result = new DynamicArray<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(segmentFor(i, false).get(offsetOf(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Private utility that advances the published prefix over every slot that has been written
+     * Any producer may advance it past slots written by others, so a slow producer only delays
+     * visibility of later elements until it finishes its own write
+     */
+    private void publish() {
+        int current = published.get();
+        while (current < claimed.get() && isWritten(current)) {
+            if (published.compareAndSet(current, current + 1)) {
+                current++;
+            } else {
+                current = published.get();
+            }
+        }
+    }
+
+    /**
+     * Private utility that checks whether a claimed slot has been written yet
+     * @param index Slot index
+     * @return true if the slot holds an element
+     */
+    private boolean isWritten(int index) {
+        AtomicReferenceArray<T> segment = segments.get(segmentOf(index));
+        return segment != null && segment.get(offsetOf(index)) != null;
+    }
+
+    /**
+     * Private utility that checks an index is published
+     * @param index Index to check
+     * @throws IndexOutOfBoundsException if index is negative or not yet published
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= published.get()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+    }
+
+    /**
+     * Private utility that finds the segment holding an index, optionally allocating it
+     * Racing producers allocate with compare-and-set, so exactly one segment is installed
+     * @param index Element index
+     * @param create true to allocate the segment if it does not exist yet
+     * @return Segment holding the index
+     */
+    private AtomicReferenceArray<T> segmentFor(int index, boolean create) {
+        int k = segmentOf(index);
+        AtomicReferenceArray<T> segment = segments.get(k);
+        if (segment == null && create) {
+            segments.compareAndSet(k, null, new AtomicReferenceArray<>(FIRST_SEGMENT_SIZE << k));
+            segment = segments.get(k);
+        }
+        return segment;
+    }
+
+    /**
+     * Private utility that maps an element index to its segment number
+     * Segment k starts at index 16 * (2^k - 1), so the segment is read from the highest set bit of index + 16
+     * @param index Element index
+     * @return Segment number
+     */
+    private static int segmentOf(int index) {
+        return (Integer.SIZE - 1 - Integer.numberOfLeadingZeros(index + FIRST_SEGMENT_SIZE)) - FIRST_SEGMENT_BITS;
+    }
+
+    /**
+     * Private utility that maps an element index to its slot within its segment
+     * @param index Element index
+     * @return Offset within segment
+     */
+    private static int offsetOf(int index) {
+        int shifted = index + FIRST_SEGMENT_SIZE;
+        return shifted - Integer.highestOneBit(shifted);
+    }
+}
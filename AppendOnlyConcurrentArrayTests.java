@@ -0,0 +1,110 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class AppendOnlyConcurrentArrayTests {
+
+    @Test
+    public void testAddGetSet() {
+        AppendOnlyConcurrentArray<Integer> numbers = new AppendOnlyConcurrentArray<>();
+        assertEquals(0, numbers.size());
+        //crosses several segment boundaries (16, 48, 112, ...)
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, numbers.add(i));
+        }
+        assertEquals(1000, numbers.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i), numbers.get(i));
+        }
+        assertEquals(Integer.valueOf(47), numbers.set(47, -1));
+        assertEquals(Integer.valueOf(-1), numbers.get(47));
+        DynamicArray<Integer> copy = numbers.toDynamicArray();
+        assertEquals(1000, copy.size());
+        assertEquals(Integer.valueOf(-1), copy.get(47));
+        assertEquals(Integer.valueOf(999), copy.get(999));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetPastSize() {
+        AppendOnlyConcurrentArray<Integer> numbers = new AppendOnlyConcurrentArray<>();
+        numbers.add(1);
+        numbers.get(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetNegativeIndex() {
+        new AppendOnlyConcurrentArray<Integer>().get(-1);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        new AppendOnlyConcurrentArray<Integer>().add(null);
+    }
+
+    /**
+     * Stress test: several producers append distinct values while readers check that every
+     * index below size() is readable; afterwards every value must appear exactly once
+     */
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        AppendOnlyConcurrentArray<Integer> numbers = new AppendOnlyConcurrentArray<>();
+        int producers = 4;
+        int perProducer = 50_000;
+        AtomicBoolean done = new AtomicBoolean(false);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 2; t++) {
+            final int seed = t;
+            readers.add(new Thread(() -> {
+                Random random = new Random(seed);
+                try {
+                    while (!done.get()) {
+                        int size = numbers.size();
+                        if (size > 0) {
+                            assertNotNull(numbers.get(random.nextInt(size)));
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < producers; t++) {
+            final int base = t * perProducer;
+            writers.add(new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    numbers.add(base + i);
+                }
+            }));
+        }
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        for (Thread writer : writers) {
+            writer.start();
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(String.valueOf(failure.get()), failure.get());
+        assertEquals(producers * perProducer, numbers.size());
+
+        boolean[] seen = new boolean[producers * perProducer];
+        for (int i = 0; i < numbers.size(); i++) {
+            int value = numbers.get(i);
+            assertFalse("Value " + value + " appears twice", seen[value]);
+            seen[value] = true;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+import static org.junit.Assert.*;
+
+/**
+ * Assertions shared by the test classes of arrays that hold characters
+ */
+public final class ArrayAssert {
+
+    /**
+     * Private constructor, since this class only has static methods
+     */
+    private ArrayAssert() {
+    }
+
+    /**
+     * Checks that an array holds exactly the characters of a string, in order
+     * @param arr Array to check
+     * @param s Expected characters
+     */
+    public static void compareToString(DynamicArrayADT<Character> arr, String s) {
+        assertEquals("["+s+"] Array lengths are equal", s.length(), arr.size());
+        for (int i = 0; i < arr.size(); i++) {
+            assertEquals("["+s+"] Elements are equal at index " + i, s.charAt(i), arr.get(i).charValue());
+        }
+    }
+}
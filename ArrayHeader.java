@@ -0,0 +1,94 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed 32-byte header written in front of every saved array
+ * Layout (little-endian): magic "DYNA" (4 bytes), format version (2), element width (2),
+ * element count (8), codec name in ASCII padded with zeros (16)
+ * The encoded elements follow directly after the header
+ */
+final class ArrayHeader {
+
+    static final int BYTES = 32;
+    static final short VERSION = 1;
+    private static final int MAGIC = 0x414E5944; //"DYNA" when read as little-endian bytes
+    private static final int NAME_BYTES = 16;
+
+    final String codecName;
+    final int width;
+    final long size;
+
+    /**
+     * Constructor describes an array of size elements encoded with codec
+     * @param codec Codec the elements are encoded with
+     * @param size Number of elements
+     * @throws IllegalArgumentException if the codec's name is not ASCII, is longer than 16 bytes, or its width does not fit in 2 bytes
+     */
+    ArrayHeader(ElementCodec<?> codec, long size) {
+        this(codec.name(), codec.width(), size);
+        if (!StandardCharsets.US_ASCII.newEncoder().canEncode(codecName) || codecName.length() > NAME_BYTES) {
+            throw new IllegalArgumentException("Codec name must be at most " + NAME_BYTES + " ASCII characters.");
+        }
+        if (width <= 0 || width > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Codec width must be between 1 and " + Short.MAX_VALUE + " bytes.");
+        }
+    }
+
+    private ArrayHeader(String codecName, int width, long size) {
+        this.codecName = codecName;
+        this.width = width;
+        this.size = size;
+    }
+
+    /**
+     * Writes the header at the buffer's position and advances the position by BYTES
+     * @param target Little-endian buffer with at least BYTES bytes remaining
+     */
+    void write(ByteBuffer target) {
+        byte[] name = new byte[NAME_BYTES];
+        byte[] encoded = codecName.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(encoded, 0, name, 0, encoded.length);
+        target.putInt(MAGIC).putShort(VERSION).putShort((short) width).putLong(size).put(name);
+    }
+
+    /**
+     * Reads a header at the buffer's position and advances the position by BYTES
+     * @param source Little-endian buffer with at least BYTES bytes remaining
+     * @return Header that was read
+     * @throws IOException if the bytes are not a header this version understands
+     */
+    static ArrayHeader read(ByteBuffer source) throws IOException {
+        if (source.getInt() != MAGIC) {
+            throw new IOException("Data does not start with a DynamicArray header.");
+        }
+        short version = source.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported DynamicArray format version " + version + ".");
+        }
+        int width = source.getShort();
+        long size = source.getLong();
+        byte[] name = new byte[NAME_BYTES];
+        source.get(name);
+        int length = 0;
+        while (length < NAME_BYTES && name[length] != 0) {
+            length++;
+        }
+        if (width <= 0 || size < 0) {
+            throw new IOException("Corrupt DynamicArray header.");
+        }
+        return new ArrayHeader(new String(name, 0, length, StandardCharsets.US_ASCII), width, size);
+    }
+
+    /**
+     * Checks that the elements described by this header can be decoded with a codec
+     * @param codec Codec the caller wants to decode with
+     * @throws IllegalArgumentException if the codec's name or width differs from the header's
+     */
+    void checkCodec(ElementCodec<?> codec) {
+        if (!codecName.equals(codec.name()) || width != codec.width()) {
+            throw new IllegalArgumentException("Data holds \"" + codecName + "\" elements of " + width
+                    + " bytes, which cannot be read with codec \"" + codec.name() + "\".");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Receives events from a DynamicArray that has instrumentation enabled with setMetrics
+ * Arrays without metrics skip every call behind a single null check, so instrumentation costs
+ * next to nothing when it is off
+ * One instance may be shared by many arrays (whole-array operations pass it on to their results),
+ * so implementations should be thread-safe
+ */
+public interface ArrayMetrics {
+
+    /**
+     * Called once when these metrics are attached to an array
+     * @param capacity Capacity of the array at that moment
+     */
+    public void attached(int capacity);
+
+    /**
+     * Called when an array moves its elements into a new backing array, to grow or to shrink
+     * @param oldCapacity Capacity before the resize
+     * @param newCapacity Capacity after the resize
+     * @param elementsCopied Number of elements copied into the new backing array
+     */
+    public void resized(int oldCapacity, int newCapacity, int elementsCopied);
+
+    /**
+     * Called when an array moves elements within its backing array to open or close slots
+     * @param elementsMoved Number of elements moved
+     */
+    public void shifted(int elementsMoved);
+
+    /**
+     * Called when a whole-array operation or the copy constructor creates a new array, and when
+     * the first write after DynamicArray.snapshot() copies the backing array (operation "snapshot")
+     * @param operation Name of the operation, e.g. "append"
+     * @param elementsCopied Number of elements copied into the new array, which is also its capacity
+     */
+    public void allocated(String operation, int elementsCopied);
+}
@@ -0,0 +1,167 @@
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * ArrayMetrics implementation that keeps running totals, and can publish them as a JMX MXBean
+ * Counters are LongAdders, so arrays on many threads can share one recorder without contending
+ * Typical use: attach one recorder per subsystem, register it under a name, and compare the
+ * subsystems' copy and allocation counts to find the arrays that cost the most
+ */
+public class ArrayMetricsRecorder implements ArrayMetrics, ArrayMetricsRecorderMXBean {
+
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder elementsCopied = new LongAdder();
+    private final LongAdder wholeArrayAllocations = new LongAdder();
+    private final LongAdder slotsAllocated = new LongAdder();
+    private final LongAccumulator peakCapacity = new LongAccumulator(Math::max, 0);
+    private final Map<String, LongAdder> allocationsByOperation = new ConcurrentHashMap<>();
+    private ObjectName registeredName; //set while registered with the platform MBean server
+
+    /**
+     * Records the capacity of a newly instrumented array
+     * @param capacity Capacity of the array
+     */
+    public void attached(int capacity) {
+        peakCapacity.accumulate(capacity);
+    }
+
+    /**
+     * Records a resize
+     * @param oldCapacity Capacity before the resize
+     * @param newCapacity Capacity after the resize
+     * @param elementsCopied Number of elements copied
+     */
+    public void resized(int oldCapacity, int newCapacity, int elementsCopied) {
+        resizes.increment();
+        this.elementsCopied.add(elementsCopied);
+        slotsAllocated.add(newCapacity);
+        peakCapacity.accumulate(newCapacity);
+    }
+
+    /**
+     * Records elements moved within a backing array
+     * @param elementsMoved Number of elements moved
+     */
+    public void shifted(int elementsMoved) {
+        elementsCopied.add(elementsMoved);
+    }
+
+    /**
+     * Records an array created by a whole-array operation
+     * @param operation Name of the operation
+     * @param elementsCopied Number of elements copied into the new array
+     */
+    public void allocated(String operation, int elementsCopied) {
+        wholeArrayAllocations.increment();
+        this.elementsCopied.add(elementsCopied);
+        slotsAllocated.add(elementsCopied);
+        peakCapacity.accumulate(elementsCopied);
+        allocationsByOperation.computeIfAbsent(operation, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns number of resizes recorded
+     * @return Resize count
+     */
+    public long getResizeCount() {
+        return resizes.sum();
+    }
+
+    /**
+     * Returns number of elements copied by resizes, shifts and whole-array operations
+     * @return Elements copied
+     */
+    public long getElementsCopied() {
+        return elementsCopied.sum();
+    }
+
+    /**
+     * Returns number of arrays created by whole-array operations
+     * @return Whole-array allocations
+     */
+    public long getWholeArrayAllocations() {
+        return wholeArrayAllocations.sum();
+    }
+
+    /**
+     * Returns total slots allocated by resizes and whole-array operations
+     * @return Slots allocated
+     */
+    public long getSlotsAllocated() {
+        return slotsAllocated.sum();
+    }
+
+    /**
+     * Returns the largest capacity recorded
+     * @return Peak capacity
+     */
+    public long getPeakCapacity() {
+        return peakCapacity.get();
+    }
+
+    /**
+     * Returns a snapshot of whole-array allocation counts per operation
+     * @return Map from operation name to count, sorted by name
+     */
+    public Map<String, Long> getAllocationsByOperation() {
+        Map<String, Long> result = new TreeMap<>();
+        allocationsByOperation.forEach((operation, count) -> result.put(operation, count.sum()));
+        return result;
+    }
+
+    /**
+     * Sets every counter back to zero
+     */
+    public void reset() {
+        resizes.reset();
+        elementsCopied.reset();
+        wholeArrayAllocations.reset();
+        slotsAllocated.reset();
+        peakCapacity.reset();
+        allocationsByOperation.clear();
+    }
+
+    /**
+     * Publishes this recorder on the platform MBean server as DynamicArray:type=ArrayMetrics,name=(name)
+     * @param name Name distinguishing this recorder from others, e.g. the subsystem it watches
+     * @return Name the recorder was registered under
+     * @throws JMException if a recorder with that name is already registered
+     * @throws IllegalStateException if this recorder is already registered
+     */
+    public synchronized ObjectName register(String name) throws JMException {
+        if (registeredName != null) {
+            throw new IllegalStateException("Recorder is already registered as " + registeredName + ".");
+        }
+        ObjectName objectName = new ObjectName("DynamicArray:type=ArrayMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        registeredName = objectName;
+        return objectName;
+    }
+
+    /**
+     * Removes this recorder from the platform MBean server; does nothing if it is not registered
+     * @throws JMException if the MBean server refuses
+     */
+    public synchronized void unregister() throws JMException {
+        if (registeredName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+            registeredName = null;
+        }
+    }
+
+    /**
+     * Returns a one-line summary of the counters
+     * @return Summary string
+     */
+    public String toString() {
+        return "ArrayMetrics[resizes=" + getResizeCount() + ", elementsCopied=" + getElementsCopied()
+                + ", wholeArrayAllocations=" + getWholeArrayAllocations() + ", slotsAllocated=" + getSlotsAllocated()
+                + ", peakCapacity=" + getPeakCapacity() + "]";
+    }
+}
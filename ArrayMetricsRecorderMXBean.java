@@ -0,0 +1,48 @@
+import java.util.Map;
+
+/**
+ * Management interface of ArrayMetricsRecorder, readable with jconsole or any other JMX client
+ */
+public interface ArrayMetricsRecorderMXBean {
+
+    /**
+     * Returns number of times an array moved to a new backing array
+     * @return Resize count
+     */
+    public long getResizeCount();
+
+    /**
+     * Returns number of elements copied by resizes, shifts and whole-array operations together
+     * @return Elements copied
+     */
+    public long getElementsCopied();
+
+    /**
+     * Returns number of arrays created by whole-array operations and copy constructors
+     * @return Whole-array allocations
+     */
+    public long getWholeArrayAllocations();
+
+    /**
+     * Returns total number of slots allocated by resizes and whole-array operations
+     * @return Slots allocated
+     */
+    public long getSlotsAllocated();
+
+    /**
+     * Returns the largest capacity any recorded array has had
+     * @return Peak capacity
+     */
+    public long getPeakCapacity();
+
+    /**
+     * Returns the number of whole-array allocations made by each operation
+     * @return Map from operation name to allocation count
+     */
+    public Map<String, Long> getAllocationsByOperation();
+
+    /**
+     * Sets every counter back to zero
+     */
+    public void reset();
+}
@@ -0,0 +1,238 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Dynamic array of char values stored unboxed in a char[]
+ * Each element takes 2 bytes, instead of a reference plus a separate Character object
+ * Use the char accessors (getChar, setChar, ...) in hot loops to avoid boxing entirely
+ */
+public class CharDynamicArray extends PrimitiveDynamicArray<Character, CharDynamicArray> {
+
+    private char[] array;
+
+    /**
+     * Constructor makes a new CharDynamicArray with specified initial capacity
+     * @param length Initial capacity of array
+     * @throws IllegalArgumentException if length is negative
+     */
+    public CharDynamicArray(int length) {
+        this(length, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructor makes a new CharDynamicArray with specified initial capacity and growth policy
+     * @param length Initial capacity of array
+     * @param growthPolicy Policy used to pick a new capacity when the array is full
+     * @throws IllegalArgumentException if length is negative or growthPolicy is null
+     */
+    public CharDynamicArray(int length, GrowthPolicy growthPolicy) {
+        super(growthPolicy);
+        if (length < 0) {
+            throw new IllegalArgumentException("Allocated space for array cannot be negative.");
+        }
+        this.array = new char[length];
+    }
+
+    /**
+     * Creates a CharDynamicArray holding a copy of the given values
+     * @param values Values to store, in order
+     * @return New array containing values
+     */
+    public static CharDynamicArray of(char... values) {
+        CharDynamicArray result = new CharDynamicArray(values.length);
+        System.arraycopy(values, 0, result.array, 0, values.length);
+        result.size = values.length;
+        return result;
+    }
+
+    /**
+     * Returns char element at specified position in array without boxing
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public char getChar(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Replaces char element at specified position without boxing
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public char setChar(int index, char newElement) {
+        checkIndex(index);
+        char oldValue = array[index];
+        array[index] = newElement;
+        return oldValue;
+    }
+
+    /**
+     * Inserts char element at specified index without boxing
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public void addChar(int index, char value) {
+        openSlot(index);
+        array[index] = value;
+    }
+
+    /**
+     * Appends char element to end of array in amortized O(1) time without boxing
+     * @param value Element to be appended
+     */
+    public void addChar(char value) {
+        addChar(size, value);
+    }
+
+    /**
+     * Removes and returns char element at specified index without boxing
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public char removeChar(int index) {
+        checkIndex(index);
+        char removedElement = array[index];
+        closeSlot(index);
+        return removedElement;
+    }
+
+    /**
+     * Returns a copy of the stored elements as a plain char[]
+     * @return New array of length size() holding the elements in order
+     */
+    public char[] toCharArray() {
+        char[] result = new char[size];
+        System.arraycopy(array, 0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * Returns element at specified position in array, boxed
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Character get(int index) {
+        return getChar(index);
+    }
+
+    /**
+     * Replaces element at specified position with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index, boxed
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NullPointerException if newElement is null
+     */
+    public Character set(int index, Character newElement) {
+        return setChar(index, newElement);
+    }
+
+    /**
+     * Inserts specified element at specified index
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws NullPointerException if value is null
+     */
+    public void add(int index, Character value) {
+        addChar(index, value);
+    }
+
+    /**
+     * Removes and returns element at specified index
+     * @param index Index of element to remove
+     * @return Element previously at specified index, boxed
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public Character remove(int index) {
+        return removeChar(index);
+    }
+
+    /**
+     * Returns number of elements the array can hold before it has to grow
+     * @return Allocated capacity of array
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Returns width of one char element
+     * @return Character.BYTES
+     */
+    protected int elementBytes() {
+        return Character.BYTES;
+    }
+
+    /**
+     * Returns the codec for char elements
+     * @return ElementCodec.CHAR
+     */
+    public ElementCodec<Character> codec() {
+        return ElementCodec.CHAR;
+    }
+
+    /**
+     * Copies a range of char elements into a buffer through a CharBuffer view
+     * @param target Buffer with room for (toIndex - fromIndex) elements
+     * @param fromIndex Start index of range to copy (included)
+     * @param toIndex End index of range to copy (not included)
+     */
+    protected void putElements(ByteBuffer target, int fromIndex, int toIndex) {
+        target.asCharBuffer().put(array, fromIndex, toIndex - fromIndex);
+        target.position(target.position() + (toIndex - fromIndex) * Character.BYTES);
+    }
+
+    /**
+     * Appends char elements read from a buffer through a CharBuffer view
+     * @param source Buffer holding at least count encoded elements
+     * @param count Number of elements to read
+     */
+    protected void getElements(ByteBuffer source, int count) {
+        ensureCapacity(size + count);
+        source.asCharBuffer().get(array, size, count);
+        source.position(source.position() + count * Character.BYTES);
+        size += count;
+    }
+
+    /**
+     * Returns the backing char[]
+     * @return Backing array
+     */
+    protected Object storage() {
+        return array;
+    }
+
+    /**
+     * Replaces the backing char[]
+     * @param storage New backing array
+     */
+    protected void setStorage(Object storage) {
+        this.array = (char[]) storage;
+    }
+
+    /**
+     * Allocates a new char[]
+     * @param len Length of array to allocate
+     * @return New array with given length
+     */
+    protected Object allocateStorage(int len) {
+        return new char[len];
+    }
+
+    /**
+     * Creates an empty CharDynamicArray for the whole-array operations
+     * @param capacity Initial capacity of new array
+     * @param growthPolicy Growth policy of new array
+     * @return New empty array
+     */
+    protected CharDynamicArray newArray(int capacity, GrowthPolicy growthPolicy) {
+        return new CharDynamicArray(capacity, growthPolicy);
+    }
+}
@@ -0,0 +1,570 @@
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Dynamic array for very large arrays that are edited in the middle
+ * Elements are stored in leaf chunks of at most 64 elements, and the chunks are the leaves of a
+ * size-annotated AVL tree (a rope), so finding an index walks O(log n) nodes
+ * get, set, add(index), remove(index), append, insert, splitPrefix, splitSuffix, delete and extract
+ * all run in O(log n) time; within a chunk, elements sit next to each other, so iteration scans
+ * whole chunks at a time
+ * Tree nodes are never modified once built: an edit copies the one chunk and the O(log n) nodes on
+ * its path, so whole-array operations can share untouched subtrees with their inputs safely
+ * @param <T> Type of elements stored in array
+ */
+public class ChunkedDynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperationsADT<T, ChunkedDynamicArray<T>>, Iterable<T> {
+
+    static final int CHUNK_CAPACITY = 64; //largest number of elements in one leaf chunk
+
+    private Node root; //null for the empty array
+
+    /**
+     * Constructor makes a new, empty ChunkedDynamicArray
+     */
+    public ChunkedDynamicArray() {
+        this.root = null;
+    }
+
+    /**
+     * Private constructor wraps a tree as an array
+     * @param root Root of tree holding the elements in order
+     */
+    private ChunkedDynamicArray(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Creates a ChunkedDynamicArray holding the elements of another array, in O(n) time
+     * Chunks are filled completely, and the tree over them is perfectly balanced
+     * @param <T> Type of elements stored in array
+     * @param source Array to copy elements from
+     * @return New ChunkedDynamicArray with the same elements as source
+     */
+    public static <T> ChunkedDynamicArray<T> of(DynamicArrayADT<T> source) {
+        int chunks = (source.size() + CHUNK_CAPACITY - 1) / CHUNK_CAPACITY;
+        Node[] leaves = new Node[chunks];
+        for (int c = 0; c < chunks; c++) {
+            int from = c * CHUNK_CAPACITY;
+            Object[] elements = new Object[Math.min(CHUNK_CAPACITY, source.size() - from)];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = source.get(from + i);
+            }
+            leaves[c] = new Leaf(elements);
+        }
+        return new ChunkedDynamicArray<>(build(leaves, 0, chunks));
+    }
+
+    /**
+     * Returns element at specified position in array in O(log n) time
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index);
+        Node node = root;
+        while (node instanceof Branch) {
+            Branch branch = (Branch) node;
+            if (index < branch.left.size) {
+                node = branch.left;
+            } else {
+                index -= branch.left.size;
+                node = branch.right;
+            }
+        }
+        return (T) ((Leaf) node).elements[index];
+    }
+
+    /**
+     * Replaces element at specified position with user-given element in O(log n) time
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T set(int index, T newElement) {
+        T oldValue = get(index);
+        root = replace(root, index, newElement);
+        return oldValue;
+    }
+
+    /**
+     * Returns number of elements in array
+     * @return Number of elements in array
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Appends specified element to end of array in O(log n) time
+     * @param value Element to be appended
+     */
+    public void add(T value) {
+        add(size(), value);
+    }
+
+    /**
+     * Inserts specified element at specified index in O(log n) time
+     * A full chunk is split into two half-full chunks
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public void add(int index, T value) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        root = root == null ? new Leaf(new Object[] {value}) : insertAt(root, index, value);
+    }
+
+    /**
+     * Removes and returns element at specified index in O(log n) time
+     * Neighbouring chunks that fit in one chunk together are merged
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public T remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        T removedElement = get(index);
+        root = removeAt(root, index);
+        return removedElement;
+    }
+
+    /**
+     * Copies the elements into a new DynamicArray, one chunk at a time
+     * @return New DynamicArray with the same elements
+     */
+    public DynamicArray<T> toDynamicArray() {
+        DynamicArray<T> result = new DynamicArray<>(size());
+        forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Returns an iterator over the elements in order, as of the moment iterator() is called
+     * Later edits to this array replace nodes rather than changing them, so they do not affect the iterator
+     * @return Iterator over elements from index 0 to size() - 1
+     */
+    public Iterator<T> iterator() {
+        return new ChunkIterator(root);
+    }
+
+    /**
+     * Calls action on every element in order, scanning each chunk directly
+     * @param action Action to perform on each element
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        ChunkIterator chunks = new ChunkIterator(root);
+        for (Leaf leaf = chunks.leaf; leaf != null; leaf = chunks.nextLeaf()) {
+            for (Object element : leaf.elements) {
+                action.accept((T) element);
+            }
+        }
+    }
+
+    /**
+     * Appends all elements from another array in O(log n) time, sharing both arrays' chunks
+     * @param other Array containing elements to be appended
+     * @return New ChunkedDynamicArray with all elements from both arrays
+     */
+    public ChunkedDynamicArray<T> append(ChunkedDynamicArray<T> other) {
+        return new ChunkedDynamicArray<>(concat(this.root, other.root));
+    }
+
+    /**
+     * Inserts all elements from another array at specified index in O(log n) time
+     * @param index Index where the other array is inserted
+     * @param other Array with elements to be inserted
+     * @return New ChunkedDynamicArray with combined elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public ChunkedDynamicArray<T> insert(int index, ChunkedDynamicArray<T> other) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        Node[] parts = split(root, index);
+        return new ChunkedDynamicArray<>(concat(concat(parts[0], other.root), parts[1]));
+    }
+
+    /**
+     * Creates new array containing elements from specified index to end in O(log n) time
+     * @param index Starting index for suffix (included)
+     * @return New ChunkedDynamicArray that has the suffix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public ChunkedDynamicArray<T> splitSuffix(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return new ChunkedDynamicArray<>(split(root, index)[1]);
+    }
+
+    /**
+     * Creates new array containing elements from start to specified index in O(log n) time
+     * @param index Ending index for prefix (not included)
+     * @return New ChunkedDynamicArray that has the prefix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public ChunkedDynamicArray<T> splitPrefix(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return new ChunkedDynamicArray<>(split(root, index)[0]);
+    }
+
+    /**
+     * Creates new array with elements in specified range removed in O(log n) time
+     * @param fromIndex Start index of range of elements to be removed (included)
+     * @param toIndex End index of range of elements to be removed (not included)
+     * @return New ChunkedDynamicArray with range removed
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public ChunkedDynamicArray<T> delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        Node[] tail = split(root, toIndex);
+        return new ChunkedDynamicArray<>(concat(split(tail[0], fromIndex)[0], tail[1]));
+    }
+
+    /**
+     * Creates new array with elements in specified range in O(log n) time
+     * @param fromIndex Start index of extracted range (included)
+     * @param toIndex End index of extracted range (not included)
+     * @return New ChunkedDynamicArray with extracted elements
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public ChunkedDynamicArray<T> extract(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        return new ChunkedDynamicArray<>(split(split(root, toIndex)[0], fromIndex)[1]);
+    }
+
+    /**
+     * Private utility that checks an index refers to a stored element
+     * @param index Index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+    }
+
+    /**
+     * Private utility that checks a [fromIndex, toIndex) range
+     * @param fromIndex Start index (included)
+     * @param toIndex End index (not included)
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size() || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+    }
+
+    /**
+     * Iterates over the leaf chunks of a tree in order, keeping the unvisited right subtrees on a stack
+     */
+    private final class ChunkIterator implements Iterator<T> {
+        private final Deque<Node> pending = new ArrayDeque<>();
+        private Leaf leaf; //chunk being read, null when finished
+        private int position; //next index within leaf
+
+        ChunkIterator(Node root) {
+            if (root != null) {
+                pending.push(root);
+            }
+            leaf = nextLeaf();
+        }
+
+        /**
+         * Returns the next chunk in order, or null after the last one
+         */
+        Leaf nextLeaf() {
+            if (pending.isEmpty()) {
+                return null;
+            }
+            Node node = pending.pop();
+            while (node instanceof Branch) {
+                pending.push(((Branch) node).right);
+                node = ((Branch) node).left;
+            }
+            return (Leaf) node;
+        }
+
+        public boolean hasNext() {
+            return leaf != null;
+        }
+
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (leaf == null) {
+                throw new NoSuchElementException();
+            }
+            T value = (T) leaf.elements[position++];
+            if (position == leaf.elements.length) {
+                leaf = nextLeaf();
+                position = 0;
+            }
+            return value;
+        }
+    }
+
+    // ~*~*~*~*~ Tree Utilities Below ~*~*~*~*~
+
+    /**
+     * Immutable tree node: either a leaf chunk or a branch over two subtrees
+     */
+    private abstract static class Node {
+        final int size; //number of elements under this node
+        final int height; //1 for a leaf
+
+        Node(int size, int height) {
+            this.size = size;
+            this.height = height;
+        }
+    }
+
+    /**
+     * Leaf chunk whose array holds exactly its elements, between 1 and CHUNK_CAPACITY of them
+     */
+    private static final class Leaf extends Node {
+        final Object[] elements;
+
+        Leaf(Object[] elements) {
+            super(elements.length, 1);
+            this.elements = elements;
+        }
+    }
+
+    /**
+     * Branch whose subtree heights differ by at most one
+     */
+    private static final class Branch extends Node {
+        final Node left;
+        final Node right;
+
+        Branch(Node left, Node right) {
+            super(left.size + right.size, Math.max(left.height, right.height) + 1);
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Returns number of elements in a tree
+     * @param node Root of tree (may be null)
+     * @return Number of elements in tree
+     */
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns height of a tree
+     * @param node Root of tree (may be null)
+     * @return Height of tree, 0 if empty
+     */
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Builds a perfectly balanced tree over a range of leaves
+     * @param leaves Leaves in order
+     * @param from Start index (included)
+     * @param to End index (not included)
+     * @return Root of new tree, or null if range is empty
+     */
+    private static Node build(Node[] leaves, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        if (to - from == 1) {
+            return leaves[from];
+        }
+        int mid = (from + to) >>> 1;
+        return new Branch(build(leaves, from, mid), build(leaves, mid, to));
+    }
+
+    /**
+     * Copies the path to one element, replacing it and sharing everything else
+     * @param node Root of tree
+     * @param index Index of element within this tree
+     * @param value New element
+     * @return Root of new tree
+     */
+    private static Node replace(Node node, int index, Object value) {
+        if (node instanceof Leaf) {
+            Object[] elements = ((Leaf) node).elements.clone();
+            elements[index] = value;
+            return new Leaf(elements);
+        }
+        Branch branch = (Branch) node;
+        if (index < branch.left.size) {
+            return new Branch(replace(branch.left, index, value), branch.right);
+        }
+        return new Branch(branch.left, replace(branch.right, index - branch.left.size, value));
+    }
+
+    /**
+     * Copies the path to an index and inserts an element there, splitting the chunk if it is full
+     * @param node Root of non-empty tree
+     * @param index Index within this tree where value goes
+     * @param value Element to insert
+     * @return Root of new, balanced tree
+     */
+    private static Node insertAt(Node node, int index, Object value) {
+        if (node instanceof Leaf) {
+            Object[] old = ((Leaf) node).elements;
+            Object[] elements = new Object[old.length + 1];
+            System.arraycopy(old, 0, elements, 0, index);
+            elements[index] = value;
+            System.arraycopy(old, index, elements, index + 1, old.length - index);
+            if (elements.length <= CHUNK_CAPACITY) {
+                return new Leaf(elements);
+            }
+            int half = elements.length / 2;
+            return new Branch(new Leaf(copyOf(elements, 0, half)), new Leaf(copyOf(elements, half, elements.length)));
+        }
+        Branch branch = (Branch) node;
+        if (index <= branch.left.size) {
+            return balance(insertAt(branch.left, index, value), branch.right);
+        }
+        return balance(branch.left, insertAt(branch.right, index - branch.left.size, value));
+    }
+
+    /**
+     * Copies the path to an element and removes it, dropping empty chunks and merging small neighbours
+     * @param node Root of tree
+     * @param index Index of element within this tree
+     * @return Root of new, balanced tree, or null if it became empty
+     */
+    private static Node removeAt(Node node, int index) {
+        if (node instanceof Leaf) {
+            Object[] old = ((Leaf) node).elements;
+            if (old.length == 1) {
+                return null;
+            }
+            Object[] elements = new Object[old.length - 1];
+            System.arraycopy(old, 0, elements, 0, index);
+            System.arraycopy(old, index + 1, elements, index, old.length - index - 1);
+            return new Leaf(elements);
+        }
+        Branch branch = (Branch) node;
+        Node left = branch.left;
+        Node right = branch.right;
+        if (index < left.size) {
+            left = removeAt(left, index);
+        } else {
+            right = removeAt(right, index - left.size);
+        }
+        return concat(left, right);
+    }
+
+    /**
+     * Concatenates two trees in time proportional to their height difference
+     * Two leaves that fit in one chunk together are merged, so chunks do not shrink to single elements
+     * @param left Tree of first elements (may be null)
+     * @param right Tree of last elements (may be null)
+     * @return Root of balanced tree holding left then right
+     */
+    private static Node concat(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left instanceof Leaf && right instanceof Leaf && left.size + right.size <= CHUNK_CAPACITY) {
+            Object[] elements = new Object[left.size + right.size];
+            System.arraycopy(((Leaf) left).elements, 0, elements, 0, left.size);
+            System.arraycopy(((Leaf) right).elements, 0, elements, left.size, right.size);
+            return new Leaf(elements);
+        }
+        if (left.height > right.height + 1) {
+            Branch branch = (Branch) left;
+            return balance(branch.left, concat(branch.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Branch branch = (Branch) right;
+            return balance(concat(left, branch.left), branch.right);
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * Splits a tree into its first index elements and the rest, in O(log n) time
+     * @param node Root of tree (may be null)
+     * @param index Number of elements that go into the left tree
+     * @return Two-element array: tree before index, tree from index on (either may be null)
+     */
+    private static Node[] split(Node node, int index) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (index == 0) {
+            return new Node[] {null, node};
+        }
+        if (index == node.size) {
+            return new Node[] {node, null};
+        }
+        if (node instanceof Leaf) {
+            Object[] elements = ((Leaf) node).elements;
+            return new Node[] {new Leaf(copyOf(elements, 0, index)), new Leaf(copyOf(elements, index, elements.length))};
+        }
+        Branch branch = (Branch) node;
+        if (index <= branch.left.size) {
+            Node[] parts = split(branch.left, index);
+            return new Node[] {parts[0], concat(parts[1], branch.right)};
+        }
+        Node[] parts = split(branch.right, index - branch.left.size);
+        return new Node[] {concat(branch.left, parts[0]), parts[1]};
+    }
+
+    /**
+     * Builds a branch over two non-null subtrees whose heights may differ by two, rotating to restore AVL balance
+     * @param left Tree of first elements
+     * @param right Tree of last elements
+     * @return Root of balanced tree holding left then right
+     */
+    private static Node balance(Node left, Node right) {
+        if (left.height > right.height + 1) {
+            Branch l = (Branch) left;
+            if (l.left.height >= l.right.height) {
+                return new Branch(l.left, new Branch(l.right, right));
+            }
+            Branch pivot = (Branch) l.right;
+            return new Branch(new Branch(l.left, pivot.left), new Branch(pivot.right, right));
+        }
+        if (right.height > left.height + 1) {
+            Branch r = (Branch) right;
+            if (r.right.height >= r.left.height) {
+                return new Branch(new Branch(left, r.left), r.right);
+            }
+            Branch pivot = (Branch) r.left;
+            return new Branch(new Branch(left, pivot.left), new Branch(pivot.right, r.right));
+        }
+        return new Branch(left, right);
+    }
+
+    /**
+     * Copies part of a chunk's array
+     * @param elements Array to copy from
+     * @param from Start index (included)
+     * @param to End index (not included)
+     * @return New array holding elements[from, to)
+     */
+    private static Object[] copyOf(Object[] elements, int from, int to) {
+        Object[] result = new Object[to - from];
+        System.arraycopy(elements, from, result, 0, to - from);
+        return result;
+    }
+}
@@ -0,0 +1,200 @@
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.Random;
+
+public class ChunkedDynamicArrayTests {
+
+    private ChunkedDynamicArray<Character> a1;
+    private ChunkedDynamicArray<Character> a2;
+    private ChunkedDynamicArray<Character> empty;
+
+    /**
+     * Initializes ChunkedDynamicArray<Character> instances to be used for testing.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdef");
+        a2 = stringToArray("wxyz");
+        empty = new ChunkedDynamicArray<>();
+    }
+
+    /**
+     * Puts the characters of a string into a chunked array
+     */
+    public ChunkedDynamicArray<Character> stringToArray(String s) {
+        ChunkedDynamicArray<Character> result = new ChunkedDynamicArray<>();
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Tests that each whole-array operation gives the expected elements
+     * and leaves its inputs unchanged
+     */
+    @Test
+    public void testWholeArrayOperations() {
+        ArrayAssert.compareToString(a1.append(a2), "abcdefwxyz");
+        ArrayAssert.compareToString(a1.append(a1), "abcdefabcdef");
+        ArrayAssert.compareToString(a1.append(empty), "abcdef");
+        ArrayAssert.compareToString(a1.insert(2, a2), "abwxyzcdef");
+        ArrayAssert.compareToString(a1.splitPrefix(2), "ab");
+        ArrayAssert.compareToString(a1.splitSuffix(2), "cdef");
+        ArrayAssert.compareToString(a1.delete(1, 5), "af");
+        ArrayAssert.compareToString(a1.extract(1, 5), "bcde");
+        ArrayAssert.compareToString(a1.extract(3, 3), "");
+        ArrayAssert.compareToString(a1, "abcdef");
+    }
+
+    /**
+     * Tests that a result shares chunks with its source but edits
+     * to either one never show up in the other
+     */
+    @Test
+    public void testResultsAreIndependent() {
+        ChunkedDynamicArray<Character> prefix = a1.splitPrefix(4);
+        a1.set(0, 'A');
+        a1.remove(1);
+        prefix.add(1, 'q');
+        ArrayAssert.compareToString(a1, "Acdef");
+        ArrayAssert.compareToString(prefix, "aqbcd");
+    }
+
+    /**
+     * Tests that set and remove return the old element and keep the rest in order
+     */
+    @Test
+    public void testSetAndRemove() {
+        assertEquals(Character.valueOf('c'), a1.set(2, 'C'));
+        assertEquals(Character.valueOf('a'), a1.remove(0));
+        assertEquals(Character.valueOf('f'), a1.remove(4));
+        ArrayAssert.compareToString(a1, "bCde");
+    }
+
+    /**
+     * Tests that a long random mix of adds, removes, sets and range moves
+     * leaves the same elements as a DynamicArray given the same edits
+     */
+    @Test
+    public void testMatchesDynamicArray() {
+        Random random = new Random(210);
+        DynamicArray<Integer> expected = new DynamicArray<>(0);
+        ChunkedDynamicArray<Integer> actual = new ChunkedDynamicArray<>();
+        for (int step = 0; step < 5000; step++) {
+            int choice = random.nextInt(6);
+            if (choice < 3 || expected.size() == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                actual.add(index, step);
+            } else if (choice == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.remove(index));
+            } else if (choice == 4) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -step), actual.set(index, -step));
+            } else {
+                int from = random.nextInt(expected.size() + 1);
+                int to = from + random.nextInt(expected.size() - from + 1);
+                ChunkedDynamicArray<Integer> middle = actual.extract(from, to);
+                actual = actual.delete(from, to).insert(from, middle);
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        int i = 0;
+        for (Integer value : actual) {
+            assertEquals(expected.get(i), value);
+            assertEquals(expected.get(i), actual.get(i));
+            i++;
+        }
+        assertEquals(expected.size(), i);
+    }
+
+    /**
+     * Tests that converting to and from DynamicArray keeps every element in order
+     */
+    @Test
+    public void testConversions() {
+        DynamicArray<Integer> source = new DynamicArray<>(0);
+        for (int i = 0; i < 1000; i++) {
+            source.add(i);
+        }
+        ChunkedDynamicArray<Integer> chunked = ChunkedDynamicArray.of(source);
+        assertEquals(1000, chunked.size());
+        assertEquals(Integer.valueOf(777), chunked.get(777));
+        DynamicArray<Integer> back = chunked.toDynamicArray();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(source.get(i), back.get(i));
+        }
+        assertEquals(0, ChunkedDynamicArray.of(new DynamicArray<Integer>(0)).size());
+    }
+
+    /**
+     * Tests that repeated inserts and removes in the middle, which split and merge
+     * chunks, keep every element at the right index
+     */
+    @Test
+    public void testManyMiddleInserts() {
+        ChunkedDynamicArray<Integer> arr = new ChunkedDynamicArray<>();
+        for (int i = 0; i < 200000; i++) {
+            arr.add(arr.size() / 2, i);
+        }
+        assertEquals(200000, arr.size());
+        assertEquals(Integer.valueOf(199999), arr.get(99999));
+        assertEquals(Integer.valueOf(199998), arr.get(100000));
+        assertEquals(Integer.valueOf(0), arr.get(199999));
+        for (int i = 0; i < 100000; i++) {
+            arr.remove(arr.size() / 2);
+        }
+        assertEquals(100000, arr.size());
+    }
+
+    /**
+     * Tests that an iterator keeps reading the elements present when it was made
+     */
+    @Test
+    public void testIteratorIgnoresLaterEdits() {
+        Iterator<Character> it = a1.iterator();
+        a1.set(0, 'z');
+        a1.add('g');
+        StringBuilder seen = new StringBuilder();
+        it.forEachRemaining(seen::append);
+        assertEquals("abcdef", seen.toString());
+        assertFalse(empty.iterator().hasNext());
+    }
+
+    /**
+     * Tests that get past the last element throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        a1.get(6);
+    }
+
+    /**
+     * Tests that add past the end of the array throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddOutOfBounds() {
+        a1.add(7, 'q');
+    }
+
+    /**
+     * Tests that remove on an empty array throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveFromEmpty() {
+        empty.remove(0);
+    }
+
+    /**
+     * Tests that extract with an end index before its start index throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testExtractHighIndexLessThanLow() {
+        a1.extract(4, 2);
+    }
+}
@@ -0,0 +1,529 @@
+/**
+ * Dynamic array of records stored as a struct of arrays: each field of the record lives in its own
+ * primitive column (IntDynamicArray, LongDynamicArray or DoubleDynamicArray), as described by a RecordSchema
+ * Compared with DynamicArray of records, no record objects or pointers are stored, and a scan over one field
+ * walks one primitive array sequentially instead of visiting every record
+ * get and set keep DynamicArrayADT semantics row by row: get rebuilds a record from the row's fields,
+ * and set writes each field of the record into its column
+ * Whole-array operations run column by column using the primitive arrays' bulk copies
+ * @param <R> Type of records stored in array
+ */
+public class ColumnarDynamicArray<R> implements DynamicArrayADT<R>, WholeArrayOperationsADT<R, ColumnarDynamicArray<R>> {
+
+    private final RecordSchema<R> schema;
+    private final PrimitiveDynamicArray<?, ?>[] columns; //one per schema column, all of the same size
+
+    /**
+     * Constructor makes a new, empty ColumnarDynamicArray with specified initial capacity
+     * @param schema Columns the records are split into
+     * @param length Initial capacity of every column
+     * @throws IllegalArgumentException if length is negative
+     */
+    public ColumnarDynamicArray(RecordSchema<R> schema, int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Allocated space for array cannot be negative.");
+        }
+        this.schema = schema;
+        this.columns = new PrimitiveDynamicArray<?, ?>[schema.columnCount()];
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = schema.column(c).newValues(length);
+        }
+    }
+
+    /**
+     * Private constructor that adopts already filled columns
+     * @param schema Columns the records are split into
+     * @param columns Column storage, owned by the new instance from now on
+     */
+    private ColumnarDynamicArray(RecordSchema<R> schema, PrimitiveDynamicArray<?, ?>[] columns) {
+        this.schema = schema;
+        this.columns = columns;
+    }
+
+    /**
+     * Returns the schema the records are split by
+     * @return Schema given at construction
+     */
+    public RecordSchema<R> schema() {
+        return schema;
+    }
+
+    /**
+     * Returns a new record built from the fields at specified position
+     * @param index The index of the returning record
+     * @return Record at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public R get(int index) {
+        checkIndex(index);
+        return schema.newRecord(new RowReader(index));
+    }
+
+    /**
+     * Replaces the fields at specified position with those of a user-given record
+     * If reading a field of the record throws, the fields already written are put back, so the row is unchanged
+     * @param index The index of the record to replace
+     * @param newElement Record whose fields are stored at specified position
+     * @return Record previously stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NullPointerException if newElement is null
+     */
+    public R set(int index, R newElement) {
+        if (newElement == null) {
+            throw new NullPointerException("ColumnarDynamicArray cannot store null records.");
+        }
+        R oldValue = get(index);
+        int c = 0;
+        try {
+            for (; c < columns.length; c++) {
+                schema.column(c).set(columns[c], index, newElement);
+            }
+        } catch (RuntimeException e) {
+            for (int restored = 0; restored < c; restored++) {
+                schema.column(restored).set(columns[restored], index, oldValue);
+            }
+            throw e;
+        }
+        return oldValue;
+    }
+
+    /**
+     * Returns number of records in array
+     * @return Number of records in array
+     */
+    public int size() {
+        return columns[0].size();
+    }
+
+    /**
+     * Appends a record's fields to the end of the columns
+     * @param value Record to be appended
+     * @throws NullPointerException if value is null
+     */
+    public void add(R value) {
+        add(size(), value);
+    }
+
+    /**
+     * Inserts a record's fields at specified index, shifting later rows in every column
+     * A slot is opened in every column before any field is read, and closed again if reading a field throws,
+     * so the columns always keep the same size
+     * @param index Index to insert record at
+     * @param value Record to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws NullPointerException if value is null
+     */
+    public void add(int index, R value) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        if (value == null) {
+            throw new NullPointerException("ColumnarDynamicArray cannot store null records.");
+        }
+        for (PrimitiveDynamicArray<?, ?> column : columns) {
+            column.openSlot(index);
+        }
+        try {
+            for (int c = 0; c < columns.length; c++) {
+                schema.column(c).set(columns[c], index, value);
+            }
+        } catch (RuntimeException e) {
+            for (PrimitiveDynamicArray<?, ?> column : columns) {
+                column.closeSlot(index);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the row at specified index from every column
+     * @param index Index of record to remove
+     * @return Record previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public R remove(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        R removedElement = get(index);
+        for (PrimitiveDynamicArray<?, ?> column : columns) {
+            column.closeSlot(index);
+        }
+        return removedElement;
+    }
+
+    /**
+     * Returns a live view of an int column, for scanning one field without building records
+     * Elements may be read and set through the view, and it sees later changes to this array,
+     * but it has no add or remove, since those would leave the columns with different sizes
+     * @param name Name of column
+     * @return View over the column
+     * @throws IllegalArgumentException if there is no int column with that name
+     */
+    public IntColumn intColumn(String name) {
+        return new IntColumn(column(schema.columnIndex(name), IntDynamicArray.class));
+    }
+
+    /**
+     * Returns a live view of a long column, for scanning one field without building records
+     * As with intColumn, elements may be read and set through the view but not added or removed
+     * @param name Name of column
+     * @return View over the column
+     * @throws IllegalArgumentException if there is no long column with that name
+     */
+    public LongColumn longColumn(String name) {
+        return new LongColumn(column(schema.columnIndex(name), LongDynamicArray.class));
+    }
+
+    /**
+     * Returns a live view of a double column, for scanning one field without building records
+     * As with intColumn, elements may be read and set through the view but not added or removed
+     * @param name Name of column
+     * @return View over the column
+     * @throws IllegalArgumentException if there is no double column with that name
+     */
+    public DoubleColumn doubleColumn(String name) {
+        return new DoubleColumn(column(schema.columnIndex(name), DoubleDynamicArray.class));
+    }
+
+    /**
+     * Appends all records from another array with the same schema, one bulk copy per column
+     * @param other Array containing records to be appended
+     * @return New ColumnarDynamicArray with all records from both arrays
+     * @throws IllegalArgumentException if other has a different schema
+     */
+    public ColumnarDynamicArray<R> append(ColumnarDynamicArray<R> other) {
+        checkSchema(other);
+        PrimitiveDynamicArray<?, ?>[] result = new PrimitiveDynamicArray<?, ?>[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            result[c] = schema.column(c).append(columns[c], other.columns[c]);
+        }
+        return new ColumnarDynamicArray<>(schema, result);
+    }
+
+    /**
+     * Inserts all records from another array with the same schema at specified index, one bulk copy per column
+     * @param index Index where the other array is inserted
+     * @param other Array with records to be inserted
+     * @return New ColumnarDynamicArray with combined records
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws IllegalArgumentException if other has a different schema
+     */
+    public ColumnarDynamicArray<R> insert(int index, ColumnarDynamicArray<R> other) {
+        checkSchema(other);
+        PrimitiveDynamicArray<?, ?>[] result = new PrimitiveDynamicArray<?, ?>[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            result[c] = schema.column(c).insert(columns[c], index, other.columns[c]);
+        }
+        return new ColumnarDynamicArray<>(schema, result);
+    }
+
+    /**
+     * Creates new array containing records from specified index to end
+     * @param index Starting index for suffix (included)
+     * @return New ColumnarDynamicArray that has the suffix records
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public ColumnarDynamicArray<R> splitSuffix(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return extract(index, size());
+    }
+
+    /**
+     * Creates new array containing records from start to specified index
+     * @param index Ending index for prefix (not included)
+     * @return New ColumnarDynamicArray that has the prefix records
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public ColumnarDynamicArray<R> splitPrefix(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return extract(0, index);
+    }
+
+    /**
+     * Creates new array with records in specified range removed, one bulk copy per column
+     * @param fromIndex Start index of range of records to be removed (included)
+     * @param toIndex End index of range of records to be removed (not included)
+     * @return New ColumnarDynamicArray with range removed
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public ColumnarDynamicArray<R> delete(int fromIndex, int toIndex) {
+        PrimitiveDynamicArray<?, ?>[] result = new PrimitiveDynamicArray<?, ?>[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            result[c] = schema.column(c).delete(columns[c], fromIndex, toIndex);
+        }
+        return new ColumnarDynamicArray<>(schema, result);
+    }
+
+    /**
+     * Creates new array with records in specified range, one bulk copy per column
+     * @param fromIndex Start index of extracted range (included)
+     * @param toIndex End index of extracted range (not included)
+     * @return New ColumnarDynamicArray with extracted records
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public ColumnarDynamicArray<R> extract(int fromIndex, int toIndex) {
+        PrimitiveDynamicArray<?, ?>[] result = new PrimitiveDynamicArray<?, ?>[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            result[c] = schema.column(c).extract(columns[c], fromIndex, toIndex);
+        }
+        return new ColumnarDynamicArray<>(schema, result);
+    }
+
+    /**
+     * Private utility that checks an index refers to a stored record
+     * @param index Index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+    }
+
+    /**
+     * Private utility that checks another array splits its records the same way
+     * @param other Array to check
+     * @throws IllegalArgumentException if other has a different schema
+     */
+    private void checkSchema(ColumnarDynamicArray<R> other) {
+        if (other.schema != schema) {
+            throw new IllegalArgumentException("Arrays must share the same schema.");
+        }
+    }
+
+    /**
+     * Private utility that returns a column's storage after checking its type
+     * @param <A> Expected primitive array type
+     * @param column Position of column
+     * @param type Expected primitive array type
+     * @return Storage of the column
+     * @throws IllegalArgumentException if the column is stored in a different type
+     */
+    private <A> A column(int column, Class<A> type) {
+        PrimitiveDynamicArray<?, ?> values = columns[column];
+        if (!type.isInstance(values)) {
+            throw new IllegalArgumentException("Column " + schema.columnName(column) + " is not stored in a " + type.getSimpleName() + ".");
+        }
+        return type.cast(values);
+    }
+
+    /**
+     * Reads the fields of one row for the schema's record factory
+     */
+    private final class RowReader implements RecordSchema.Row {
+        private final int row;
+
+        RowReader(int row) {
+            this.row = row;
+        }
+
+        public int getInt(int column) {
+            return column(column, IntDynamicArray.class).getInt(row);
+        }
+
+        public long getLong(int column) {
+            return column(column, LongDynamicArray.class).getLong(row);
+        }
+
+        public double getDouble(int column) {
+            return column(column, DoubleDynamicArray.class).getDouble(row);
+        }
+    }
+
+    /**
+     * Read and set view of one int column, returned by intColumn
+     * Each method behaves exactly like the IntDynamicArray method of the same name, running on the column's storage directly
+     */
+    public static final class IntColumn implements DynamicArrayADT<Integer> {
+        private final IntDynamicArray values; //the column itself, resized only by the owning ColumnarDynamicArray
+
+        private IntColumn(IntDynamicArray values) {
+            this.values = values;
+        }
+
+        public Integer get(int index) {
+            return values.get(index);
+        }
+
+        public Integer set(int index, Integer newElement) {
+            return values.set(index, newElement);
+        }
+
+        public int size() {
+            return values.size();
+        }
+
+        public int getInt(int index) {
+            return values.getInt(index);
+        }
+
+        public int setInt(int index, int newElement) {
+            return values.setInt(index, newElement);
+        }
+
+        public int[] toIntArray() {
+            return values.toIntArray();
+        }
+
+        public int indexOf(int value) {
+            return values.indexOf(value);
+        }
+
+        public boolean contains(int value) {
+            return values.contains(value);
+        }
+
+        public void fill(int fromIndex, int toIndex, int value) {
+            values.fill(fromIndex, toIndex, value);
+        }
+
+        public long sum() {
+            return values.sum();
+        }
+
+        public int min() {
+            return values.min();
+        }
+
+        public int max() {
+            return values.max();
+        }
+
+        public int count(Comparison comparison, int value) {
+            return values.count(comparison, value);
+        }
+    }
+
+    /**
+     * Read and set view of one long column, returned by longColumn
+     * Each method behaves exactly like the LongDynamicArray method of the same name, running on the column's storage directly
+     */
+    public static final class LongColumn implements DynamicArrayADT<Long> {
+        private final LongDynamicArray values; //the column itself, resized only by the owning ColumnarDynamicArray
+
+        private LongColumn(LongDynamicArray values) {
+            this.values = values;
+        }
+
+        public Long get(int index) {
+            return values.get(index);
+        }
+
+        public Long set(int index, Long newElement) {
+            return values.set(index, newElement);
+        }
+
+        public int size() {
+            return values.size();
+        }
+
+        public long getLong(int index) {
+            return values.getLong(index);
+        }
+
+        public long setLong(int index, long newElement) {
+            return values.setLong(index, newElement);
+        }
+
+        public long[] toLongArray() {
+            return values.toLongArray();
+        }
+
+        public int indexOf(long value) {
+            return values.indexOf(value);
+        }
+
+        public boolean contains(long value) {
+            return values.contains(value);
+        }
+
+        public void fill(int fromIndex, int toIndex, long value) {
+            values.fill(fromIndex, toIndex, value);
+        }
+
+        public long sum() {
+            return values.sum();
+        }
+
+        public long min() {
+            return values.min();
+        }
+
+        public long max() {
+            return values.max();
+        }
+
+        public int count(Comparison comparison, long value) {
+            return values.count(comparison, value);
+        }
+    }
+
+    /**
+     * Read and set view of one double column, returned by doubleColumn
+     * Each method behaves exactly like the DoubleDynamicArray method of the same name, running on the column's storage directly
+     */
+    public static final class DoubleColumn implements DynamicArrayADT<Double> {
+        private final DoubleDynamicArray values; //the column itself, resized only by the owning ColumnarDynamicArray
+
+        private DoubleColumn(DoubleDynamicArray values) {
+            this.values = values;
+        }
+
+        public Double get(int index) {
+            return values.get(index);
+        }
+
+        public Double set(int index, Double newElement) {
+            return values.set(index, newElement);
+        }
+
+        public int size() {
+            return values.size();
+        }
+
+        public double getDouble(int index) {
+            return values.getDouble(index);
+        }
+
+        public double setDouble(int index, double newElement) {
+            return values.setDouble(index, newElement);
+        }
+
+        public double[] toDoubleArray() {
+            return values.toDoubleArray();
+        }
+
+        public int indexOf(double value) {
+            return values.indexOf(value);
+        }
+
+        public boolean contains(double value) {
+            return values.contains(value);
+        }
+
+        public void fill(int fromIndex, int toIndex, double value) {
+            values.fill(fromIndex, toIndex, value);
+        }
+
+        public double sum() {
+            return values.sum();
+        }
+
+        public double min() {
+            return values.min();
+        }
+
+        public double max() {
+            return values.max();
+        }
+
+        public int count(Comparison comparison, double value) {
+            return values.count(comparison, value);
+        }
+    }
+}
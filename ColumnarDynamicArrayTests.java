@@ -0,0 +1,214 @@
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ColumnarDynamicArrayTests {
+
+    /**
+     * Small record stored column by column in these tests
+     */
+    record Reading(int id, long timestamp, double value) {}
+
+    private static final RecordSchema<Reading> SCHEMA = RecordSchema.of(
+            row -> new Reading(row.getInt(0), row.getLong(1), row.getDouble(2)),
+            RecordSchema.intColumn("id", Reading::id),
+            RecordSchema.longColumn("timestamp", Reading::timestamp),
+            RecordSchema.doubleColumn("value", Reading::value));
+
+    private ColumnarDynamicArray<Reading> a1;
+    private ColumnarDynamicArray<Reading> a2;
+
+    /**
+     * Initializes ColumnarDynamicArray<Reading> instances to be used for testing.
+     */
+    @Before
+    public void setUp() {
+        a1 = readings(0, 5);
+        a2 = readings(100, 3);
+    }
+
+    /**
+     * Builds an array of count readings with ids starting at first
+     */
+    private ColumnarDynamicArray<Reading> readings(int first, int count) {
+        ColumnarDynamicArray<Reading> result = new ColumnarDynamicArray<>(SCHEMA, 0);
+        for (int i = 0; i < count; i++) {
+            result.add(reading(first + i));
+        }
+        return result;
+    }
+
+    /**
+     * Reading whose fields are all derived from its id
+     */
+    private static Reading reading(int id) {
+        return new Reading(id, 1000L * id, id / 2.0);
+    }
+
+    /**
+     * Checks that an array holds readings with exactly the given ids, in order
+     */
+    private void compareToIds(DynamicArrayADT<Reading> arr, int... ids) {
+        assertEquals("Array lengths are equal", ids.length, arr.size());
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals("Records are equal at index " + i, reading(ids[i]), arr.get(i));
+        }
+    }
+
+    /**
+     * Tests that get, set, add and remove work row by row like a DynamicArray of records
+     */
+    @Test
+    public void testRowAccess() {
+        compareToIds(a1, 0, 1, 2, 3, 4);
+        assertEquals(reading(2), a1.set(2, reading(42)));
+        a1.add(0, reading(7));
+        assertEquals(reading(3), a1.remove(4));
+        compareToIds(a1, 7, 0, 1, 42, 4);
+    }
+
+    /**
+     * Tests that each whole-array operation gives the expected rows
+     * and leaves its inputs unchanged
+     */
+    @Test
+    public void testWholeArrayOperations() {
+        compareToIds(a1.append(a2), 0, 1, 2, 3, 4, 100, 101, 102);
+        compareToIds(a1.insert(2, a2), 0, 1, 100, 101, 102, 2, 3, 4);
+        compareToIds(a1.splitPrefix(2), 0, 1);
+        compareToIds(a1.splitSuffix(2), 2, 3, 4);
+        compareToIds(a1.delete(1, 4), 0, 4);
+        compareToIds(a1.extract(1, 4), 1, 2, 3);
+        compareToIds(a1.extract(3, 3));
+        compareToIds(a1, 0, 1, 2, 3, 4);
+    }
+
+    /**
+     * Tests that a column can be scanned on its own, and that a set through it
+     * shows up in the records
+     */
+    @Test
+    public void testColumnScans() {
+        ColumnarDynamicArray.DoubleColumn values = a1.doubleColumn("value");
+        double sum = 0;
+        for (int i = 0; i < values.size(); i++) {
+            sum += values.getDouble(i);
+        }
+        assertEquals(5.0, sum, 0.0);
+        a1.longColumn("timestamp").setLong(0, 99);
+        assertEquals(99L, a1.get(0).timestamp());
+        assertEquals(5, a1.intColumn("id").size());
+        assertEquals(1, SCHEMA.columnIndex("timestamp"));
+        assertEquals("value", SCHEMA.columnName(2));
+    }
+
+    /**
+     * Tests that a record whose last field cannot be read leaves every column
+     * unchanged, whether it is being added or set
+     */
+    @Test
+    public void testFailedWriteLeavesColumnsAligned() {
+        RecordSchema<Reading> strict = RecordSchema.of(
+                row -> new Reading(row.getInt(0), row.getLong(1), row.getDouble(2)),
+                RecordSchema.intColumn("id", Reading::id),
+                RecordSchema.longColumn("timestamp", Reading::timestamp),
+                RecordSchema.doubleColumn("value", r -> {
+                    if (r.id() < 0) {
+                        throw new IllegalArgumentException("Negative id.");
+                    }
+                    return r.value();
+                }));
+        ColumnarDynamicArray<Reading> arr = new ColumnarDynamicArray<>(strict, 0);
+        arr.add(reading(1));
+        arr.add(reading(2));
+        Reading bad = new Reading(-1, 5L, 5.0);
+        assertThrows(IllegalArgumentException.class, () -> arr.add(1, bad));
+        assertThrows(IllegalArgumentException.class, () -> arr.set(0, bad));
+        compareToIds(arr, 1, 2);
+        assertEquals(2, arr.intColumn("id").size());
+        assertEquals(2, arr.longColumn("timestamp").size());
+        assertEquals(2, arr.doubleColumn("value").size());
+    }
+
+    /**
+     * Tests that a column view writes through to the records, sees rows added
+     * afterwards, and runs the primitive kernels over the column
+     */
+    @Test
+    public void testColumnViews() {
+        ColumnarDynamicArray.IntColumn ids = a1.intColumn("id");
+        ids.setInt(0, 9);
+        assertEquals(9, a1.get(0).id());
+        a1.add(reading(5));
+        assertEquals(6, ids.size());
+        assertEquals(5, ids.getInt(5));
+        assertEquals(5, ids.indexOf(5));
+        assertEquals(9, ids.max());
+        assertEquals(24L, ids.sum());
+        assertEquals(2, ids.count(Comparison.GREATER_THAN, 4));
+        ColumnarDynamicArray.LongColumn timestamps = a1.extract(0, 2).longColumn("timestamp");
+        timestamps.fill(0, 2, 7L);
+        assertEquals(14L, timestamps.sum());
+        assertEquals(a1.get(1).timestamp(), reading(1).timestamp());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testColumnOfWrongType() {
+        a1.intColumn("value");
+    }
+
+    /**
+     * Tests that asking for a column the schema does not have throws
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownColumn() {
+        a1.doubleColumn("temperature");
+    }
+
+    /**
+     * Tests that a schema cannot have two columns with the same name
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateColumnName() {
+        RecordSchema.of(row -> new Reading(row.getInt(0), 0, 0),
+                RecordSchema.intColumn("id", Reading::id), RecordSchema.longColumn("id", Reading::timestamp));
+    }
+
+    /**
+     * Tests that a record factory reading a column as the wrong type throws
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testFactoryReadsWrongType() {
+        RecordSchema<Reading> wrong = RecordSchema.of(row -> new Reading(row.getInt(0), row.getLong(0), 0),
+                RecordSchema.intColumn("id", Reading::id));
+        ColumnarDynamicArray<Reading> arr = new ColumnarDynamicArray<>(wrong, 1);
+        arr.add(reading(1));
+        arr.get(0);
+    }
+
+    /**
+     * Tests that arrays with different schemas cannot be combined
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAppendDifferentSchema() {
+        RecordSchema<Reading> other = RecordSchema.of(row -> new Reading(row.getInt(0), 0, 0),
+                RecordSchema.intColumn("id", Reading::id));
+        a1.append(new ColumnarDynamicArray<>(other, 0));
+    }
+
+    /**
+     * Tests that null records are rejected
+     */
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        a1.add(null);
+    }
+
+    /**
+     * Tests that get past the last row throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        a1.get(5);
+    }
+}
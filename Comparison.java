@@ -0,0 +1,24 @@
+/**
+ * Comparison against a constant, used by the count kernels of the primitive arrays
+ * e.g. temperatures.count(Comparison.GREATER_THAN, 30.0) counts the elements above 30
+ */
+public enum Comparison {
+
+    /** Element is less than the constant */
+    LESS_THAN,
+
+    /** Element is less than or equal to the constant */
+    LESS_OR_EQUAL,
+
+    /** Element is equal to the constant */
+    EQUAL,
+
+    /** Element is not equal to the constant */
+    NOT_EQUAL,
+
+    /** Element is greater than or equal to the constant */
+    GREATER_OR_EQUAL,
+
+    /** Element is greater than the constant */
+    GREATER_THAN
+}
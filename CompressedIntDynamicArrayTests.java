@@ -0,0 +1,227 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+public class CompressedIntDynamicArrayTests {
+
+    /**
+     * Fills a plain int[] with runs of random values, for comparing against
+     */
+    private int[] randomValues(Random random, int length, int range, int maxRun) {
+        int[] values = new int[length];
+        int i = 0;
+        while (i < length) {
+            int value = random.nextInt(range) - range / 2;
+            int run = 1 + random.nextInt(maxRun);
+            for (int k = 0; k < run && i < length; k++) {
+                values[i++] = value;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Checks that an array holds exactly the given values, read one by one through get
+     */
+    private void compareToValues(DynamicArrayADT<Integer> arr, int[] expected) {
+        assertEquals("Array lengths are equal", expected.length, arr.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Elements are equal at index " + i, expected[i], arr.get(i).intValue());
+        }
+    }
+
+    /**
+     * Returns the values [from, to) of an int[]
+     */
+    private int[] slice(int[] values, int from, int to) {
+        int[] result = new int[to - from];
+        System.arraycopy(values, from, result, 0, to - from);
+        return result;
+    }
+
+    /**
+     * Returns two int[]s one after the other
+     */
+    private int[] concat(int[] first, int[] second) {
+        int[] result = new int[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    // ~*~*~*~*~ Bit-Packed Tests Below ~*~*~*~*~
+
+    /**
+     * Tests that set works whether the new value fits the block's range,
+     * forces the block to be repacked, or lands in the unpacked tail
+     */
+    @Test
+    public void testPackedGetAndSet() {
+        int[] values = randomValues(new Random(210), 1000, 64, 1);
+        PackedIntDynamicArray arr = PackedIntDynamicArray.of(values);
+        compareToValues(arr, values);
+        assertEquals(values[10], arr.setInt(10, 5)); //fits the block's range
+        assertEquals(values[500], arr.setInt(500, Integer.MIN_VALUE)); //forces the block to be repacked
+        values[10] = 5;
+        values[500] = Integer.MIN_VALUE;
+        arr.setInt(999, Integer.MAX_VALUE); //in the unpacked tail
+        values[999] = Integer.MAX_VALUE;
+        compareToValues(arr, values);
+        assertArrayEquals(values, arr.toIntArray());
+    }
+
+    /**
+     * Tests that blocks holding both Integer.MIN_VALUE and Integer.MAX_VALUE,
+     * which need all 32 bits, read back correctly
+     */
+    @Test
+    public void testPackedExtremeValues() {
+        int[] values = {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, 1};
+        PackedIntDynamicArray arr = new PackedIntDynamicArray();
+        for (int i = 0; i < 300; i++) {
+            arr.addInt(values[i % values.length]);
+        }
+        for (int i = 0; i < 300; i++) {
+            assertEquals(values[i % values.length], arr.getInt(i));
+        }
+    }
+
+    /**
+     * Tests that each whole-array operation gives the expected values,
+     * and that a set on a result does not change the blocks it shares with its source
+     */
+    @Test
+    public void testPackedWholeArrayOperations() {
+        Random random = new Random(210);
+        int[] first = randomValues(random, 1000, 1000, 3);
+        int[] second = randomValues(random, 333, 10, 3);
+        PackedIntDynamicArray a = PackedIntDynamicArray.of(first);
+        PackedIntDynamicArray b = PackedIntDynamicArray.of(second);
+        compareToValues(a.append(b), concat(first, second));
+        compareToValues(a.insert(300, b), concat(concat(slice(first, 0, 300), second), slice(first, 300, 1000)));
+        compareToValues(a.splitPrefix(257), slice(first, 0, 257));
+        compareToValues(a.splitSuffix(129), slice(first, 129, 1000));
+        compareToValues(a.delete(100, 900), concat(slice(first, 0, 100), slice(first, 900, 1000)));
+        compareToValues(a.extract(128, 512), slice(first, 128, 512));
+        compareToValues(a.extract(5, 5), new int[0]);
+        PackedIntDynamicArray shared = a.extract(0, 512);
+        shared.setInt(0, 12345);
+        assertEquals(first[0], a.getInt(0)); //blocks are shared, but set never changes them
+    }
+
+    /**
+     * Tests that values spanning 16 distinct numbers take several times less memory
+     * than in a plain IntDynamicArray
+     */
+    @Test
+    public void testPackedCompression() {
+        PackedIntDynamicArray packed = new PackedIntDynamicArray();
+        IntDynamicArray plain = new IntDynamicArray(0);
+        Random random = new Random(210);
+        for (int i = 0; i < 100000; i++) {
+            int value = 1000 + random.nextInt(16); //4 bits per value
+            packed.addInt(value);
+            plain.addInt(value);
+        }
+        plain.trimToSize();
+        assertTrue(packed.footprint().estimatedBytes() * 6 < plain.footprint().estimatedBytes());
+    }
+
+    /**
+     * Tests that get past the last element throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testPackedGetOutOfBounds() {
+        PackedIntDynamicArray.of(1, 2, 3).getInt(3);
+    }
+
+    // ~*~*~*~*~ Run-Length Tests Below ~*~*~*~*~
+
+    /**
+     * Tests that set splits a run when it changes a value in the middle,
+     * and merges runs back when neighbours become equal
+     */
+    @Test
+    public void testRunLengthGetAndSet() {
+        RunLengthIntDynamicArray arr = RunLengthIntDynamicArray.of(1, 1, 1, 2, 2, 3);
+        assertEquals(3, arr.runCount());
+        assertEquals(1, arr.setInt(1, 7)); //splits the first run in three
+        assertEquals(5, arr.runCount());
+        assertEquals(7, arr.setInt(1, 1)); //merges it back
+        assertEquals(3, arr.runCount());
+        arr.setInt(2, 2);
+        arr.setInt(5, 2);
+        assertEquals(2, arr.runCount());
+        compareToValues(arr, new int[] {1, 1, 2, 2, 2, 2});
+    }
+
+    /**
+     * Tests that many random sets leave the same values as a plain int[],
+     * with exactly one run per stretch of equal values
+     */
+    @Test
+    public void testRunLengthMatchesPlainArray() {
+        Random random = new Random(210);
+        int[] values = randomValues(random, 5000, 5, 20);
+        RunLengthIntDynamicArray arr = RunLengthIntDynamicArray.of(values);
+        for (int step = 0; step < 2000; step++) {
+            int index = random.nextInt(values.length);
+            int value = random.nextInt(5);
+            assertEquals(values[index], arr.setInt(index, value));
+            values[index] = value;
+        }
+        compareToValues(arr, values);
+        assertArrayEquals(values, arr.toIntArray());
+        int runs = 1;
+        for (int i = 1; i < values.length; i++) {
+            runs += values[i] != values[i - 1] ? 1 : 0;
+        }
+        assertEquals(runs, arr.runCount());
+    }
+
+    /**
+     * Tests that each whole-array operation gives the expected values,
+     * and that equal runs meeting at a join are merged
+     */
+    @Test
+    public void testRunLengthWholeArrayOperations() {
+        Random random = new Random(210);
+        int[] first = randomValues(random, 1000, 4, 50);
+        int[] second = randomValues(random, 300, 4, 50);
+        RunLengthIntDynamicArray a = RunLengthIntDynamicArray.of(first);
+        RunLengthIntDynamicArray b = RunLengthIntDynamicArray.of(second);
+        compareToValues(a.append(b), concat(first, second));
+        compareToValues(a.insert(300, b), concat(concat(slice(first, 0, 300), second), slice(first, 300, 1000)));
+        compareToValues(a.splitPrefix(257), slice(first, 0, 257));
+        compareToValues(a.splitSuffix(129), slice(first, 129, 1000));
+        compareToValues(a.delete(100, 900), concat(slice(first, 0, 100), slice(first, 900, 1000)));
+        compareToValues(a.extract(128, 512), slice(first, 128, 512));
+        compareToValues(a.extract(5, 5), new int[0]);
+        assertEquals(1, RunLengthIntDynamicArray.of(4, 4).append(RunLengthIntDynamicArray.of(4)).runCount());
+    }
+
+    /**
+     * Tests that long runs take far less memory than in a plain IntDynamicArray
+     */
+    @Test
+    public void testRunLengthCompression() {
+        RunLengthIntDynamicArray runs = new RunLengthIntDynamicArray();
+        IntDynamicArray plain = new IntDynamicArray(0);
+        for (int i = 0; i < 100000; i++) {
+            runs.addInt(i / 1000); //100 runs of 1000
+            plain.addInt(i / 1000);
+        }
+        plain.trimToSize();
+        assertEquals(100, runs.runCount());
+        assertTrue(runs.footprint().estimatedBytes() * 16 < plain.footprint().estimatedBytes());
+    }
+
+    /**
+     * Tests that extract with an end index before its start index throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRunLengthExtractHighIndexLessThanLow() {
+        RunLengthIntDynamicArray.of(1, 2, 3).extract(2, 1);
+    }
+}
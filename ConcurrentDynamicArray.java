@@ -0,0 +1,360 @@
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe dynamic array for many readers and few writers
+ * get and size use StampedLock optimistic reads: they take no lock and only retry under a read lock
+ * if a writer ran at the same time, so readers do not block or contend with each other
+ * Writers (set, add, remove) are serialized by the write lock
+ * Whole-array operations copy a consistent snapshot of each input under a read lock,
+ * then build their result without holding any lock
+ * @param <T> Type of elements stored in array
+ */
+public class ConcurrentDynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperationsADT<T, ConcurrentDynamicArray<T>> {
+
+    private final StampedLock lock = new StampedLock();
+    private Object[] array; //guarded by lock; replaced, never shrunk in place, when growing
+    private int size; //guarded by lock
+
+    /**
+     * Constructor makes a new, empty ConcurrentDynamicArray with specified initial capacity
+     * @param length Initial capacity of array
+     * @throws IllegalArgumentException if length is negative
+     */
+    public ConcurrentDynamicArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Allocated space for array cannot be negative.");
+        }
+        this.array = new Object[length];
+        this.size = 0;
+    }
+
+    /**
+     * Private constructor that adopts an already filled array as storage
+     * @param elements Backing array, owned by the new instance from now on
+     * @param size Number of elements in use
+     */
+    private ConcurrentDynamicArray(Object[] elements, int size) {
+        this.array = elements;
+        this.size = size;
+    }
+
+    /**
+     * Creates a ConcurrentDynamicArray holding a copy of a DynamicArray's elements
+     * @param <T> Type of elements stored in array
+     * @param source Array to copy
+     * @return New ConcurrentDynamicArray with the same elements
+     */
+    public static <T> ConcurrentDynamicArray<T> of(DynamicArray<T> source) {
+        ConcurrentDynamicArray<T> result = new ConcurrentDynamicArray<>(source.size());
+        for (T element : source) {
+            result.array[result.size++] = element;
+        }
+        return result;
+    }
+
+    /**
+     * Returns element at specified position in array without taking a lock
+     * If a writer changes the array during the read, the read is retried under a read lock
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        long stamp = lock.tryOptimisticRead();
+        Object[] elements = array;
+        int currentSize = size;
+        Object value = index >= 0 && index < currentSize && index < elements.length ? elements[index] : null;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+                value = index >= 0 && index < currentSize ? array[index] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (index < 0 || index >= currentSize) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+        return (T) value;
+    }
+
+    /**
+     * Returns number of elements in array without taking a lock
+     * @return Number of elements in array
+     */
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int currentSize = size;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                currentSize = size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return currentSize;
+    }
+
+    /**
+     * Replaces element at specified position with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T set(int index, T newElement) {
+        long stamp = lock.writeLock();
+        try {
+            checkIndex(index);
+            T oldValue = (T) array[index];
+            array[index] = newElement;
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Inserts specified element at specified index
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public void add(int index, T value) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+            }
+            growIfFull();
+            System.arraycopy(array, index, array, index + 1, size - index);
+            array[index] = value;
+            size++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends specified element to end of array
+     * @param value Element to be appended
+     */
+    public void add(T value) {
+        long stamp = lock.writeLock();
+        try {
+            growIfFull();
+            array[size++] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes and returns element at specified index
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        long stamp = lock.writeLock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+            }
+            T removedElement = (T) array[index];
+            System.arraycopy(array, index + 1, array, index, size - index - 1);
+            array[--size] = null;
+            return removedElement;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Copies a consistent snapshot of the elements into a new, unsynchronized DynamicArray
+     * @return New DynamicArray holding the elements as of one instant
+     */
+    @SuppressWarnings("unchecked")
+    public DynamicArray<T> toDynamicArray() {
+        Object[] snapshot = snapshot();
+        DynamicArray<T> result = new DynamicArray<>(snapshot.length);
+        for (Object element : snapshot) {
+            result.add((T) element);
+        }
+        return result;
+    }
+
+    /**
+     * Appends all elements from another array to a snapshot of this one
+     * @param other Array containing elements to be appended
+     * @return New ConcurrentDynamicArray with all elements from both snapshots
+     */
+    public ConcurrentDynamicArray<T> append(ConcurrentDynamicArray<T> other) {
+        Object[] mine = this.snapshot();
+        Object[] theirs = other.snapshot();
+        Object[] result = new Object[mine.length + theirs.length];
+        System.arraycopy(mine, 0, result, 0, mine.length);
+        System.arraycopy(theirs, 0, result, mine.length, theirs.length);
+        return new ConcurrentDynamicArray<>(result, result.length);
+    }
+
+    /**
+     * Inserts all elements from another array into a snapshot of this one at specified index
+     * @param index Index where the other array is inserted
+     * @param other Array with elements to be inserted
+     * @return New ConcurrentDynamicArray with combined elements
+     * @throws IndexOutOfBoundsException if index out of range of the snapshot
+     */
+    public ConcurrentDynamicArray<T> insert(int index, ConcurrentDynamicArray<T> other) {
+        Object[] mine = this.snapshot();
+        if (index < 0 || index > mine.length) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        Object[] theirs = other.snapshot();
+        Object[] result = new Object[mine.length + theirs.length];
+        System.arraycopy(mine, 0, result, 0, index);
+        System.arraycopy(theirs, 0, result, index, theirs.length);
+        System.arraycopy(mine, index, result, index + theirs.length, mine.length - index);
+        return new ConcurrentDynamicArray<>(result, result.length);
+    }
+
+    /**
+     * Creates new array containing elements of a snapshot from specified index to end
+     * @param index Starting index for suffix (included)
+     * @return New ConcurrentDynamicArray that has the suffix elements
+     * @throws IndexOutOfBoundsException if index out of range of the snapshot
+     */
+    public ConcurrentDynamicArray<T> splitSuffix(int index) {
+        long stamp = lock.readLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+            }
+            return copyOf(index, size);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Creates new array containing elements of a snapshot from start to specified index
+     * @param index Ending index for prefix (not included)
+     * @return New ConcurrentDynamicArray that has the prefix elements
+     * @throws IndexOutOfBoundsException if index out of range of the snapshot
+     */
+    public ConcurrentDynamicArray<T> splitPrefix(int index) {
+        long stamp = lock.readLock();
+        try {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+            }
+            return copyOf(0, index);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Creates new array from a snapshot with elements in specified range removed
+     * @param fromIndex Start index of range of elements to be removed (included)
+     * @param toIndex End index of range of elements to be removed (not included)
+     * @return New ConcurrentDynamicArray with range removed
+     * @throws IndexOutOfBoundsException if indices are invalid for the snapshot
+     */
+    public ConcurrentDynamicArray<T> delete(int fromIndex, int toIndex) {
+        long stamp = lock.readLock();
+        try {
+            checkRange(fromIndex, toIndex);
+            Object[] result = new Object[size - (toIndex - fromIndex)];
+            System.arraycopy(array, 0, result, 0, fromIndex);
+            System.arraycopy(array, toIndex, result, fromIndex, size - toIndex);
+            return new ConcurrentDynamicArray<>(result, result.length);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Creates new array from a snapshot with elements in specified range
+     * @param fromIndex Start index of extracted range (included)
+     * @param toIndex End index of extracted range (not included)
+     * @return New ConcurrentDynamicArray with extracted elements
+     * @throws IndexOutOfBoundsException if indices are invalid for the snapshot
+     */
+    public ConcurrentDynamicArray<T> extract(int fromIndex, int toIndex) {
+        long stamp = lock.readLock();
+        try {
+            checkRange(fromIndex, toIndex);
+            return copyOf(fromIndex, toIndex);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Private utility that grows the backing array when it is full; caller holds the write lock
+     * Growth copies into a new array, so optimistic readers still holding the old one read valid slots
+     */
+    private void growIfFull() {
+        if (size == array.length) {
+            Object[] newArray = new Object[GrowthPolicy.DOUBLING.grow(array.length, size + 1)];
+            System.arraycopy(array, 0, newArray, 0, size);
+            array = newArray;
+        }
+    }
+
+    /**
+     * Private utility that copies all elements under a read lock
+     * @return New array of length size holding the elements as of one instant
+     */
+    private Object[] snapshot() {
+        long stamp = lock.readLock();
+        try {
+            Object[] result = new Object[size];
+            System.arraycopy(array, 0, result, 0, size);
+            return result;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Private utility that copies a range into a new instance; caller holds a lock
+     * @param fromIndex Start index (included)
+     * @param toIndex End index (not included)
+     * @return New ConcurrentDynamicArray with the range's elements
+     */
+    private ConcurrentDynamicArray<T> copyOf(int fromIndex, int toIndex) {
+        Object[] result = new Object[toIndex - fromIndex];
+        System.arraycopy(array, fromIndex, result, 0, result.length);
+        return new ConcurrentDynamicArray<>(result, result.length);
+    }
+
+    /**
+     * Private utility that checks an index refers to a stored element; caller holds a lock
+     * @param index Index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+    }
+
+    /**
+     * Private utility that checks a [fromIndex, toIndex) range; caller holds a lock
+     * @param fromIndex Start index (included)
+     * @param toIndex End index (not included)
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ConcurrentDynamicArrayTests {
+
+    private ConcurrentDynamicArray<Character> a1;
+    private ConcurrentDynamicArray<Character> a2;
+
+    /**
+     * Initializes ConcurrentDynamicArray<Character> instances to be used for testing.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdef");
+        a2 = stringToArray("wxyz");
+    }
+
+    /**
+     * Puts the characters of a string into a concurrent array
+     */
+    public ConcurrentDynamicArray<Character> stringToArray(String s) {
+        ConcurrentDynamicArray<Character> result = new ConcurrentDynamicArray<>(0);
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Tests add, set and remove under the lock, and that toDynamicArray copies the result
+     */
+    @Test
+    public void testBasicOperations() {
+        a1.add(0, '_');
+        assertEquals('c', a1.set(3, 'C').charValue());
+        assertEquals('f', a1.remove(6).charValue());
+        ArrayAssert.compareToString(a1, "_abCde");
+        ArrayAssert.compareToString(a1.toDynamicArray(), "_abCde");
+    }
+
+    /**
+     * Tests that each whole-array operation gives the expected elements
+     * and leaves its inputs unchanged
+     */
+    @Test
+    public void testWholeArrayOperations() {
+        ArrayAssert.compareToString(a1.append(a2), "abcdefwxyz");
+        ArrayAssert.compareToString(a1.append(a1), "abcdefabcdef");
+        ArrayAssert.compareToString(a1.insert(2, a2), "abwxyzcdef");
+        ArrayAssert.compareToString(a1.splitPrefix(2), "ab");
+        ArrayAssert.compareToString(a1.splitSuffix(2), "cdef");
+        ArrayAssert.compareToString(a1.delete(1, 5), "af");
+        ArrayAssert.compareToString(a1.extract(1, 5), "bcde");
+        ArrayAssert.compareToString(a1, "abcdef");
+    }
+
+    /**
+     * Tests that get past the last element throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        a1.get(6);
+    }
+
+    /**
+     * Tests that extract with an end index before its start index throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testExtractHighIndexLessThanLow() {
+        a1.extract(3, 1);
+    }
+
+    /**
+     * Stress test: readers check that element i always equals i and that snapshots are
+     * consistent, while a writer keeps appending (forcing the backing array to grow) and
+     * rewriting elements
+     */
+    @Test
+    public void testReadersSeeConsistentStateUnderWrites() throws InterruptedException {
+        ConcurrentDynamicArray<Integer> numbers = new ConcurrentDynamicArray<>(1);
+        numbers.add(0);
+        AtomicBoolean done = new AtomicBoolean(false);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int seed = t;
+            readers.add(new Thread(() -> {
+                Random random = new Random(seed);
+                try {
+                    while (!done.get()) {
+                        int i = random.nextInt(numbers.size());
+                        assertEquals(Integer.valueOf(i), numbers.get(i));
+                        if (random.nextInt(1000) == 0) {
+                            DynamicArray<Integer> snapshot = numbers.toDynamicArray();
+                            for (int j = 0; j < snapshot.size(); j++) {
+                                assertEquals(Integer.valueOf(j), snapshot.get(j));
+                            }
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }));
+        }
+        for (Thread reader : readers) {
+            reader.start();
+        }
+        for (int i = 1; i < 200_000; i++) {
+            numbers.add(i);
+            numbers.set(i / 2, i / 2);
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(String.valueOf(failure.get()), failure.get());
+        assertEquals(200_000, numbers.size());
+    }
+}
@@ -0,0 +1,374 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Dynamic array of double values stored unboxed in a double[]
+ * Each element takes 8 bytes, instead of a reference plus a separate Double object
+ * Use the double accessors (getDouble, setDouble, ...) in hot loops to avoid boxing entirely
+ * Bulk kernels (indexOf, fill, sum, min, max, count) scan the backing array in plain counted loops,
+ * which the JIT compiles to SIMD instructions where the CPU has them
+ */
+public class DoubleDynamicArray extends PrimitiveDynamicArray<Double, DoubleDynamicArray> {
+
+    private double[] array;
+
+    /**
+     * Constructor makes a new DoubleDynamicArray with specified initial capacity
+     * @param length Initial capacity of array
+     * @throws IllegalArgumentException if length is negative
+     */
+    public DoubleDynamicArray(int length) {
+        this(length, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructor makes a new DoubleDynamicArray with specified initial capacity and growth policy
+     * @param length Initial capacity of array
+     * @param growthPolicy Policy used to pick a new capacity when the array is full
+     * @throws IllegalArgumentException if length is negative or growthPolicy is null
+     */
+    public DoubleDynamicArray(int length, GrowthPolicy growthPolicy) {
+        super(growthPolicy);
+        if (length < 0) {
+            throw new IllegalArgumentException("Allocated space for array cannot be negative.");
+        }
+        this.array = new double[length];
+    }
+
+    /**
+     * Creates a DoubleDynamicArray holding a copy of the given values
+     * @param values Values to store, in order
+     * @return New array containing values
+     */
+    public static DoubleDynamicArray of(double... values) {
+        DoubleDynamicArray result = new DoubleDynamicArray(values.length);
+        System.arraycopy(values, 0, result.array, 0, values.length);
+        result.size = values.length;
+        return result;
+    }
+
+    /**
+     * Returns double element at specified position in array without boxing
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double getDouble(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Replaces double element at specified position without boxing
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public double setDouble(int index, double newElement) {
+        checkIndex(index);
+        double oldValue = array[index];
+        array[index] = newElement;
+        return oldValue;
+    }
+
+    /**
+     * Inserts double element at specified index without boxing
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public void addDouble(int index, double value) {
+        openSlot(index);
+        array[index] = value;
+    }
+
+    /**
+     * Appends double element to end of array in amortized O(1) time without boxing
+     * @param value Element to be appended
+     */
+    public void addDouble(double value) {
+        addDouble(size, value);
+    }
+
+    /**
+     * Removes and returns double element at specified index without boxing
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public double removeDouble(int index) {
+        checkIndex(index);
+        double removedElement = array[index];
+        closeSlot(index);
+        return removedElement;
+    }
+
+    /**
+     * Returns a copy of the stored elements as a plain double[]
+     * @return New array of length size() holding the elements in order
+     */
+    public double[] toDoubleArray() {
+        double[] result = new double[size];
+        System.arraycopy(array, 0, result, 0, size);
+        return result;
+    }
+
+    // ~*~*~*~*~ Bulk Kernels Below ~*~*~*~*~
+
+    /**
+     * Returns the index of the first element equal to value, scanning the backing array directly
+     * Elements are compared with ==, so NaN is never found and 0.0 matches -0.0
+     * @param value Value to search for
+     * @return Index of first equal element, or -1 if there is none
+     */
+    public int indexOf(double value) {
+        double[] a = array;
+        for (int i = 0; i < size; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether any element is equal to value
+     * @param value Value to search for
+     * @return true if value is found
+     */
+    public boolean contains(double value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Sets every element in specified range to value
+     * @param fromIndex Start index of range (included)
+     * @param toIndex End index of range (not included)
+     * @param value Value to store
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public void fill(int fromIndex, int toIndex, double value) {
+        checkRange(fromIndex, toIndex);
+        Arrays.fill(array, fromIndex, toIndex, value);
+    }
+
+    /**
+     * Returns the sum of all elements, 0 for an empty array
+     * Elements are added in index order, so the result matches a plain loop over getDouble exactly
+     * @return Sum of elements
+     */
+    public double sum() {
+        double[] a = array;
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += a[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the smallest element
+     * If any element is NaN, the result is NaN, as with Math.min
+     * @return Smallest element
+     * @throws NoSuchElementException if array is empty
+     */
+    public double min() {
+        checkNotEmpty();
+        double[] a = array;
+        double result = a[0];
+        for (int i = 1; i < size; i++) {
+            result = Math.min(result, a[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest element
+     * If any element is NaN, the result is NaN, as with Math.max
+     * @return Largest element
+     * @throws NoSuchElementException if array is empty
+     */
+    public double max() {
+        checkNotEmpty();
+        double[] a = array;
+        double result = a[0];
+        for (int i = 1; i < size; i++) {
+            result = Math.max(result, a[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of elements that compare to value as specified
+     * Each comparison has its own branch-free loop, so the choice is made once rather than per element
+     * NaN elements only satisfy NOT_EQUAL, as with the == and < operators
+     * @param comparison How each element is compared to value
+     * @param value Constant each element is compared to
+     * @return Number of elements for which (element comparison value) holds
+     */
+    public int count(Comparison comparison, double value) {
+        double[] a = array;
+        int n = size;
+        int count = 0;
+        switch (comparison) {
+            case LESS_THAN:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] < value ? 1 : 0;
+                }
+                break;
+            case LESS_OR_EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] <= value ? 1 : 0;
+                }
+                break;
+            case EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] == value ? 1 : 0;
+                }
+                break;
+            case NOT_EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] != value ? 1 : 0;
+                }
+                break;
+            case GREATER_OR_EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] >= value ? 1 : 0;
+                }
+                break;
+            default:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] > value ? 1 : 0;
+                }
+                break;
+        }
+        return count;
+    }
+
+    /**
+     * Returns element at specified position in array, boxed
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    /**
+     * Replaces element at specified position with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index, boxed
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NullPointerException if newElement is null
+     */
+    public Double set(int index, Double newElement) {
+        return setDouble(index, newElement);
+    }
+
+    /**
+     * Inserts specified element at specified index
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws NullPointerException if value is null
+     */
+    public void add(int index, Double value) {
+        addDouble(index, value);
+    }
+
+    /**
+     * Removes and returns element at specified index
+     * @param index Index of element to remove
+     * @return Element previously at specified index, boxed
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public Double remove(int index) {
+        return removeDouble(index);
+    }
+
+    /**
+     * Returns number of elements the array can hold before it has to grow
+     * @return Allocated capacity of array
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Returns width of one double element
+     * @return Double.BYTES
+     */
+    protected int elementBytes() {
+        return Double.BYTES;
+    }
+
+    /**
+     * Returns the codec for double elements
+     * @return ElementCodec.DOUBLE
+     */
+    public ElementCodec<Double> codec() {
+        return ElementCodec.DOUBLE;
+    }
+
+    /**
+     * Copies a range of double elements into a buffer through a DoubleBuffer view
+     * @param target Buffer with room for (toIndex - fromIndex) elements
+     * @param fromIndex Start index of range to copy (included)
+     * @param toIndex End index of range to copy (not included)
+     */
+    protected void putElements(ByteBuffer target, int fromIndex, int toIndex) {
+        target.asDoubleBuffer().put(array, fromIndex, toIndex - fromIndex);
+        target.position(target.position() + (toIndex - fromIndex) * Double.BYTES);
+    }
+
+    /**
+     * Appends double elements read from a buffer through a DoubleBuffer view
+     * @param source Buffer holding at least count encoded elements
+     * @param count Number of elements to read
+     */
+    protected void getElements(ByteBuffer source, int count) {
+        ensureCapacity(size + count);
+        source.asDoubleBuffer().get(array, size, count);
+        source.position(source.position() + count * Double.BYTES);
+        size += count;
+    }
+
+    /**
+     * Returns the backing double[]
+     * @return Backing array
+     */
+    protected Object storage() {
+        return array;
+    }
+
+    /**
+     * Replaces the backing double[]
+     * @param storage New backing array
+     */
+    protected void setStorage(Object storage) {
+        this.array = (double[]) storage;
+    }
+
+    /**
+     * Allocates a new double[]
+     * @param len Length of array to allocate
+     * @return New array with given length
+     */
+    protected Object allocateStorage(int len) {
+        return new double[len];
+    }
+
+    /**
+     * Creates an empty DoubleDynamicArray for the whole-array operations
+     * @param capacity Initial capacity of new array
+     * @param growthPolicy Growth policy of new array
+     * @return New empty array
+     */
+    protected DoubleDynamicArray newArray(int capacity, GrowthPolicy growthPolicy) {
+        return new DoubleDynamicArray(capacity, growthPolicy);
+    }
+}
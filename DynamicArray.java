@@ -1,13 +1,31 @@
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Implementation of a dynamic array that can increase or decrease in size
  * Allows basic array and whole-array operations
  * @param <T> Type of elements stored in array
  */
-public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperationsADT<T> {
+public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperationsADT<T, DynamicArray<T>>, Iterable<T> {
     
-    private T[] array;
-    private int size; //number of elements stored in array
-    private int capacity; //total allocated memory for array 
+    protected T[] array;
+    protected int size; //number of elements stored in array
+    protected int capacity; //total allocated memory for array 
+    private GrowthPolicy growthPolicy; //decides new capacity when array is full
+    private ShrinkPolicy shrinkPolicy; //decides when to give back capacity after removals
+    protected int modCount; //number of structural modifications, used by views to fail fast
+    private ArrayMetrics metrics; //null unless instrumentation is enabled with setMetrics
+    private boolean shared; //true while a snapshot may still be reading the backing array
+
+    private static final int FIELD_BYTES = 29; //four references, three ints and a boolean, used by footprint()
 
     /**
      * Constructor makes a new DynamicArray with specified initial capacity
@@ -16,12 +34,51 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
      */
     //@SuppressWarnings("unchecked")
     public DynamicArray(int length) {
+        this(length, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructor makes a new DynamicArray with specified initial capacity and growth policy
+     * @param length Initial capacity of array
+     * @param growthPolicy Policy used to pick a new capacity when the array is full
+     * @throws IllegalArgumentException if length is negative or growthPolicy is null
+     */
+    public DynamicArray(int length, GrowthPolicy growthPolicy) {
         if (length < 0) {
             throw new IllegalArgumentException("Allocated space for array cannot be negative.");
         }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Growth policy cannot be null.");
+        }
         this.capacity = length;
         this.array = allocate(length);
         this.size = 0; //no elements initially
+        this.growthPolicy = growthPolicy;
+        this.shrinkPolicy = ShrinkPolicy.NEVER;
+    }
+
+    /**
+     * Creates a DynamicArray backed by a gap buffer, for workloads that make many inserts and removes near one position
+     * Repeated edits at nearby indices cost O(1) amortized, while get and set stay O(1)
+     * @param <T> Type of elements stored in array
+     * @param length Initial capacity of array
+     * @return New, empty gap-buffer DynamicArray
+     * @throws IllegalArgumentException if length is negative
+     */
+    public static <T> DynamicArray<T> gapBuffer(int length) {
+        return new GapBufferDynamicArray<>(length);
+    }
+
+    /**
+     * Creates a DynamicArray backed by a circular buffer, for queue-like workloads
+     * Adding or removing at either end costs O(1), and other positions move at most half the elements
+     * @param <T> Type of elements stored in array
+     * @param length Initial capacity of array
+     * @return New, empty ring-buffer DynamicArray
+     * @throws IllegalArgumentException if length is negative
+     */
+    public static <T> DynamicArray<T> ringBuffer(int length) {
+        return new RingBufferDynamicArray<>(length);
     }
 
     /**
@@ -33,9 +90,13 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
         this.capacity = other.capacity;
         this.array = allocate(capacity);
         this.size = other.size;
+        this.growthPolicy = other.growthPolicy;
+        this.shrinkPolicy = other.shrinkPolicy;
+        this.metrics = other.metrics;
 
-        for (int i = 0; i < size; i++) {
-            this.array[i] = other.array[i];
+        other.copyOut(0, this.array, 0, size);
+        if (metrics != null) {
+            metrics.allocated("copy", size);
         }
     }
 
@@ -50,6 +111,7 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
         if (index < 0 || index >= size) {
             throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
         }
+        prepareForWrite();
         T oldValue = array[index];
         array[index] = newElement;
         return oldValue;
@@ -87,6 +149,165 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
         return (T[]) new Object[len];
     }
 
+    /**
+     * Returns number of elements the array can hold before it has to grow
+     * @return Allocated capacity of array
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Makes sure the array can hold at least the given number of elements without growing again
+     * Uses the growth policy so that repeated calls stay amortized O(1) per added element
+     * @param minCapacity Smallest capacity needed
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity) {
+            resize(growthPolicy.grow(capacity, minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the allocated capacity down to the number of stored elements
+     */
+    public void trimToSize() {
+        compact();
+    }
+
+    /**
+     * Releases all unused capacity right away, regardless of the shrink policy
+     * @return Number of slots released
+     */
+    public int compact() {
+        int released = capacity - size;
+        if (released > 0) {
+            resize(size);
+        }
+        return released;
+    }
+
+    /**
+     * Sets the policy that decides when removals give back capacity
+     * @param shrinkPolicy Shrink policy to use from now on
+     * @throws IllegalArgumentException if shrinkPolicy is null
+     */
+    public void setShrinkPolicy(ShrinkPolicy shrinkPolicy) {
+        if (shrinkPolicy == null) {
+            throw new IllegalArgumentException("Shrink policy cannot be null.");
+        }
+        this.shrinkPolicy = shrinkPolicy;
+    }
+
+    /**
+     * Turns instrumentation on or off for this array
+     * While on, resizes, element shifts and whole-array allocations are reported to metrics, and
+     * arrays created by whole-array operations report to the same metrics; while off, each of
+     * those events costs one null check
+     * @param metrics Metrics to report to, or null to turn instrumentation off
+     */
+    public void setMetrics(ArrayMetrics metrics) {
+        this.metrics = metrics;
+        if (metrics != null) {
+            metrics.attached(capacity);
+        }
+    }
+
+    /**
+     * Returns the metrics this array reports to
+     * @return Attached metrics, or null if instrumentation is off
+     */
+    public ArrayMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Reports elements moved within the backing array to the attached metrics, if any
+     * Storage modes call this from their own shifting code
+     * @param elementsMoved Number of elements moved
+     */
+    protected void recordShift(int elementsMoved) {
+        if (metrics != null && elementsMoved > 0) {
+            metrics.shifted(elementsMoved);
+        }
+    }
+
+    /**
+     * Reports the capacity, size and estimated retained bytes of this array
+     * The estimate is shallow and does not include the element objects themselves
+     * @return Current memory footprint
+     */
+    public MemoryFootprint footprint() {
+        return MemoryFootprint.estimate(FIELD_BYTES, capacity, size, MemoryFootprint.REFERENCE_BYTES);
+    }
+
+    /**
+     * Asks the shrink policy whether capacity should be released, and shrinks if so
+     * Called after every removal
+     */
+    protected void shrinkIfNeeded() {
+        int newCapacity = shrinkPolicy.shrink(capacity, size);
+        if (newCapacity < capacity) {
+            resize(Math.max(newCapacity, size));
+        }
+    }
+
+    /**
+     * Rearranges the backing array so that the elements occupy slots [0, size) in order
+     * Storage modes with a different internal layout override this; bulk operations that edit
+     * the backing array directly call it first, while read-only operations use slotOf and copyOut instead
+     * The plain layout is already linear, so this does nothing by default
+     */
+    protected void linearize() {
+    }
+
+    /**
+     * Maps an element index to the slot of the backing array that holds it
+     * Read-only operations go through this instead of calling linearize, so reading never rearranges the array
+     * The plain layout stores element i in slot i
+     * @param index Index of element, between 0 and size
+     * @return Slot holding that element
+     */
+    protected int slotOf(int index) {
+        return index;
+    }
+
+    /**
+     * Copies a range of elements, in order, into a Java array without rearranging this array
+     * Storage modes whose elements are split in two runs override this with one bulk copy per run
+     * @param fromIndex Index of first element to copy
+     * @param dest Array receiving the elements
+     * @param destPos Position in dest of the first copied element
+     * @param length Number of elements to copy
+     */
+    protected void copyOut(int fromIndex, Object[] dest, int destPos, int length) {
+        System.arraycopy(array, fromIndex, dest, destPos, length);
+    }
+
+    /**
+     * Called after a batch operation has edited the linearized backing array directly and changed size
+     * Storage modes reset their own bookkeeping to describe elements in slots [0, size) with every other slot null
+     * The plain layout keeps no extra bookkeeping, so this does nothing by default
+     */
+    protected void linearLayoutRestored() {
+    }
+
+    /**
+     * Private utility that moves the elements into a newly allocated array of given capacity
+     * @param newCapacity Length of the new backing array (must be at least size)
+     */
+    private void resize(int newCapacity) {
+        linearize();
+        if (metrics != null) {
+            metrics.resized(capacity, newCapacity, size);
+        }
+        T[] newArray = allocate(newCapacity);
+        System.arraycopy(array, 0, newArray, 0, size);
+        this.array = newArray;
+        this.capacity = newCapacity;
+        this.shared = false; //a snapshot keeps the old array
+    }
+
     /**
      * Inserts specified element at specified index
      * @param index Index to insert element at
@@ -98,30 +319,56 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
             throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
         }
 
-        T[] newArray = allocate(size + 1);
-
-        for (int i = 0; i < index; i++) {
-            newArray[i] = array[i];
+        if (size == capacity) {
+            ensureCapacity(size + 1);
         }
+        prepareForWrite();
 
-        newArray[index] = value;
+        //shifts elements after index one slot to the right
+        System.arraycopy(array, index, array, index + 1, size - index);
+        recordShift(size - index);
 
-        for (int i = index; i < size; i++) {
-            newArray[i+1] = array[i];
-        }
-        
-        this.array = newArray;
+        array[index] = value;
         size++;
+        modCount++;
     }
 
     /**
-     * Appends specified element to end of array
+     * Appends specified element to end of array in amortized O(1) time
      *  @param value Element to be appended
      */
     public void add(T value) {
         add(size, value);
     }
 
+    /**
+     * Inserts specified element at front of array
+     * O(1) for ring-buffer arrays, O(n) otherwise
+     * @param value Element to be inserted
+     */
+    public void addFirst(T value) {
+        add(0, value);
+    }
+
+    /**
+     * Removes and returns first element of array
+     * O(1) for ring-buffer arrays, O(n) otherwise
+     * @return Element previously at index 0
+     * @throws IndexOutOfBoundsException if array is empty
+     */
+    public T removeFirst() {
+        return remove(0);
+    }
+
+    /**
+     * Removes and returns last element of array in O(1) time
+     * @return Element previously at index size() - 1
+     * @throws IndexOutOfBoundsException if array is empty
+     */
+    public T removeLast() {
+        return remove(size - 1);
+    }
+
     /**
      * Removes and returns element at specified index
      * @param index Index of element to remove
@@ -133,46 +380,369 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
             throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
         }
 
+        prepareForWrite();
         T removedElement = array[index];
 
-        //T[] newArray = allocate(size - 1);
-        
         //shifts elements to the left
-        for (int i = index; i < size - 1; i++) {
-            array[i] = array[i + 1];
-        }
-
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        recordShift(size - index - 1);
 
         array[size - 1] = null; //clear last element in array
         size--; //array has one less element
+        modCount++;
+        shrinkIfNeeded();
 
         return removedElement;
     }
 
-    
+    /**
+     * Inserts all elements of another array at specified index, shifting later elements only once
+     * @param index Index where the first new element goes
+     * @param values Array whose elements are inserted, in order (may be this array or a view of it)
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public void addAll(int index, DynamicArrayADT<? extends T> values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        if (values == this || !(values instanceof DynamicArray)) {
+            //values may read through to this array, so it is copied out before anything shifts
+            addAll(index, DynamicArray.<T>copyOf(values));
+            return;
+        }
+        DynamicArray<? extends T> other = (DynamicArray<? extends T>) values;
+        int count = other.size;
+        openGap(index, count);
+        other.copyOut(0, array, index, count);
+        finishStructuralEdit();
+    }
+
+    /**
+     * Inserts all elements of a collection at specified index, shifting later elements only once
+     * @param index Index where the first new element goes
+     * @param values Collection whose elements are inserted, in iteration order
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    @SuppressWarnings("unchecked")
+    public void addAll(int index, Collection<? extends T> values) {
+        addAll(index, (T[]) values.toArray());
+    }
+
+    /**
+     * Inserts all elements of a Java array at specified index, shifting later elements only once
+     * @param index Index where the first new element goes
+     * @param values Elements to insert, in order
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public void addAll(int index, T[] values) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        openGap(index, values.length);
+        System.arraycopy(values, 0, array, index, values.length);
+        finishStructuralEdit();
+    }
+
+    /**
+     * Removes elements in specified range in place, shifting later elements only once
+     * Unlike delete, no new array is created
+     * @param fromIndex Start index of range of elements to be removed (included)
+     * @param toIndex End index of range of elements to be removed (not included)
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        prepareForWrite();
+        linearize();
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+        recordShift(size - toIndex);
+        truncate(size - (toIndex - fromIndex));
+        finishStructuralEdit();
+        shrinkIfNeeded();
+    }
+
+    /**
+     * Removes every element that matches a condition, in one pass that moves each kept element at most once
+     * The condition is checked on all elements before anything is removed, so if it throws the array is unchanged
+     * @param filter Condition that returns true for elements to remove
+     * @return true if any element was removed
+     * @throws ConcurrentModificationException if filter structurally modifies this array
+     */
+    public boolean removeIf(Predicate<? super T> filter) {
+        linearize();
+        int expectedModCount = modCount;
+        long[] doomed = new long[(size + 63) >>> 6]; //bit i set if element i is removed
+        int removed = 0;
+        int firstRemoved = size; //elements before it are not moved
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            if (filter.test(array[i])) {
+                doomed[i >>> 6] |= 1L << i;
+                firstRemoved = Math.min(firstRemoved, i);
+                removed++;
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+        if (removed == 0) {
+            return false;
+        }
+        prepareForWrite();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if ((doomed[i >>> 6] & (1L << i)) == 0) {
+                array[kept++] = array[i];
+            }
+        }
+        recordShift(kept - firstRemoved);
+        truncate(kept);
+        finishStructuralEdit();
+        shrinkIfNeeded();
+        return true;
+    }
+
+    /**
+     * Replaces every element with the result of applying an operator to it
+     * @param operator Function applied to each element
+     * @throws ConcurrentModificationException if operator structurally modifies this array
+     */
+    public void replaceAll(UnaryOperator<T> operator) {
+        prepareForWrite();
+        linearize();
+        int expectedModCount = modCount;
+        for (int i = 0; i < size && modCount == expectedModCount; i++) {
+            array[i] = operator.apply(array[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Overwrites consecutive elements starting at specified index with the elements of another array
+     * @param index Index of first element to overwrite
+     * @param values Array whose elements are copied, in order (may be this array or a view of it)
+     * @throws IndexOutOfBoundsException if the range [index, index + values.size()) is not inside this array
+     */
+    public void setRange(int index, DynamicArrayADT<? extends T> values) {
+        int count = values.size();
+        if (index < 0 || index > size - count) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+        if (!(values instanceof DynamicArray)) {
+            //values may read through to this array, so it is copied out before anything is overwritten
+            setRange(index, DynamicArray.<T>copyOf(values));
+            return;
+        }
+        prepareForWrite();
+        linearize();
+        DynamicArray<? extends T> other = (DynamicArray<? extends T>) values;
+        other.copyOut(0, array, index, count); //safe even when other is this array, which is now linear
+    }
+
+    /**
+     * Overwrites consecutive elements starting at specified index with the elements of a Java array
+     * @param index Index of first element to overwrite
+     * @param values Elements to copy, in order
+     * @throws IndexOutOfBoundsException if the range [index, index + values.length) is not inside this array
+     */
+    public void setRange(int index, T[] values) {
+        if (index < 0 || index > size - values.length) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+        prepareForWrite();
+        linearize();
+        System.arraycopy(values, 0, array, index, values.length);
+    }
+
+    /**
+     * Private utility that copies the elements of any array into a new Java array, in order
+     * Batch operations use it for sources that are not a DynamicArray, which may be views of the array being edited
+     * @param <T> Type of elements stored in array
+     * @param values Array to copy elements from
+     * @return New Java array with values' elements
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] copyOf(DynamicArrayADT<? extends T> values) {
+        Object[] copy = new Object[values.size()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = values.get(i);
+        }
+        return (T[]) copy;
+    }
+
+    /**
+     * Private utility that makes room for count elements at index with a single shift
+     * Leaves the array linearized, with slots [index, index + count) ready to be filled
+     * @param index Index where the room starts (already checked)
+     * @param count Number of slots to open
+     */
+    private void openGap(int index, int count) {
+        ensureCapacity(size + count);
+        prepareForWrite();
+        linearize();
+        System.arraycopy(array, index, array, index + count, size - index);
+        recordShift(size - index);
+        size += count;
+    }
+
+    /**
+     * Private utility that drops the elements at and after newSize, clearing their slots
+     * @param newSize Number of elements to keep
+     */
+    private void truncate(int newSize) {
+        for (int i = newSize; i < size; i++) {
+            array[i] = null;
+        }
+        size = newSize;
+    }
+
+    /**
+     * Private utility that ends a batch operation that changed size: lets storage modes
+     * catch up with the linear layout and invalidates views and iterators
+     */
+    private void finishStructuralEdit() {
+        linearLayoutRestored();
+        modCount++;
+    }
+
+    /**
+     * Returns number of structural modifications (adds and removes) made to this array so far
+     * Views compare this against the value they saw when created to detect changes to their parent
+     * @return Structural modification count
+     */
+    int modCount() {
+        return modCount;
+    }
+
+    /**
+     * Returns a view of elements in specified range in O(1) time, without copying
+     * get and set on the view read and write through to this array
+     * The view becomes invalid once this array is structurally modified (by add or remove)
+     * @param fromIndex Start index of range (included)
+     * @param toIndex End index of range (not included)
+     * @return View over the range [fromIndex, toIndex)
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public DynamicArrayView<T> view(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > this.size || toIndex > this.size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+        return new DynamicArrayView<>(this, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns a view of elements from start to specified index, without copying
+     * @param index Ending index for prefix (not included)
+     * @return View over the prefix
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public DynamicArrayView<T> prefixView(int index) {
+        return view(0, index);
+    }
+
+    /**
+     * Returns a view of elements from specified index to end, without copying
+     * @param index Starting index for suffix (included)
+     * @return View over the suffix
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public DynamicArrayView<T> suffixView(int index) {
+        return view(index, this.size);
+    }
+
+    /**
+     * Returns a lazy version of this array, whose whole-array operations record a plan instead of copying
+     * A chain such as a.lazy().append(b.lazy()).delete(x, y).extract(p, q) copies elements only once,
+     * when the result is first read or built
+     * @return LazyDynamicArray over all elements of this array
+     */
+    public LazyDynamicArray<T> lazy() {
+        return new LazyDynamicArray<>(this);
+    }
+
+    /**
+     * Returns a read-only copy of the current elements in O(1) time, by sharing the backing array
+     * The next write to this array (set, add, remove or any batch operation) copies the backing array
+     * once before changing it, so the snapshot keeps the elements it was taken with
+     * Taking several snapshots between two writes costs only that one copy
+     * @return Snapshot of the elements from index 0 to size() - 1
+     */
+    public DynamicArraySnapshot<T> snapshot() {
+        linearize();
+        shared = true;
+        return new DynamicArraySnapshot<>(array, size);
+    }
+
+    /**
+     * Copies the backing array if a snapshot is still sharing it, so that the snapshot does not see the write
+     * Must be called before anything is written into the backing array, including by storage modes' own code;
+     * a snapshot is only taken of a linearized array, so the copy only needs slots [0, size)
+     * The copy is reported to the attached metrics, if any, as a "snapshot" allocation
+     */
+    protected void prepareForWrite() {
+        if (shared) {
+            T[] copy = allocate(capacity);
+            System.arraycopy(array, 0, copy, 0, size);
+            array = copy;
+            shared = false;
+            if (metrics != null) {
+                metrics.allocated("snapshot", size);
+            }
+        }
+    }
+
+    /**
+     * Utility that creates the empty result of a whole-array operation
+     * The result inherits this array's growth policy and metrics, and the allocation is reported to the metrics
+     * @param <R> Type of elements the result will hold, which differs from T for operations such as map
+     * @param operation Name of the whole-array operation, for metrics
+     * @param length Exact number of elements the result will hold
+     * @return New, empty DynamicArray with capacity length
+     */
+    <R> DynamicArray<R> newResult(String operation, int length) {
+        DynamicArray<R> result = new DynamicArray<>(length, growthPolicy);
+        if (metrics != null) {
+            result.metrics = metrics;
+            metrics.allocated(operation, length);
+        }
+        return result;
+    }
+
+    /**
+     * Utility that copies a contiguous range of this array onto the end of another array in one bulk move
+     * @param fromIndex Start index of range to copy (included)
+     * @param toIndex End index of range to copy (not included)
+     * @param dest DynamicArray receiving the elements, which must already have room for them
+     */
+    void copyRangeInto(int fromIndex, int toIndex, DynamicArray<T> dest) {
+        copyOut(fromIndex, dest.array, dest.size, toIndex - fromIndex);
+        dest.size += toIndex - fromIndex;
+    }
+
     /**
      * Appends all elements from another DynamicArray to this array
+     * Runs in O(n) time in the size of the result, copying each element exactly once
      * @param other DynamicArray containing elements to be appended
      * @return result New DynamicArray with all elements from both arrays
      */
     public DynamicArray<T> append(DynamicArray<T> other) {
-        DynamicArray<T> result = new DynamicArray<>(this.size + other.size);
-        
-        //copy elements from current array
-        for (int i = 0; i < this.size; i++) {
-            result.add(this.get(i));
-        }
+        DynamicArray<T> result = newResult("append", this.size + other.size);
 
-        //copy elements from passed array
-        for (int i = 0; i < other.size; i++) {
-            result.add(other.get(i));
-        }
+        this.copyRangeInto(0, this.size, result); //copy elements from current array
+        other.copyRangeInto(0, other.size, result); //copy elements from passed array
 
         return result;
     }
 
     /**
      * Inserts all elements from another DynamicArray at specified index
+     * Runs in O(n) time in the size of the result, copying each element exactly once
      * @param index Index where the other array is inserted
      * @param other DynamicArray with elements to be inserted
      * @return result New DynamicArray with combined elements
@@ -183,28 +753,18 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
             throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
         }
 
-        DynamicArray<T> result = new DynamicArray<>(this.size + other.size);
-        
-        //copy elements before insertion point
-        for (int i = 0; i < index; i++) {
-            result.add(this.get(i));
-        }
-        
-        //copy elements of passed array
-        for (int i = 0; i < other.size; i++) {
-            result.add(other.get(i));
-        }
+        DynamicArray<T> result = newResult("insert", this.size + other.size);
 
-        //copy elements after insertion point, first getting element at the index (of the current array) we previously stopped at
-        for (int i = index; i < this.size; i++) {
-            result.add(this.get(i));
-        }
+        this.copyRangeInto(0, index, result); //copy elements before insertion point
+        other.copyRangeInto(0, other.size, result); //copy elements of passed array
+        this.copyRangeInto(index, this.size, result); //copy elements after insertion point
 
         return result;
     }
 
     /**
      * Creates new array containing elements from specified index to end
+     * Runs in O(n) time in the size of the result
      * @param index Starting index for suffix (included)
      * @return result New DynamicArray that has the suffix elements
      * @throws IndexOutOfBoundsException if index out of range
@@ -214,18 +774,15 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
             throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
         }
 
-        DynamicArray<T> result = new DynamicArray<>(this.size - index);
-
-        for (int i = index; i < this.size; i++) {
-            result.add(this.get(i));
-        }
+        DynamicArray<T> result = newResult("splitSuffix", this.size - index);
+        this.copyRangeInto(index, this.size, result);
 
         return result;
-
     }
 
     /**
      * Creates new array containing elements from start to specified index
+     * Runs in O(n) time in the size of the result
      * @param index Ending index for prefix (not included)
      * @return result New DynamicArray that has the prefix elements
      * @throws IndexOutOfBoundsException if index out of range
@@ -235,17 +792,15 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
             throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
         }
 
-        DynamicArray<T> result = new DynamicArray<>(index);
-
-        for (int i = 0; i < index; i++) {
-            result.add(this.get(i));
-        }
+        DynamicArray<T> result = newResult("splitPrefix", index);
+        this.copyRangeInto(0, index, result);
 
         return result;
     }
 
     /**
      * Creates new array with elements in specified range removed
+     * Runs in O(n) time in the size of the result
      * @param fromIndex Start index of range of elements to be removed (included)
      * @param toIndex End index of range of elements to be removed (not included)
      * @return result New DynamicArray with range removed
@@ -257,21 +812,17 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
             throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
         }
 
-        DynamicArray<T> result = new DynamicArray<>(this.size - (toIndex - fromIndex));
+        DynamicArray<T> result = newResult("delete", this.size - (toIndex - fromIndex));
 
-        for (int i = 0; i < fromIndex; i++) {
-            result.add(this.get(i));
-        }
-
-        for (int i = toIndex; i < this.size; i++) {
-            result.add(this.get(i));
-        }
+        this.copyRangeInto(0, fromIndex, result);
+        this.copyRangeInto(toIndex, this.size, result);
 
         return result;
     }
 
     /**
      * Creates new array with elements in specified range
+     * Runs in O(n) time in the size of the result
      * @param fromIndex Start index of extracted range (included)
      * @param toIndex End index of extracted range (not included)
      * @return result New DynamicArray with extracted elements
@@ -283,13 +834,138 @@ public class DynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperations
             throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
         }
 
-        DynamicArray<T> result = new DynamicArray<>(toIndex - fromIndex);
+        DynamicArray<T> result = newResult("extract", toIndex - fromIndex);
+        this.copyRangeInto(fromIndex, toIndex, result);
+
+        return result;
+    }
 
-        for (int i = fromIndex; i < toIndex; i++) {
-            result.add(this.get(i));
+    /**
+     * Returns an iterator over the elements in order
+     * The iterator reads the backing array directly, without a bounds check per element,
+     * and fails fast with ConcurrentModificationException if the array is added to or removed from
+     * @return Iterator over elements from index 0 to size() - 1
+     */
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Calls action on every element in order
+     * @param action Action to perform on each element
+     * @throws ConcurrentModificationException if action adds to or removes from this array
+     */
+    public void forEach(Consumer<? super T> action) {
+        int expectedModCount = modCount;
+        int end = size;
+        for (int i = 0; i < end && modCount == expectedModCount; i++) {
+            action.accept(array[slotOf(i)]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException("Array was structurally modified during iteration.");
         }
+    }
 
-        return result;
+    /**
+     * Returns a spliterator over the elements, which reports SIZED, SUBSIZED and ORDERED
+     * Splitting halves the remaining range in O(1) without copying, so parallel streams divide work evenly
+     * The spliterator is bound to the array's contents when it is created and fails fast on later adds or removes
+     * @return Spliterator over elements from index 0 to size() - 1
+     */
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator(0, size, modCount);
     }
-}
 
+    /**
+     * Returns a sequential stream over the elements in order
+     * @return Stream of elements
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel stream over the elements, split evenly by index range
+     * @return Parallel stream of elements
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Fail-fast iterator over the backing array, visiting slots in element order
+     */
+    private class Itr implements Iterator<T> {
+        private int cursor; //index of next element to return
+        private final int expectedModCount = modCount;
+
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("Array was structurally modified during iteration.");
+            }
+            if (cursor >= size) {
+                throw new NoSuchElementException("No elements left in array.");
+            }
+            return array[slotOf(cursor++)];
+        }
+    }
+
+    /**
+     * Spliterator over an index range [origin, fence) of the elements, read through slotOf
+     */
+    private class ArraySpliterator implements Spliterator<T> {
+        private int origin; //index of next element to return
+        private final int fence; //one past last index covered
+        private final int expectedModCount;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.origin = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        public Spliterator<T> trySplit() {
+            int mid = (origin + fence) >>> 1;
+            if (mid <= origin) {
+                return null;
+            }
+            Spliterator<T> prefix = new ArraySpliterator(origin, mid, expectedModCount);
+            origin = mid;
+            return prefix;
+        }
+
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("Array was structurally modified during iteration.");
+            }
+            if (origin >= fence) {
+                return false;
+            }
+            action.accept(array[slotOf(origin++)]);
+            return true;
+        }
+
+        public void forEachRemaining(Consumer<? super T> action) {
+            T[] elements = array;
+            for (int i = origin; i < fence; i++) {
+                action.accept(elements[slotOf(i)]);
+            }
+            origin = fence;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("Array was structurally modified during iteration.");
+            }
+        }
+
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED;
+        }
+    }
+}
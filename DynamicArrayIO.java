@@ -0,0 +1,301 @@
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Streams arrays to and from a compact binary format
+ * The format is the same one MappedDynamicArray saves: a 32-byte ArrayHeader (format version,
+ * element count, codec name and width) followed by the little-endian encoded elements, so a
+ * stream written to a file can also be opened memory-mapped
+ * All I/O goes through a 1 MiB direct buffer. Primitive and off-heap arrays fill it with one bulk
+ * copy per buffer, so writing or reading them costs a few memory copies per MiB and is limited by
+ * the stream rather than by per-element work; other arrays are encoded element by element
+ * Streams and channels passed in are not closed
+ */
+public final class DynamicArrayIO {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+
+    /**
+     * Private constructor, since this class only has static methods
+     */
+    private DynamicArrayIO() {
+    }
+
+    /**
+     * Writes a primitive array with its own codec to a stream
+     * @param <T> Boxed type of elements stored in array
+     * @param array Array to write
+     * @param out Stream to write to
+     * @throws IOException if writing fails
+     */
+    public static <T> void writeTo(PrimitiveDynamicArray<T, ?> array, OutputStream out) throws IOException {
+        writeTo(array, array.codec(), out);
+    }
+
+    /**
+     * Writes a primitive array with its own codec to a channel
+     * @param <T> Boxed type of elements stored in array
+     * @param array Array to write
+     * @param out Channel to write to
+     * @throws IOException if writing fails
+     */
+    public static <T> void writeTo(PrimitiveDynamicArray<T, ?> array, WritableByteChannel out) throws IOException {
+        writeTo(array, array.codec(), out);
+    }
+
+    /**
+     * Writes an array to a stream, encoding elements with codec
+     * @param <T> Type of elements stored in array
+     * @param array Array to write
+     * @param codec Codec used to encode elements
+     * @param out Stream to write to
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if the codec's name or width cannot be stored in the header
+     */
+    public static <T> void writeTo(DynamicArrayADT<T> array, ElementCodec<T> codec, OutputStream out) throws IOException {
+        writeTo(array, codec, out instanceof FileOutputStream ? ((FileOutputStream) out).getChannel() : Channels.newChannel(out));
+    }
+
+    /**
+     * Writes an array to a channel, encoding elements with codec
+     * @param <T> Type of elements stored in array
+     * @param array Array to write
+     * @param codec Codec used to encode elements
+     * @param out Channel to write to
+     * @throws IOException if writing fails
+     * @throws IllegalArgumentException if the codec's name or width cannot be stored in the header
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void writeTo(DynamicArrayADT<T> array, ElementCodec<T> codec, WritableByteChannel out) throws IOException {
+        ByteBuffer buffer = newBuffer(codec.width());
+        new ArrayHeader(codec, array.size()).write(buffer);
+        for (int from = 0; from < array.size(); ) {
+            int to = Math.min(array.size(), from + buffer.remaining() / codec.width());
+            if (array instanceof PrimitiveDynamicArray && ((PrimitiveDynamicArray<T, ?>) array).codec() == codec) {
+                ((PrimitiveDynamicArray<T, ?>) array).putElements(buffer, from, to);
+            } else if (array instanceof OffHeapDynamicArray && ((OffHeapDynamicArray<T>) array).codec() == codec) {
+                ((OffHeapDynamicArray<T>) array).putElements(buffer, from, to);
+            } else {
+                for (int i = from; i < to; i++) {
+                    codec.write(buffer, buffer.position(), array.get(i));
+                    buffer.position(buffer.position() + codec.width());
+                }
+            }
+            drain(buffer, out);
+            from = to;
+        }
+        drain(buffer, out);
+    }
+
+    /**
+     * Reads an array written by writeTo from a stream into a new DynamicArray
+     * @param <T> Type of elements stored in array
+     * @param in Stream to read from, positioned at a header
+     * @param codec Codec the elements were written with
+     * @return New DynamicArray holding the decoded elements
+     * @throws IOException if reading fails, the data is not in this format, or the stream ends early
+     * @throws IllegalArgumentException if the data was written with a different codec
+     */
+    public static <T> DynamicArray<T> readFrom(InputStream in, ElementCodec<T> codec) throws IOException {
+        return readFrom(channelOf(in), codec);
+    }
+
+    /**
+     * Reads an array written by writeTo from a channel into a new DynamicArray
+     * @param <T> Type of elements stored in array
+     * @param in Channel to read from, positioned at a header
+     * @param codec Codec the elements were written with
+     * @return New DynamicArray holding the decoded elements
+     * @throws IOException if reading fails, the data is not in this format, or the channel ends early
+     * @throws IllegalArgumentException if the data was written with a different codec
+     */
+    public static <T> DynamicArray<T> readFrom(ReadableByteChannel in, ElementCodec<T> codec) throws IOException {
+        ByteBuffer buffer = newBuffer(codec.width());
+        int remaining = readHeader(in, buffer, codec);
+        DynamicArray<T> result = new DynamicArray<>(firstBatch(buffer, remaining, codec.width()));
+        while (remaining > 0) {
+            int count = fill(in, buffer, remaining, codec.width());
+            for (int i = 0; i < count; i++) {
+                result.add(codec.read(buffer, i * codec.width()));
+            }
+            remaining -= count;
+        }
+        return result;
+    }
+
+    /**
+     * Reads an array written by writeTo from a stream and appends its elements to a primitive array in bulk
+     * @param <A> Type of primitive array
+     * @param in Stream to read from, positioned at a header
+     * @param target Array to append to
+     * @return target
+     * @throws IOException if reading fails, the data is not in this format, or the stream ends early
+     * @throws IllegalArgumentException if the data's codec does not match the array's element type
+     */
+    public static <A extends PrimitiveDynamicArray<?, A>> A readInto(InputStream in, A target) throws IOException {
+        return readInto(channelOf(in), target);
+    }
+
+    /**
+     * Reads an array written by writeTo from a channel and appends its elements to a primitive array in bulk
+     * @param <A> Type of primitive array
+     * @param in Channel to read from, positioned at a header
+     * @param target Array to append to
+     * @return target
+     * @throws IOException if reading fails, the data is not in this format, or the channel ends early
+     * @throws IllegalArgumentException if the data's codec does not match the array's element type
+     */
+    public static <A extends PrimitiveDynamicArray<?, A>> A readInto(ReadableByteChannel in, A target) throws IOException {
+        int width = target.codec().width();
+        ByteBuffer buffer = newBuffer(width);
+        int remaining = readHeader(in, buffer, target.codec());
+        target.ensureCapacity(target.size() + firstBatch(buffer, remaining, width));
+        while (remaining > 0) {
+            int count = fill(in, buffer, remaining, width);
+            target.getElements(buffer, count);
+            remaining -= count;
+        }
+        return target;
+    }
+
+    /**
+     * Reads an array written by writeTo from a stream and appends its encoded elements to an off-heap array in bulk
+     * @param <T> Type of elements stored in array
+     * @param in Stream to read from, positioned at a header
+     * @param target Array to append to
+     * @return target
+     * @throws IOException if reading fails, the data is not in this format, or the stream ends early
+     * @throws IllegalArgumentException if the data was written with a different codec than the array's
+     */
+    public static <T> OffHeapDynamicArray<T> readInto(InputStream in, OffHeapDynamicArray<T> target) throws IOException {
+        return readInto(channelOf(in), target);
+    }
+
+    /**
+     * Reads an array written by writeTo from a channel and appends its encoded elements to an off-heap array in bulk
+     * @param <T> Type of elements stored in array
+     * @param in Channel to read from, positioned at a header
+     * @param target Array to append to
+     * @return target
+     * @throws IOException if reading fails, the data is not in this format, or the channel ends early
+     * @throws IllegalArgumentException if the data was written with a different codec than the array's
+     */
+    public static <T> OffHeapDynamicArray<T> readInto(ReadableByteChannel in, OffHeapDynamicArray<T> target) throws IOException {
+        int width = target.codec().width();
+        ByteBuffer buffer = newBuffer(width);
+        int remaining = readHeader(in, buffer, target.codec());
+        target.ensureCapacity(target.size() + firstBatch(buffer, remaining, width));
+        while (remaining > 0) {
+            int count = fill(in, buffer, remaining, width);
+            target.getElements(buffer, count);
+            remaining -= count;
+        }
+        return target;
+    }
+
+    /**
+     * Private utility that allocates the I/O buffer, rounded down to a whole number of elements
+     * @param width Bytes per element
+     * @return Little-endian direct buffer that can hold the header and at least one element
+     */
+    private static ByteBuffer newBuffer(int width) {
+        int bytes = Math.max(BUFFER_BYTES / width * width, ArrayHeader.BYTES + width);
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Private utility that wraps a stream in a channel, using the file's own channel when there is one
+     * @param in Stream to wrap
+     * @return Channel reading from the stream
+     */
+    private static ReadableByteChannel channelOf(InputStream in) {
+        return in instanceof FileInputStream ? ((FileInputStream) in).getChannel() : Channels.newChannel(in);
+    }
+
+    /**
+     * Private utility that writes out everything in the buffer and clears it
+     * @param buffer Buffer whose position marks the end of the pending bytes
+     * @param out Channel to write to
+     * @throws IOException if writing fails
+     */
+    private static void drain(ByteBuffer buffer, WritableByteChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Private utility that reads and checks a header
+     * @param in Channel to read from
+     * @param buffer I/O buffer
+     * @param codec Codec the caller wants to decode with
+     * @return Number of elements that follow the header
+     * @throws IOException if the data is not a header this version understands or the channel ends early
+     */
+    private static int readHeader(ReadableByteChannel in, ByteBuffer buffer, ElementCodec<?> codec) throws IOException {
+        buffer.clear().limit(ArrayHeader.BYTES);
+        readFully(in, buffer);
+        buffer.flip();
+        ArrayHeader header = ArrayHeader.read(buffer);
+        header.checkCodec(codec);
+        if (header.size > Integer.MAX_VALUE - 8) {
+            throw new IOException("Data holds more elements than an array can index.");
+        }
+        return (int) header.size;
+    }
+
+    /**
+     * Private utility that returns how many elements to reserve room for before reading any
+     * The header's count is not trusted that far: room for one buffer's worth is reserved,
+     * and the array grows as further batches actually arrive, so a corrupt count cannot force a huge allocation
+     * @param buffer I/O buffer
+     * @param remaining Number of elements the header claims follow it
+     * @param width Bytes per element
+     * @return Number of elements in the first batch
+     */
+    private static int firstBatch(ByteBuffer buffer, int remaining, int width) {
+        return Math.min(remaining, buffer.capacity() / width);
+    }
+
+    /**
+     * Private utility that reads the next batch of whole elements into the buffer
+     * @param in Channel to read from
+     * @param buffer I/O buffer; left positioned at 0 with the elements ready to decode
+     * @param remaining Number of elements still to read
+     * @param width Bytes per element
+     * @return Number of elements now in the buffer
+     * @throws IOException if reading fails or the channel ends early
+     */
+    private static int fill(ReadableByteChannel in, ByteBuffer buffer, int remaining, int width) throws IOException {
+        int count = Math.min(remaining, buffer.capacity() / width);
+        buffer.clear().limit(count * width);
+        readFully(in, buffer);
+        buffer.flip();
+        return count;
+    }
+
+    /**
+     * Private utility that reads until the buffer is full
+     * @param in Channel to read from
+     * @param buffer Buffer to fill up to its limit
+     * @throws IOException if reading fails or the channel ends first
+     */
+    private static void readFully(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (in.read(buffer) < 0) {
+                throw new EOFException("Data ended before the whole array was read.");
+            }
+        }
+    }
+}
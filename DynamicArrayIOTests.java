@@ -0,0 +1,172 @@
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public class DynamicArrayIOTests {
+
+    /**
+     * Writes an array to a byte array with its own codec
+     */
+    private byte[] serialize(PrimitiveDynamicArray<?, ?> array) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DynamicArrayIO.writeTo(array, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Tests that an array several times larger than the I/O buffer is written
+     * with a 32-byte header and reads back unchanged
+     */
+    @Test
+    public void testPrimitiveRoundTripSpanningSeveralBuffers() throws IOException {
+        //600,000 longs are 4.8 MB, several times the 1 MiB I/O buffer
+        LongDynamicArray numbers = new LongDynamicArray(0);
+        for (long i = 0; i < 600_000; i++) {
+            numbers.addLong(i * i);
+        }
+        byte[] bytes = serialize(numbers);
+        assertEquals(32 + 600_000 * 8, bytes.length);
+
+        LongDynamicArray copy = DynamicArrayIO.readInto(new ByteArrayInputStream(bytes), new LongDynamicArray(0));
+        assertTrue(Arrays.equals(numbers.toLongArray(), copy.toLongArray()));
+    }
+
+    /**
+     * Tests that readInto adds the read elements after those already in the target
+     */
+    @Test
+    public void testReadIntoAppends() throws IOException {
+        byte[] bytes = serialize(IntDynamicArray.of(3, 4));
+        IntDynamicArray target = IntDynamicArray.of(1, 2);
+        DynamicArrayIO.readInto(new ByteArrayInputStream(bytes), target);
+        assertArrayEquals(new int[] {1, 2, 3, 4}, target.toIntArray());
+    }
+
+    /**
+     * Tests that boxed and primitive arrays can each read what the other wrote
+     */
+    @Test
+    public void testBoxedArrayWithCodec() throws IOException {
+        DynamicArray<Character> letters = new DynamicArray<>(0);
+        for (char c : "stream".toCharArray()) {
+            letters.add(c);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DynamicArrayIO.writeTo(letters, ElementCodec.CHAR, out);
+
+        //boxed and primitive arrays share the format, so either side can read the other's output
+        CharDynamicArray chars = DynamicArrayIO.readInto(new ByteArrayInputStream(out.toByteArray()), new CharDynamicArray(0));
+        assertEquals("stream", new String(chars.toCharArray()));
+        DynamicArray<Character> boxed = DynamicArrayIO.readFrom(new ByteArrayInputStream(serialize(chars)), ElementCodec.CHAR);
+        assertEquals(6, boxed.size());
+        assertEquals('m', boxed.get(5).charValue());
+    }
+
+    /**
+     * Tests that an off-heap array can be written and read back into another off-heap array
+     */
+    @Test
+    public void testOffHeapRoundTrip() throws IOException {
+        OffHeapDynamicArray<Double> doubles = new OffHeapDynamicArray<>(ElementCodec.DOUBLE, 0);
+        for (int i = 0; i < 1000; i++) {
+            doubles.add(i / 8.0);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DynamicArrayIO.writeTo(doubles, ElementCodec.DOUBLE, out);
+        OffHeapDynamicArray<Double> copy = DynamicArrayIO.readInto(new ByteArrayInputStream(out.toByteArray()),
+                new OffHeapDynamicArray<>(ElementCodec.DOUBLE, 0));
+        assertEquals(1000, copy.size());
+        assertEquals(999 / 8.0, copy.get(999), 0.0);
+    }
+
+    /**
+     * Tests that a file written through a channel can be mapped by MappedDynamicArray
+     * and read back through a channel
+     */
+    @Test
+    public void testChannelOutputCanBeMemoryMapped() throws IOException {
+        Path file = Files.createTempFile("stream", ".dyna");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                DynamicArrayIO.writeTo(IntDynamicArray.of(5, 6, 7), channel);
+            }
+            try (MappedDynamicArray<Integer> mapped = MappedDynamicArray.open(file, ElementCodec.INT)) {
+                assertEquals(3, mapped.size());
+                assertEquals(Integer.valueOf(7), mapped.get(2));
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                assertEquals(Integer.valueOf(6), DynamicArrayIO.readFrom(channel, ElementCodec.INT).get(1));
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Tests that an empty array is written as just a header and reads back empty
+     */
+    @Test
+    public void testEmptyArray() throws IOException {
+        byte[] bytes = serialize(new DoubleDynamicArray(8));
+        assertEquals(32, bytes.length);
+        assertEquals(0, DynamicArrayIO.readFrom(new ByteArrayInputStream(bytes), ElementCodec.DOUBLE).size());
+    }
+
+    /**
+     * Tests that reading into an array of a different element type throws
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testReadWithWrongCodec() throws IOException {
+        DynamicArrayIO.readInto(new ByteArrayInputStream(serialize(IntDynamicArray.of(1))), new LongDynamicArray(0));
+    }
+
+    /**
+     * Tests that a stream that ends before its last element throws EOFException
+     */
+    @Test(expected = EOFException.class)
+    public void testTruncatedStream() throws IOException {
+        byte[] bytes = serialize(IntDynamicArray.of(1, 2, 3));
+        DynamicArrayIO.readFrom(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)), ElementCodec.INT);
+    }
+
+    /**
+     * Tests that a header claiming far more elements than follow it throws EOFException
+     * once the data runs out, instead of reserving room for the claimed count up front
+     */
+    @Test
+    public void testHeaderCountLargerThanData() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(ArrayHeader.BYTES + 3 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        new ArrayHeader(ElementCodec.INT, Integer.MAX_VALUE - 8).write(buffer);
+        buffer.putInt(1).putInt(2).putInt(3);
+        byte[] bytes = buffer.array();
+        assertThrows(EOFException.class, () -> DynamicArrayIO.readFrom(new ByteArrayInputStream(bytes), ElementCodec.INT));
+        IntDynamicArray target = new IntDynamicArray(0);
+        assertThrows(EOFException.class, () -> DynamicArrayIO.readInto(new ByteArrayInputStream(bytes), target));
+        assertTrue(target.capacity() < 1 << 20);
+        OffHeapDynamicArray<Integer> offHeap = new OffHeapDynamicArray<>(ElementCodec.INT, 0);
+        try {
+            assertThrows(EOFException.class, () -> DynamicArrayIO.readInto(new ByteArrayInputStream(bytes), offHeap));
+        } finally {
+            offHeap.close();
+        }
+    }
+
+    /**
+     * Tests that a stream that does not start with a header throws
+     */
+    @Test(expected = IOException.class)
+    public void testStreamWithoutHeader() throws IOException {
+        DynamicArrayIO.readFrom(new ByteArrayInputStream(new byte[64]), ElementCodec.INT);
+    }
+}
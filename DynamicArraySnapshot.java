@@ -0,0 +1,91 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Read-only copy of a DynamicArray's elements at the moment DynamicArray.snapshot() was called
+ * Taking a snapshot is O(1): it shares the source's backing array instead of copying it,
+ * and the source copies that array only when it is next written to, so later changes never show up here
+ * Any number of snapshots can be taken between two writes, and together they cost that one copy
+ * @param <T> Type of elements stored in array
+ */
+public final class DynamicArraySnapshot<T> implements DynamicArrayADT<T>, Iterable<T> {
+
+    private final T[] array; //backing array shared with the source until its next write; never written here
+    private final int size; //number of elements, in slots [0, size)
+
+    /**
+     * Constructor wraps a linearized backing array
+     * Only DynamicArray.snapshot() creates these
+     * @param array Backing array, which the source promises not to write to again
+     * @param size Number of elements in slots [0, size)
+     */
+    DynamicArraySnapshot(T[] array, int size) {
+        this.array = array;
+        this.size = size;
+    }
+
+    /**
+     * Returns element at specified position in array
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+        return array[index];
+    }
+
+    /**
+     * Not supported, because a snapshot never changes
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return never returns normally
+     * @throws UnsupportedOperationException always; use toDynamicArray() to get a copy that can be changed
+     */
+    public T set(int index, T newElement) {
+        throw new UnsupportedOperationException("DynamicArraySnapshot cannot be changed. Use toDynamicArray() to get a copy that can be.");
+    }
+
+    /**
+     * Returns number of elements in array
+     * @return Number of elements in array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the elements into a new DynamicArray with no spare capacity, in O(n) time
+     * @return New DynamicArray with the same elements
+     */
+    public DynamicArray<T> toDynamicArray() {
+        DynamicArray<T> result = new DynamicArray<>(size);
+        System.arraycopy(array, 0, result.array, 0, size);
+        result.size = size;
+        return result;
+    }
+
+    /**
+     * Returns an iterator over the elements in order
+     * The snapshot never changes, so the iterator never fails
+     * @return Iterator over elements from index 0 to size() - 1
+     */
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int cursor; //index of next element to return
+
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException("No elements left in array.");
+                }
+                return array[cursor++];
+            }
+        };
+    }
+}
@@ -3,6 +3,15 @@ import org.junit.Test;
 import static org.junit.Assert.*;
 
 import java.beans.Transient;
+import java.lang.management.ManagementFactory;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.Random;
+import javax.management.ObjectName;
 
 public class DynamicArrayTests {
 
@@ -36,17 +45,17 @@ public class DynamicArrayTests {
     }
 
     /**
-     * Compares the sizes of a DynamicArray<Character> and a string
+     * Compares the sizes of a DynamicArrayADT<Character> and a string
      */
-    public void compareSize(DynamicArray<Character> arr, String s){
+    public void compareSize(DynamicArrayADT<Character> arr, String s){
         assertEquals("["+s+"] Array lengths are equal", arr.size(), s.length());
     }
 
     /**
-     * Compares each element in a DynamicArray<Character>
+     * Compares each element in a DynamicArrayADT<Character>
      * against those in a string.
      */
-    public void compareToString(DynamicArray<Character> arr, String s) {
+    public void compareToString(DynamicArrayADT<Character> arr, String s) {
         for (int i = 0; i < arr.size(); i++) {
             assertEquals("["+s+"] Elements are equal at index " + i, arr.get(i).charValue(), s.charAt(i));
         }
@@ -295,4 +304,938 @@ public class DynamicArrayTests {
     public void testAddValueAtIndexGreaterThanArraySize() {
         a2.add(a2.size() + 1, 'y');
     }
-}
\ No newline at end of file
+
+    // ~*~*~*~*~ Capacity Tests Below ~*~*~*~*~
+    /**
+     * Tests that appending past the initial capacity grows the array
+     * geometrically instead of one slot at a time
+     */
+    @Test
+    public void testAddGrowsGeometrically() {
+        DynamicArray<Character> arr = new DynamicArray<>(1);
+        for (int i = 0; i < 100; i++) {
+            arr.add('a');
+        }
+        compareSize(arr, "a".repeat(100));
+        assertEquals(128, arr.capacity());
+    }
+
+    @Test
+    public void testAddWithFixedChunkPolicy() {
+        DynamicArray<Character> arr = new DynamicArray<>(0, GrowthPolicy.fixedChunk(10));
+        for (int i = 0; i < 11; i++) {
+            arr.add(i, (char) ('a' + i));
+        }
+        compareToString(arr, "abcdefghijk");
+        assertEquals(20, arr.capacity());
+    }
+
+    @Test
+    public void testAddWithOneAndAHalfPolicy() {
+        DynamicArray<Character> arr = new DynamicArray<>(4, GrowthPolicy.ONE_AND_A_HALF);
+        arr.add('a');
+        arr.add('b');
+        arr.add('c');
+        arr.add('d');
+        arr.add(2, 'x');
+        compareToString(arr, "abxcd");
+        assertEquals(6, arr.capacity());
+    }
+
+    @Test
+    public void testEnsureCapacity() {
+        a2.ensureCapacity(50);
+        assertTrue(a2.capacity() >= 50);
+        compareToString(a2, "wxyz");
+        compareSize(a2, "wxyz");
+    }
+
+    @Test
+    public void testTrimToSize() {
+        a1.add('g');
+        a1.trimToSize();
+        assertEquals(7, a1.capacity());
+        compareToString(a1, "abcdefg");
+
+        empty.trimToSize();
+        assertEquals(0, empty.capacity());
+        empty.add('x');
+        compareToString(empty, "x");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullGrowthPolicy() {
+        new DynamicArray<Character>(3, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGeometricFactorTooSmall() {
+        GrowthPolicy.geometric(1.0);
+    }
+
+    // ~*~*~*~*~ Bulk Whole-Array Tests Below ~*~*~*~*~
+    /**
+     * Tests that the whole-array operations produce the right elements
+     * and leave both of their inputs unchanged
+     */
+    @Test
+    public void testWholeArrayOperationsStandard() {
+        compareToString(a1.insert(2, a2), "abwxyzcdef");
+        compareToString(a1.insert(0, a2), "wxyzabcdef");
+        compareToString(a1.insert(6, a2), "abcdefwxyz");
+        compareToString(a1.splitPrefix(3), "abc");
+        compareToString(a1.splitSuffix(3), "def");
+        compareToString(a1.delete(1, 4), "aef");
+        compareSize(a1.delete(0, 6), "");
+
+        compareToString(a1, "abcdef");
+        compareSize(a1, "abcdef");
+        compareToString(a2, "wxyz");
+        compareSize(a2, "wxyz");
+    }
+
+    /**
+     * Tests that each whole-array operation allocates exactly
+     * the space its result needs
+     */
+    @Test
+    public void testWholeArrayOperationsAllocateExactly() {
+        assertEquals(10, a1.append(a2).capacity());
+        assertEquals(10, a1.insert(3, a2).capacity());
+        assertEquals(2, a1.splitPrefix(2).capacity());
+        assertEquals(4, a1.splitSuffix(2).capacity());
+        assertEquals(4, a1.delete(1, 3).capacity());
+        assertEquals(3, a1.extract(1, 4).capacity());
+    }
+
+    @Test
+    public void testInsertSelf() {
+        compareToString(a2.insert(1, a2), "wwxyzxyz");
+    }
+
+    @Test
+    public void testRemoveShiftsLeft() {
+        assertEquals('c', a1.remove(2).charValue());
+        compareToString(a1, "abdef");
+        assertEquals('f', a1.remove(4).charValue());
+        compareToString(a1, "abde");
+        compareSize(a1, "abde");
+    }
+
+    // ~*~*~*~*~ View Tests Below ~*~*~*~*~
+    /**
+     * Tests that views show the same elements that the copying
+     * operations would return
+     */
+    @Test
+    public void testViewStandard() {
+        compareToString(a1.view(1, 4), "bcd");
+        compareSize(a1.view(1, 4), "bcd");
+        compareToString(a1.prefixView(2), "ab");
+        compareSize(a1.prefixView(2), "ab");
+        compareToString(a1.suffixView(2), "cdef");
+        compareSize(a1.suffixView(2), "cdef");
+        compareSize(empty.view(0, 0), "");
+        compareToString(a1.view(1, 5).view(1, 3), "cd");
+    }
+
+    /**
+     * Tests that setting through a view changes the parent,
+     * while a materialized copy stays independent
+     */
+    @Test
+    public void testViewWritesThrough() {
+        DynamicArrayView<Character> view = a1.view(2, 5);
+        assertEquals('d', view.set(1, 'D').charValue());
+        compareToString(a1, "abcDef");
+
+        DynamicArray<Character> copy = view.materialize();
+        view.set(0, 'C');
+        compareToString(copy, "cDe");
+        compareToString(a1, "abCDef");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testViewIndexOutOfRange() {
+        a1.view(1, 3).get(2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testViewInvalidRange() {
+        a1.view(4, 2);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testViewFailsAfterParentAdd() {
+        DynamicArrayView<Character> view = a1.view(0, 3);
+        a1.add('g');
+        view.get(0);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testViewFailsAfterParentRemove() {
+        DynamicArrayView<Character> view = a1.suffixView(3);
+        a1.remove(0);
+        view.size();
+    }
+
+    // ~*~*~*~*~ Gap Buffer Tests Below ~*~*~*~*~
+    /**
+     * Tests editing around a moving cursor, the way a text editor would
+     */
+    @Test
+    public void testGapBufferCursorEdits() {
+        DynamicArray<Character> text = DynamicArray.gapBuffer(2);
+        for (char c : "helo world".toCharArray()) {
+            text.add(c);
+        }
+        text.add(3, 'l');
+        compareToString(text, "hello world");
+        text.remove(5);
+        text.add(5, ',');
+        text.add(6, ' ');
+        compareToString(text, "hello, world");
+        compareSize(text, "hello, world");
+        assertEquals('w', text.set(7, 'W').charValue());
+        compareToString(text, "hello, World");
+    }
+
+    /**
+     * Tests that whole-array operations, copies and views see the
+     * elements in order even while the gap is in the middle
+     */
+    @Test
+    public void testGapBufferWholeArrayOperations() {
+        DynamicArray<Character> text = DynamicArray.gapBuffer(0);
+        for (char c : "abef".toCharArray()) {
+            text.add(c);
+        }
+        text.add(2, 'c');
+        text.add(3, 'd');
+        compareToString(text.view(1, 5), "bcde");
+        compareToString(text.append(a2), "abcdefwxyz");
+        compareToString(a2.insert(1, text), "wabcdefxyz");
+        compareToString(new DynamicArray<>(text), "abcdef");
+        text.trimToSize();
+        compareToString(text, "abcdef");
+        text.add(1, 'x');
+        compareToString(text, "axbcdef");
+    }
+
+    /**
+     * Tests random edits against a plain DynamicArray doing the same edits
+     */
+    @Test
+    public void testGapBufferMatchesDynamicArray() {
+        Random random = new Random(210);
+        DynamicArray<Integer> expected = new DynamicArray<>(0);
+        DynamicArray<Integer> actual = DynamicArray.gapBuffer(0);
+        for (int step = 0; step < 2000; step++) {
+            if (random.nextInt(3) > 0 || expected.size() == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                actual.add(index, step);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.remove(index));
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    /**
+     * Tests that copying and iterating a gap buffer reads around the gap
+     * without moving it, so the next edit at the cursor shifts nothing
+     */
+    @Test
+    public void testGapBufferReadsLeaveGapInPlace() {
+        ArrayMetricsRecorder recorder = new ArrayMetricsRecorder();
+        DynamicArray<Character> text = DynamicArray.gapBuffer(8);
+        for (char c : "abcdef".toCharArray()) {
+            text.add(c);
+        }
+        text.add(2, 'X'); //gap now starts after the X
+        text.setMetrics(recorder);
+        compareToString(new DynamicArray<>(text), "abXcdef");
+        compareToString(text.extract(1, 5), "bXcd");
+        compareToString(text.append(text), "abXcdefabXcdef");
+        StringBuilder seen = new StringBuilder();
+        for (char c : text) {
+            seen.append(c);
+        }
+        text.forEach(seen::append);
+        text.stream().forEach(seen::append);
+        assertEquals("abXcdefabXcdefabXcdef", seen.toString());
+        recorder.reset();
+        text.add(3, 'Y');
+        assertEquals(0, recorder.getElementsCopied());
+        compareToString(text, "abXYcdef");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGapBufferRemoveOutOfBounds() {
+        DynamicArray<Character> text = DynamicArray.gapBuffer(4);
+        text.add('a');
+        text.remove(1);
+    }
+
+    // ~*~*~*~*~ Ring Buffer Tests Below ~*~*~*~*~
+    /**
+     * Tests using a ring-buffer array as a work queue, so that the
+     * elements wrap around the end of the backing array
+     */
+    @Test
+    public void testRingBufferQueue() {
+        DynamicArray<Character> queue = DynamicArray.ringBuffer(4);
+        queue.add('a');
+        queue.add('b');
+        queue.add('c');
+        assertEquals('a', queue.removeFirst().charValue());
+        queue.add('d');
+        queue.add('e');
+        compareToString(queue, "bcde");
+        assertEquals(4, queue.capacity());
+        queue.addFirst('z');
+        compareToString(queue, "zbcde");
+        assertEquals('e', queue.removeLast().charValue());
+        assertEquals('z', queue.removeFirst().charValue());
+        compareToString(queue, "bcd");
+        compareSize(queue, "bcd");
+    }
+
+    /**
+     * Tests that whole-array operations and views see the elements
+     * in order while they wrap around the backing array
+     */
+    @Test
+    public void testRingBufferWholeArrayOperations() {
+        DynamicArray<Character> ring = DynamicArray.ringBuffer(6);
+        for (char c : "cdef".toCharArray()) {
+            ring.add(c);
+        }
+        ring.addFirst('b');
+        ring.addFirst('a');
+        compareToString(ring.view(1, 5), "bcde");
+        compareToString(ring.extract(1, 5), "bcde");
+        compareToString(ring.append(a2), "abcdefwxyz");
+        compareToString(new DynamicArray<>(ring), "abcdef");
+        ring.addFirst('_');
+        compareToString(ring, "_abcdef");
+    }
+
+    /**
+     * Tests that copying and iterating a ring buffer whose elements wrap around
+     * the end of the backing array reads both runs without rotating the ring
+     */
+    @Test
+    public void testRingBufferReadsDoNotRotate() {
+        int[] rotations = {0};
+        DynamicArray<Character> ring = new RingBufferDynamicArray<Character>(4) {
+            protected void linearize() {
+                rotations[0]++;
+                super.linearize();
+            }
+        };
+        for (char c : "abc".toCharArray()) {
+            ring.add(c);
+        }
+        ring.removeFirst();
+        ring.removeFirst();
+        ring.add('d');
+        ring.add('e'); //elements c, d sit at the end of the backing array and e at its start
+        compareToString(new DynamicArray<>(ring), "cde");
+        compareToString(ring.extract(1, 3), "de");
+        compareToString(ring.insert(1, ring), "ccdede");
+        StringBuilder seen = new StringBuilder();
+        for (char c : ring) {
+            seen.append(c);
+        }
+        ring.forEach(seen::append);
+        ring.stream().forEach(seen::append);
+        assertEquals("cdecdecde", seen.toString());
+        assertEquals(0, rotations[0]);
+    }
+
+    /**
+     * Tests random edits at all positions against a plain DynamicArray doing the same edits
+     */
+    @Test
+    public void testRingBufferMatchesDynamicArray() {
+        Random random = new Random(210);
+        DynamicArray<Integer> expected = new DynamicArray<>(0);
+        DynamicArray<Integer> actual = DynamicArray.ringBuffer(0);
+        for (int step = 0; step < 2000; step++) {
+            if (random.nextInt(3) > 0 || expected.size() == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                actual.add(index, step);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), actual.remove(index));
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void testFirstAndLastOnPlainArray() {
+        a1.addFirst('_');
+        assertEquals('f', a1.removeLast().charValue());
+        assertEquals('_', a1.removeFirst().charValue());
+        compareToString(a1, "abcde");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveFirstFromEmpty() {
+        DynamicArray.ringBuffer(2).removeFirst();
+    }
+
+    // ~*~*~*~*~ Shrink and Footprint Tests Below ~*~*~*~*~
+    /**
+     * Tests that the quarter-full policy halves capacity once
+     * occupancy drops below 25%
+     */
+    @Test
+    public void testShrinkPolicyHalves() {
+        DynamicArray<Character> arr = new DynamicArray<>(64);
+        arr.setShrinkPolicy(ShrinkPolicy.QUARTER_FULL);
+        for (int i = 0; i < 64; i++) {
+            arr.add('a');
+        }
+        while (arr.size() > 16) {
+            arr.remove(0);
+        }
+        assertEquals(64, arr.capacity());
+        arr.remove(0);
+        assertEquals(32, arr.capacity());
+        while (arr.size() > 0) {
+            arr.removeLast();
+        }
+        assertEquals(16, arr.capacity());
+    }
+
+    /**
+     * Tests that alternating add and remove around the shrink
+     * threshold does not resize on every call
+     */
+    @Test
+    public void testShrinkPolicyHysteresis() {
+        DynamicArray<Character> arr = new DynamicArray<>(64);
+        arr.setShrinkPolicy(ShrinkPolicy.QUARTER_FULL);
+        for (int i = 0; i < 15; i++) {
+            arr.add('a');
+        }
+        arr.remove(0);
+        assertEquals(32, arr.capacity());
+        for (int i = 0; i < 10; i++) {
+            arr.add('b');
+            arr.remove(0);
+            assertEquals(32, arr.capacity());
+        }
+    }
+
+    /**
+     * Tests that a batch removal shrinks capacity all the way back
+     * above a quarter full in one step, not by a single halving
+     */
+    @Test
+    public void testShrinkPolicyAfterBatchRemoval() {
+        DynamicArray<Integer> arr = new DynamicArray<>(0);
+        arr.setShrinkPolicy(ShrinkPolicy.QUARTER_FULL);
+        for (int i = 0; i < 1024; i++) {
+            arr.add(i);
+        }
+        assertEquals(1024, arr.capacity());
+        arr.removeRange(0, 1020);
+        assertEquals(4, arr.size());
+        assertEquals(16, arr.capacity());
+        for (int i = 0; i < 996; i++) {
+            arr.add(i);
+        }
+        arr.removeIf(x -> x >= 100);
+        assertEquals(100, arr.size());
+        assertEquals(256, arr.capacity());
+    }
+
+    @Test
+    public void testDefaultPolicyNeverShrinks() {
+        DynamicArray<Character> arr = new DynamicArray<>(100);
+        arr.add('a');
+        arr.remove(0);
+        assertEquals(100, arr.capacity());
+    }
+
+    @Test
+    public void testShrinkPolicyOnRingBuffer() {
+        DynamicArray<Character> ring = DynamicArray.ringBuffer(64);
+        ring.setShrinkPolicy(ShrinkPolicy.halveBelow(0.25, 4));
+        for (char c : "abcdefghijklmnopq".toCharArray()) {
+            ring.add(c);
+        }
+        ring.removeFirst();
+        ring.removeFirst();
+        assertEquals(32, ring.capacity());
+        compareToString(ring, "cdefghijklmnopq");
+    }
+
+    @Test
+    public void testCompactAndFootprint() {
+        DynamicArray<Character> arr = new DynamicArray<>(100);
+        arr.add('a');
+        arr.add('b');
+        assertEquals(100, arr.footprint().capacity());
+        assertEquals(98, arr.footprint().unusedSlots());
+        long before = arr.footprint().estimatedBytes();
+        assertEquals(98, arr.compact());
+        assertEquals(2, arr.footprint().capacity());
+        assertEquals(2, arr.footprint().size());
+        assertTrue(arr.footprint().estimatedBytes() < before);
+        assertEquals(0, arr.compact());
+        compareToString(arr, "ab");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShrinkThresholdTooHigh() {
+        ShrinkPolicy.halveBelow(0.5, 0);
+    }
+
+    // ~*~*~*~*~ Iterator and Stream Tests Below ~*~*~*~*~
+    /**
+     * Tests that iterating visits every element in order
+     */
+    @Test
+    public void testIteratorInOrder() {
+        StringBuilder seen = new StringBuilder();
+        for (char c : a1) {
+            seen.append(c);
+        }
+        assertEquals("abcdef", seen.toString());
+        assertFalse(empty.iterator().hasNext());
+    }
+
+    @Test
+    public void testIteratorOverRingBuffer() {
+        DynamicArray<Character> ring = DynamicArray.ringBuffer(4);
+        for (char c : "cd".toCharArray()) {
+            ring.add(c);
+        }
+        ring.addFirst('b');
+        ring.addFirst('a');
+        StringBuilder seen = new StringBuilder();
+        ring.forEach(seen::append);
+        assertEquals("abcd", seen.toString());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailsFast() {
+        for (char c : a1) {
+            if (c == 'b') {
+                a1.add('z');
+            }
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorPastEnd() {
+        Iterator<Character> it = s.iterator();
+        it.next();
+        it.next();
+    }
+
+    @Test
+    public void testStreams() {
+        assertEquals("abcdef", a1.stream().map(String::valueOf).collect(Collectors.joining()));
+        DynamicArray<Integer> numbers = new DynamicArray<>(0);
+        for (int i = 1; i <= 10000; i++) {
+            numbers.add(i);
+        }
+        assertEquals(50005000L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(10000L, numbers.parallelStream().filter(x -> x > 0).count());
+    }
+
+    @Test
+    public void testSpliteratorSplitsEvenly() {
+        Spliterator<Character> right = a1.spliterator();
+        assertTrue(right.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Spliterator<Character> left = right.trySplit();
+        assertEquals(3, left.estimateSize());
+        assertEquals(3, right.estimateSize());
+        StringBuilder seen = new StringBuilder();
+        left.forEachRemaining(seen::append);
+        right.forEachRemaining(seen::append);
+        assertEquals("abcdef", seen.toString());
+        assertNull(s.spliterator().trySplit());
+    }
+
+    // ~*~*~*~*~ Batch Mutation Tests Below ~*~*~*~*~
+    /**
+     * Tests inserting another array, a collection and a Java array in place
+     */
+    @Test
+    public void testAddAll() {
+        a1.addAll(2, a2);
+        compareSize(a1, "abwxyzcdef");
+        compareToString(a1, "abwxyzcdef");
+        a1.addAll(a1.size(), List.of('1', '2'));
+        compareToString(a1, "abwxyzcdef12");
+        a1.addAll(0, new Character[] {'<'});
+        compareToString(a1, "<abwxyzcdef12");
+        s.addAll(1, s);
+        compareSize(s, "ss");
+        compareToString(s, "ss");
+    }
+
+    /**
+     * Tests that removeRange removes in place and leaves other elements in order
+     */
+    @Test
+    public void testRemoveRange() {
+        a1.removeRange(1, 4);
+        compareSize(a1, "aef");
+        compareToString(a1, "aef");
+        a1.removeRange(0, 0);
+        compareToString(a1, "aef");
+        a1.removeRange(0, 3);
+        compareSize(a1, "");
+    }
+
+    /**
+     * Tests removeIf keeps order and reports whether anything was removed
+     */
+    @Test
+    public void testRemoveIf() {
+        DynamicArray<Integer> numbers = new DynamicArray<>(0);
+        for (int i = 0; i < 200; i++) {
+            numbers.add(i);
+        }
+        assertTrue(numbers.removeIf(x -> x % 3 != 0));
+        assertEquals(67, numbers.size());
+        for (int i = 0; i < numbers.size(); i++) {
+            assertEquals(Integer.valueOf(i * 3), numbers.get(i));
+        }
+        assertFalse(numbers.removeIf(x -> x < 0));
+        assertEquals(67, numbers.size());
+    }
+
+    /**
+     * Tests replaceAll and setRange overwrite elements without changing size
+     */
+    @Test
+    public void testReplaceAllAndSetRange() {
+        a1.replaceAll(Character::toUpperCase);
+        compareToString(a1, "ABCDEF");
+        a1.setRange(1, a2);
+        compareToString(a1, "AwxyzF");
+        a1.setRange(4, new Character[] {'!', '?'});
+        compareSize(a1, "Awxy!?");
+        compareToString(a1, "Awxy!?");
+    }
+
+    /**
+     * Tests that addAll and setRange read a view of the same array
+     * as it was before the elements moved
+     */
+    @Test
+    public void testBatchOperationsWithOwnView() {
+        DynamicArray<Integer> numbers = new DynamicArray<>(0);
+        numbers.addAll(0, new Integer[] {1, 2, 3});
+        numbers.addAll(1, numbers.view(0, 2));
+        assertEquals(List.of(1, 1, 2, 2, 3), numbers.stream().collect(Collectors.toList()));
+        DynamicArray<Integer> overlapping = new DynamicArray<>(0);
+        overlapping.addAll(0, new Integer[] {1, 2, 3, 4});
+        overlapping.setRange(1, overlapping.view(0, 3));
+        assertEquals(List.of(1, 1, 2, 3), overlapping.stream().collect(Collectors.toList()));
+        a1.setRange(0, a1.view(3, 6));
+        compareToString(a1, "defdef");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSetRangePastEnd() {
+        a1.setRange(3, a2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveRangeHighIndexLessThanLow() {
+        a1.removeRange(3, 1);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testBatchOperationInvalidatesViews() {
+        DynamicArrayView<Character> view = a1.view(0, 3);
+        a1.removeIf(c -> c == 'e');
+        view.get(0);
+    }
+
+    /**
+     * Tests that the gap-buffer and ring-buffer modes stay consistent after batch operations
+     */
+    @Test
+    public void testBatchOperationsOnStorageModes() {
+        for (DynamicArray<Character> arr : List.of(DynamicArray.<Character>gapBuffer(2), DynamicArray.<Character>ringBuffer(2))) {
+            for (char c : "abcdef".toCharArray()) {
+                arr.add(c);
+            }
+            arr.add(2, '_'); //moves the gap into the middle
+            arr.removeFirst(); //moves the ring's head off zero
+            arr.addAll(1, a2);
+            compareToString(arr, "bwxyz_cdef");
+            arr.removeRange(0, 2);
+            arr.removeIf(c -> c == '_');
+            arr.add(1, '+');
+            arr.add('!');
+            compareSize(arr, "x+yzcdef!");
+            compareToString(arr, "x+yzcdef!");
+        }
+    }
+
+    // ~*~*~*~*~ Metrics Tests Below ~*~*~*~*~
+    /**
+     * Tests that resizes, shifts and peak capacity are counted
+     */
+    @Test
+    public void testMetricsCountResizesAndCopies() {
+        ArrayMetricsRecorder recorder = new ArrayMetricsRecorder();
+        DynamicArray<Character> arr = new DynamicArray<>(1);
+        arr.setMetrics(recorder);
+        assertEquals(1, recorder.getPeakCapacity());
+        for (char c : "abcd".toCharArray()) {
+            arr.add(c); //grows 1 -> 2 -> 4, copying 1 then 2 elements
+        }
+        assertEquals(2, recorder.getResizeCount());
+        assertEquals(3, recorder.getElementsCopied());
+        assertEquals(4, recorder.getPeakCapacity());
+        arr.add(0, '_'); //grows to 8 copying 4, then shifts 4
+        assertEquals(3, recorder.getResizeCount());
+        assertEquals(11, recorder.getElementsCopied());
+        assertEquals(8, recorder.getPeakCapacity());
+        recorder.reset();
+        assertEquals(0, recorder.getElementsCopied());
+    }
+
+    /**
+     * Tests that whole-array operations are counted per operation and pass the metrics on to their results
+     */
+    @Test
+    public void testMetricsCountWholeArrayAllocations() {
+        ArrayMetricsRecorder recorder = new ArrayMetricsRecorder();
+        a1.setMetrics(recorder);
+        DynamicArray<Character> joined = a1.append(a2);
+        assertSame(recorder, joined.metrics());
+        joined.extract(0, 3);
+        a1.splitPrefix(2);
+        assertEquals(3, recorder.getWholeArrayAllocations());
+        assertEquals(10 + 3 + 2, recorder.getSlotsAllocated());
+        assertEquals(Long.valueOf(1), recorder.getAllocationsByOperation().get("append"));
+        assertEquals(Long.valueOf(1), recorder.getAllocationsByOperation().get("extract"));
+        assertNull(a2.metrics());
+    }
+
+    /**
+     * Tests that the recorder can be read over JMX
+     */
+    @Test
+    public void testMetricsRegisteredWithJmx() throws Exception {
+        ArrayMetricsRecorder recorder = new ArrayMetricsRecorder();
+        a1.setMetrics(recorder);
+        a1.append(a2);
+        ObjectName name = recorder.register("test");
+        try {
+            Object count = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "WholeArrayAllocations");
+            assertEquals(1L, count);
+        } finally {
+            recorder.unregister();
+        }
+    }
+
+    // ~*~*~*~*~ Lazy Plan Tests Below ~*~*~*~*~
+    /**
+     * Tests that a chain of lazy operations gives the same elements
+     * as the same chain of copying operations
+     */
+    @Test
+    public void testLazyMatchesEager() {
+        DynamicArray<Character> eager = a1.append(a2).insert(3, s).delete(1, 4).extract(1, 8);
+        LazyDynamicArray<Character> lazy = a1.lazy().append(a2.lazy()).insert(3, s.lazy()).delete(1, 4).extract(1, 8);
+        compareSize(lazy, "defwxyz");
+        compareToString(eager, "defwxyz");
+        compareToString(lazy, "defwxyz");
+        compareToString(a1.lazy().splitPrefix(2).append(a1.lazy().splitSuffix(4)), "abef");
+        compareSize(empty.lazy().append(empty.lazy()).build(), "");
+        compareSize(a1.lazy().extract(2, 2), "");
+    }
+
+    /**
+     * Tests that a chain is copied only once, when it is first read
+     */
+    @Test
+    public void testLazyCopiesOnce() {
+        ArrayMetricsRecorder recorder = new ArrayMetricsRecorder();
+        a1.setMetrics(recorder);
+        LazyDynamicArray<Character> lazy = a1.lazy().append(a2.lazy()).insert(3, a1.lazy()).delete(0, 2).extract(1, 12);
+        assertFalse(lazy.isBuilt());
+        assertEquals(0, recorder.getWholeArrayAllocations());
+        compareToString(lazy, "abcdefdefwx");
+        assertTrue(lazy.isBuilt());
+        assertSame(lazy.build(), lazy.build());
+        assertEquals(1, recorder.getWholeArrayAllocations());
+        assertEquals(11, recorder.getSlotsAllocated());
+        assertEquals(Long.valueOf(1), recorder.getAllocationsByOperation().get("lazy"));
+    }
+
+    /**
+     * Tests that a plan sees sets on its sources made before it is built, but not after
+     */
+    @Test
+    public void testLazyReadsSourcesWhenBuilt() {
+        LazyDynamicArray<Character> lazy = a1.lazy().extract(0, 3);
+        a1.set(0, 'A');
+        compareToString(lazy, "Abc");
+        a1.set(1, 'B');
+        lazy.set(2, 'C');
+        compareToString(lazy, "AbC");
+        compareToString(a1, "ABcdef");
+    }
+
+    /**
+     * Tests that an empty plan builds an array with the source's
+     * growth policy and metrics, like a non-empty one
+     */
+    @Test
+    public void testEmptyLazyPlanInheritsPolicyAndMetrics() {
+        DynamicArray<Character> source = new DynamicArray<>(0, GrowthPolicy.fixedChunk(5));
+        source.add('a');
+        ArrayMetricsRecorder recorder = new ArrayMetricsRecorder();
+        source.setMetrics(recorder);
+        DynamicArray<Character> built = source.lazy().extract(0, 0).build();
+        compareSize(built, "");
+        assertSame(recorder, built.metrics());
+        assertEquals(Long.valueOf(1), recorder.getAllocationsByOperation().get("lazy"));
+        built.add('b');
+        assertEquals(5, built.capacity());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testLazyFailsAfterSourceAdd() {
+        LazyDynamicArray<Character> lazy = a1.lazy().append(a2.lazy());
+        a2.add('!');
+        lazy.build();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testLazyInvalidRange() {
+        a1.lazy().delete(4, 2);
+    }
+
+    // ~*~*~*~*~ Snapshot Tests Below ~*~*~*~*~
+    /**
+     * Tests that a snapshot keeps the elements it was taken with
+     * through every kind of write to its source
+     */
+    @Test
+    public void testSnapshotUnchangedByWrites() {
+        DynamicArraySnapshot<Character> before = a1.snapshot();
+        a1.set(0, 'A');
+        DynamicArraySnapshot<Character> afterSet = a1.snapshot();
+        a1.add(2, '!');
+        a1.remove(5);
+        DynamicArraySnapshot<Character> afterAdd = a1.snapshot();
+        a1.addAll(1, a2);
+        a1.removeIf(c -> c == 'w');
+        DynamicArraySnapshot<Character> afterBatch = a1.snapshot();
+        a1.replaceAll(Character::toUpperCase);
+        a1.setRange(0, s);
+        a1.removeRange(5, 8);
+        a1.trimToSize();
+        compareToString(before, "abcdef");
+        compareToString(afterSet, "Abcdef");
+        compareToString(afterAdd, "Ab!cdf");
+        compareToString(afterBatch, "Axyzb!cdf");
+        compareToString(a1, "sXYZBF");
+        compareSize(empty.snapshot(), "");
+    }
+
+    /**
+     * Tests that gap-buffer and ring-buffer arrays, which write their backing array
+     * in their own code, also leave snapshots alone
+     */
+    @Test
+    public void testSnapshotOfStorageModes() {
+        DynamicArray<Character> text = DynamicArray.gapBuffer(8);
+        DynamicArray<Character> queue = DynamicArray.ringBuffer(8);
+        for (char c : "abcdef".toCharArray()) {
+            text.add(c);
+            queue.add(c);
+        }
+        text.add(2, '!'); //gap now sits after index 2
+        queue.removeFirst();
+        queue.add('g'); //head is no longer slot 0
+        DynamicArraySnapshot<Character> textSnapshot = text.snapshot();
+        DynamicArraySnapshot<Character> queueSnapshot = queue.snapshot();
+        text.add(1, '?');
+        text.set(0, 'A');
+        text.remove(4);
+        queue.addFirst('z');
+        queue.removeLast();
+        queue.set(1, 'B');
+        compareToString(textSnapshot, "ab!cdef");
+        compareToString(queueSnapshot, "bcdefg");
+        compareToString(text, "A?b!def");
+        compareToString(queue, "zBcdef");
+    }
+
+    /**
+     * Tests that taking a snapshot copies nothing, and that the source
+     * copies its backing array once, on the first write after any number of snapshots
+     */
+    @Test
+    public void testSnapshotCopiesOnFirstWrite() {
+        ArrayMetricsRecorder recorder = new ArrayMetricsRecorder();
+        a1.setMetrics(recorder);
+        a1.snapshot();
+        DynamicArraySnapshot<Character> snapshot = a1.snapshot();
+        assertEquals(0, recorder.getWholeArrayAllocations());
+        a1.set(1, 'B');
+        a1.set(2, 'C');
+        assertEquals(1, recorder.getWholeArrayAllocations());
+        assertEquals(Long.valueOf(1), recorder.getAllocationsByOperation().get("snapshot"));
+        a1.snapshot();
+        a1.ensureCapacity(100); //the resize already gives the array a new backing array
+        a1.set(3, 'D');
+        assertEquals(1, recorder.getWholeArrayAllocations());
+        compareToString(snapshot, "abcdef");
+        compareToString(a1, "aBCDef");
+    }
+
+    /**
+     * Tests that a snapshot can be iterated and copied into a DynamicArray that can be changed
+     */
+    @Test
+    public void testSnapshotIterateAndCopy() {
+        DynamicArraySnapshot<Character> snapshot = a2.snapshot();
+        StringBuilder seen = new StringBuilder();
+        for (char c : snapshot) {
+            seen.append(c);
+        }
+        assertEquals("wxyz", seen.toString());
+        DynamicArray<Character> copy = snapshot.toDynamicArray();
+        copy.set(0, 'W');
+        compareToString(copy, "Wxyz");
+        compareToString(snapshot, "wxyz");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotSetUnsupported() {
+        a1.snapshot().set(0, 'z');
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSnapshotInvalidIndex() {
+        a1.snapshot().get(6);
+    }
+}
@@ -0,0 +1,114 @@
+import java.util.ConcurrentModificationException;
+
+/**
+ * Lightweight window over a contiguous range of a DynamicArray
+ * Creating a view is O(1); get and set read and write through to the parent array
+ * Any structural modification of the parent (add or remove) invalidates the view,
+ * and later accesses fail fast with ConcurrentModificationException
+ * @param <T> Type of elements stored in array
+ */
+public class DynamicArrayView<T> implements DynamicArrayADT<T> {
+
+    private final DynamicArray<T> parent;
+    private final int offset; //index in parent of this view's first element
+    private final int size; //number of elements in view
+    private final int expectedModCount; //parent's modification count when view was made
+
+    /**
+     * Constructor makes a view over parent's elements [offset, offset + size)
+     * Only DynamicArray creates views, after checking the range
+     * @param parent Array the view reads and writes through to
+     * @param offset Index in parent of first element of view
+     * @param size Number of elements in view
+     */
+    DynamicArrayView(DynamicArray<T> parent, int offset, int size) {
+        this.parent = parent;
+        this.offset = offset;
+        this.size = size;
+        this.expectedModCount = parent.modCount();
+    }
+
+    /**
+     * Returns element at specified position in view
+     * @param index The index of the returning element, relative to start of view
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws ConcurrentModificationException if parent was structurally modified
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return parent.get(offset + index);
+    }
+
+    /**
+     * Replaces element at specified position in view, writing through to parent
+     * @param index The index of the element to replace, relative to start of view
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws ConcurrentModificationException if parent was structurally modified
+     */
+    public T set(int index, T newElement) {
+        checkIndex(index);
+        return parent.set(offset + index, newElement);
+    }
+
+    /**
+     * Returns number of elements in view
+     * @return Number of elements in view
+     * @throws ConcurrentModificationException if parent was structurally modified
+     */
+    public int size() {
+        checkForComodification();
+        return size;
+    }
+
+    /**
+     * Returns a narrower view over part of this view, still backed by the same parent
+     * @param fromIndex Start index of range, relative to start of view (included)
+     * @param toIndex End index of range, relative to start of view (not included)
+     * @return View over the range [fromIndex, toIndex) of this view
+     * @throws IndexOutOfBoundsException if indices are invalid
+     * @throws ConcurrentModificationException if parent was structurally modified
+     */
+    public DynamicArrayView<T> view(int fromIndex, int toIndex) {
+        checkForComodification();
+        if (fromIndex < 0 || fromIndex > size || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+        return new DynamicArrayView<>(parent, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Copies the elements of this view into a new, independent DynamicArray
+     * @return New DynamicArray holding the view's elements
+     * @throws ConcurrentModificationException if parent was structurally modified
+     */
+    public DynamicArray<T> materialize() {
+        checkForComodification();
+        return parent.extract(offset, offset + size);
+    }
+
+    /**
+     * Private utility that checks an index against the view's bounds
+     * @param index Index relative to start of view
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws ConcurrentModificationException if parent was structurally modified
+     */
+    private void checkIndex(int index) {
+        checkForComodification();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the view's size. Please enter a valid index.");
+        }
+    }
+
+    /**
+     * Private utility that fails fast if parent has been added to or removed from since view was made
+     * @throws ConcurrentModificationException if parent was structurally modified
+     */
+    private void checkForComodification() {
+        if (parent.modCount() != expectedModCount) {
+            throw new ConcurrentModificationException("Parent array was structurally modified after this view was created.");
+        }
+    }
+}
@@ -0,0 +1,123 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Strategy that stores elements of one type as a fixed number of bytes in a ByteBuffer
+ * Used by arrays that keep their elements outside the Java heap, where only bytes can be stored
+ * Implementations for user-defined records write each field at a fixed offset within the element's bytes
+ * @param <T> Type of elements encoded
+ */
+public interface ElementCodec<T> {
+
+    /**
+     * Stores int elements as 4 bytes
+     */
+    public static final ElementCodec<Integer> INT = new ElementCodec<>() {
+        public String name() {
+            return "int";
+        }
+
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+
+        public void write(ByteBuffer buffer, int offset, Integer value) {
+            buffer.putInt(offset, value);
+        }
+    };
+
+    /**
+     * Stores long elements as 8 bytes
+     */
+    public static final ElementCodec<Long> LONG = new ElementCodec<>() {
+        public String name() {
+            return "long";
+        }
+
+        public int width() {
+            return Long.BYTES;
+        }
+
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+
+        public void write(ByteBuffer buffer, int offset, Long value) {
+            buffer.putLong(offset, value);
+        }
+    };
+
+    /**
+     * Stores double elements as 8 bytes
+     */
+    public static final ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        public String name() {
+            return "double";
+        }
+
+        public int width() {
+            return Double.BYTES;
+        }
+
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+
+        public void write(ByteBuffer buffer, int offset, Double value) {
+            buffer.putDouble(offset, value);
+        }
+    };
+
+    /**
+     * Stores char elements as 2 bytes
+     */
+    public static final ElementCodec<Character> CHAR = new ElementCodec<>() {
+        public String name() {
+            return "char";
+        }
+
+        public int width() {
+            return Character.BYTES;
+        }
+
+        public Character read(ByteBuffer buffer, int offset) {
+            return buffer.getChar(offset);
+        }
+
+        public void write(ByteBuffer buffer, int offset, Character value) {
+            buffer.putChar(offset, value);
+        }
+    };
+
+    /**
+     * Returns a short name identifying the encoding, e.g. "int"
+     * @return Name of codec
+     */
+    public String name();
+
+    /**
+     * Returns number of bytes every encoded element takes
+     * @return Element width in bytes (at least 1)
+     */
+    public int width();
+
+    /**
+     * Decodes the element stored at an absolute byte offset, without moving the buffer's position
+     * @param buffer Buffer holding encoded elements
+     * @param offset Byte offset of the element's first byte
+     * @return Decoded element
+     */
+    public T read(ByteBuffer buffer, int offset);
+
+    /**
+     * Encodes an element at an absolute byte offset, without moving the buffer's position
+     * @param buffer Buffer holding encoded elements
+     * @param offset Byte offset of the element's first byte
+     * @param value Element to encode
+     * @throws NullPointerException if value is null and the codec cannot encode null
+     */
+    public void write(ByteBuffer buffer, int offset, T value);
+}
@@ -0,0 +1,179 @@
+/**
+ * DynamicArray stored as a gap buffer: the free capacity sits at an editing position instead of at the end
+ * Inserting or removing at the gap is O(1), and moving the gap costs only the distance moved,
+ * so clustered edits around a moving cursor cost O(1) amortized instead of shifting the whole tail
+ * get and set stay O(1) by skipping over the gap
+ * @param <T> Type of elements stored in array
+ */
+public class GapBufferDynamicArray<T> extends DynamicArray<T> {
+
+    private int gapStart; //index of first free slot; elements at and after it sit past the gap
+
+    /**
+     * Constructor makes a new, empty GapBufferDynamicArray with specified initial capacity
+     * @param length Initial capacity of array
+     * @throws IllegalArgumentException if length is negative
+     */
+    public GapBufferDynamicArray(int length) {
+        this(length, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructor makes a new, empty GapBufferDynamicArray with specified initial capacity and growth policy
+     * @param length Initial capacity of array
+     * @param growthPolicy Policy used to pick a new capacity when the array is full
+     * @throws IllegalArgumentException if length is negative or growthPolicy is null
+     */
+    public GapBufferDynamicArray(int length, GrowthPolicy growthPolicy) {
+        super(length, growthPolicy);
+        this.gapStart = 0;
+    }
+
+    /**
+     * Replaces element at specified position with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T set(int index, T newElement) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+        prepareForWrite();
+        int slot = slotOf(index);
+        T oldValue = array[slot];
+        array[slot] = newElement;
+        return oldValue;
+    }
+
+    /**
+     * Returns element at specified position in array
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+        return array[slotOf(index)];
+    }
+
+    /**
+     * Inserts specified element at specified index by moving the gap there and filling its first slot
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public void add(int index, T value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+
+        if (size == capacity) {
+            ensureCapacity(size + 1);
+        }
+
+        prepareForWrite();
+        moveGap(index);
+        array[gapStart] = value;
+        gapStart++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns element at specified index by moving the gap just past it and widening the gap
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+
+        prepareForWrite();
+        moveGap(index + 1);
+        gapStart--;
+        T removedElement = array[gapStart];
+        array[gapStart] = null; //slot is now part of the gap
+        size--;
+        modCount++;
+        shrinkIfNeeded();
+
+        return removedElement;
+    }
+
+    /**
+     * Moves the gap to the end so elements occupy slots [0, size)
+     */
+    protected void linearize() {
+        moveGap(size);
+    }
+
+    /**
+     * Puts the gap back at the end after a batch operation rewrote slots [0, size)
+     */
+    protected void linearLayoutRestored() {
+        gapStart = size;
+    }
+
+    /**
+     * Maps an element index to its slot, skipping over the gap
+     * @param index Index of element, between 0 and size
+     * @return Slot holding that element
+     */
+    protected int slotOf(int index) {
+        return index < gapStart ? index : index + (capacity - size);
+    }
+
+    /**
+     * Copies a range of elements without moving the gap: one bulk copy for the part before the gap
+     * and one for the part after it
+     * @param fromIndex Index of first element to copy
+     * @param dest Array receiving the elements
+     * @param destPos Position in dest of the first copied element
+     * @param length Number of elements to copy
+     */
+    protected void copyOut(int fromIndex, Object[] dest, int destPos, int length) {
+        int before = Math.max(0, Math.min(length, gapStart - fromIndex));
+        System.arraycopy(array, fromIndex, dest, destPos, before);
+        System.arraycopy(array, slotOf(fromIndex + before), dest, destPos + before, length - before);
+    }
+
+    /**
+     * Private utility that moves the gap so it starts at the given index
+     * Only the elements between the old and new positions are moved
+     * @param index New start of gap, between 0 and size
+     */
+    private void moveGap(int index) {
+        int gapLength = capacity - size;
+        if (index < gapStart) {
+            //elements [index, gapStart) move to just before the end of the gap
+            int count = gapStart - index;
+            System.arraycopy(array, index, array, index + gapLength, count);
+            recordShift(count);
+            clearSlots(index, Math.min(index + gapLength, gapStart));
+        } else if (index > gapStart) {
+            //elements just after the gap move down to fill its start
+            int count = index - gapStart;
+            System.arraycopy(array, gapStart + gapLength, array, gapStart, count);
+            recordShift(count);
+            clearSlots(Math.max(index, gapStart + gapLength), index + gapLength);
+        }
+        gapStart = index;
+    }
+
+    /**
+     * Private utility that nulls out slots that became part of the gap, so they do not keep elements alive
+     * @param from First slot to clear (included)
+     * @param to Last slot to clear (not included)
+     */
+    private void clearSlots(int from, int to) {
+        for (int i = from; i < to; i++) {
+            array[i] = null;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Strategy that decides how much a DynamicArray's backing storage grows when it runs out of room
+ * Implementations should always return a capacity at least as large as the one requested
+ */
+public interface GrowthPolicy {
+
+    /**
+     * Grows capacity geometrically by a factor of 2 (the default policy)
+     */
+    public static final GrowthPolicy DOUBLING = geometric(2.0);
+
+    /**
+     * Grows capacity geometrically by a factor of 1.5, as java.util.ArrayList does
+     */
+    public static final GrowthPolicy ONE_AND_A_HALF = geometric(1.5);
+
+    /**
+     * Computes the new capacity for an array that needs more room
+     * @param currentCapacity Capacity of the array right now
+     * @param minCapacity Smallest capacity that can hold the pending elements
+     * @return New capacity, which must be at least minCapacity
+     */
+    public int grow(int currentCapacity, int minCapacity);
+
+    /**
+     * Creates a policy that multiplies the current capacity by a constant factor
+     * Appending n elements costs amortized O(1) per element for any factor greater than 1
+     * @param factor Growth factor
+     * @return Geometric growth policy
+     * @throws IllegalArgumentException if factor is not greater than 1
+     */
+    public static GrowthPolicy geometric(double factor) {
+        if (!(factor > 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1.");
+        }
+        return (currentCapacity, minCapacity) -> {
+            long grown = Math.max((long) (currentCapacity * factor), currentCapacity + 1L);
+            return clamp(Math.max(grown, minCapacity));
+        };
+    }
+
+    /**
+     * Creates a policy that adds a fixed number of slots each time the array grows
+     * Appending costs O(n / chunk) per element, so this is only suited to arrays with a known, modest size
+     * @param chunk Number of slots to add per growth step
+     * @return Fixed-chunk growth policy
+     * @throws IllegalArgumentException if chunk is not positive
+     */
+    public static GrowthPolicy fixedChunk(int chunk) {
+        if (chunk <= 0) {
+            throw new IllegalArgumentException("Growth chunk must be positive.");
+        }
+        return (currentCapacity, minCapacity) -> clamp(Math.max((long) currentCapacity + chunk, minCapacity));
+    }
+
+    /**
+     * Private utility to keep computed capacities within the range of a Java array
+     * @param capacity Requested capacity
+     * @return capacity, or the largest safe array length if it overflowed
+     */
+    private static int clamp(long capacity) {
+        return (int) Math.min(capacity, Integer.MAX_VALUE - 8);
+    }
+}
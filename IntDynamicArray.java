@@ -0,0 +1,370 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Dynamic array of int values stored unboxed in an int[]
+ * Each element takes 4 bytes, instead of a reference plus a separate Integer object
+ * Use the int accessors (getInt, setInt, ...) in hot loops to avoid boxing entirely
+ * Bulk kernels (indexOf, fill, sum, min, max, count) scan the backing array in plain counted loops,
+ * which the JIT compiles to SIMD instructions where the CPU has them
+ */
+public class IntDynamicArray extends PrimitiveDynamicArray<Integer, IntDynamicArray> {
+
+    private int[] array;
+
+    /**
+     * Constructor makes a new IntDynamicArray with specified initial capacity
+     * @param length Initial capacity of array
+     * @throws IllegalArgumentException if length is negative
+     */
+    public IntDynamicArray(int length) {
+        this(length, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructor makes a new IntDynamicArray with specified initial capacity and growth policy
+     * @param length Initial capacity of array
+     * @param growthPolicy Policy used to pick a new capacity when the array is full
+     * @throws IllegalArgumentException if length is negative or growthPolicy is null
+     */
+    public IntDynamicArray(int length, GrowthPolicy growthPolicy) {
+        super(growthPolicy);
+        if (length < 0) {
+            throw new IllegalArgumentException("Allocated space for array cannot be negative.");
+        }
+        this.array = new int[length];
+    }
+
+    /**
+     * Creates an IntDynamicArray holding a copy of the given values
+     * @param values Values to store, in order
+     * @return New array containing values
+     */
+    public static IntDynamicArray of(int... values) {
+        IntDynamicArray result = new IntDynamicArray(values.length);
+        System.arraycopy(values, 0, result.array, 0, values.length);
+        result.size = values.length;
+        return result;
+    }
+
+    /**
+     * Returns int element at specified position in array without boxing
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Replaces int element at specified position without boxing
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int setInt(int index, int newElement) {
+        checkIndex(index);
+        int oldValue = array[index];
+        array[index] = newElement;
+        return oldValue;
+    }
+
+    /**
+     * Inserts int element at specified index without boxing
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public void addInt(int index, int value) {
+        openSlot(index);
+        array[index] = value;
+    }
+
+    /**
+     * Appends int element to end of array in amortized O(1) time without boxing
+     * @param value Element to be appended
+     */
+    public void addInt(int value) {
+        addInt(size, value);
+    }
+
+    /**
+     * Removes and returns int element at specified index without boxing
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public int removeInt(int index) {
+        checkIndex(index);
+        int removedElement = array[index];
+        closeSlot(index);
+        return removedElement;
+    }
+
+    /**
+     * Returns a copy of the stored elements as a plain int[]
+     * @return New array of length size() holding the elements in order
+     */
+    public int[] toIntArray() {
+        int[] result = new int[size];
+        System.arraycopy(array, 0, result, 0, size);
+        return result;
+    }
+
+    // ~*~*~*~*~ Bulk Kernels Below ~*~*~*~*~
+
+    /**
+     * Returns the index of the first element equal to value, scanning the backing array directly
+     * @param value Value to search for
+     * @return Index of first equal element, or -1 if there is none
+     */
+    public int indexOf(int value) {
+        int[] a = array;
+        for (int i = 0; i < size; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether any element is equal to value
+     * @param value Value to search for
+     * @return true if value is found
+     */
+    public boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Sets every element in specified range to value
+     * @param fromIndex Start index of range (included)
+     * @param toIndex End index of range (not included)
+     * @param value Value to store
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public void fill(int fromIndex, int toIndex, int value) {
+        checkRange(fromIndex, toIndex);
+        Arrays.fill(array, fromIndex, toIndex, value);
+    }
+
+    /**
+     * Returns the sum of all elements, 0 for an empty array
+     * The total is accumulated in a long, so it cannot overflow for any array that fits in memory
+     * @return Sum of elements
+     */
+    public long sum() {
+        int[] a = array;
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += a[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the smallest element
+     * @return Smallest element
+     * @throws NoSuchElementException if array is empty
+     */
+    public int min() {
+        checkNotEmpty();
+        int[] a = array;
+        int result = a[0];
+        for (int i = 1; i < size; i++) {
+            result = Math.min(result, a[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest element
+     * @return Largest element
+     * @throws NoSuchElementException if array is empty
+     */
+    public int max() {
+        checkNotEmpty();
+        int[] a = array;
+        int result = a[0];
+        for (int i = 1; i < size; i++) {
+            result = Math.max(result, a[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of elements that compare to value as specified
+     * Each comparison has its own branch-free loop, so the choice is made once rather than per element
+     * @param comparison How each element is compared to value
+     * @param value Constant each element is compared to
+     * @return Number of elements for which (element comparison value) holds
+     */
+    public int count(Comparison comparison, int value) {
+        int[] a = array;
+        int n = size;
+        int count = 0;
+        switch (comparison) {
+            case LESS_THAN:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] < value ? 1 : 0;
+                }
+                break;
+            case LESS_OR_EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] <= value ? 1 : 0;
+                }
+                break;
+            case EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] == value ? 1 : 0;
+                }
+                break;
+            case NOT_EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] != value ? 1 : 0;
+                }
+                break;
+            case GREATER_OR_EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] >= value ? 1 : 0;
+                }
+                break;
+            default:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] > value ? 1 : 0;
+                }
+                break;
+        }
+        return count;
+    }
+
+    /**
+     * Returns element at specified position in array, boxed
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    /**
+     * Replaces element at specified position with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index, boxed
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NullPointerException if newElement is null
+     */
+    public Integer set(int index, Integer newElement) {
+        return setInt(index, newElement);
+    }
+
+    /**
+     * Inserts specified element at specified index
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws NullPointerException if value is null
+     */
+    public void add(int index, Integer value) {
+        addInt(index, value);
+    }
+
+    /**
+     * Removes and returns element at specified index
+     * @param index Index of element to remove
+     * @return Element previously at specified index, boxed
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public Integer remove(int index) {
+        return removeInt(index);
+    }
+
+    /**
+     * Returns number of elements the array can hold before it has to grow
+     * @return Allocated capacity of array
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Returns width of one int element
+     * @return Integer.BYTES
+     */
+    protected int elementBytes() {
+        return Integer.BYTES;
+    }
+
+    /**
+     * Returns the codec for int elements
+     * @return ElementCodec.INT
+     */
+    public ElementCodec<Integer> codec() {
+        return ElementCodec.INT;
+    }
+
+    /**
+     * Copies a range of int elements into a buffer through an IntBuffer view
+     * @param target Buffer with room for (toIndex - fromIndex) elements
+     * @param fromIndex Start index of range to copy (included)
+     * @param toIndex End index of range to copy (not included)
+     */
+    protected void putElements(ByteBuffer target, int fromIndex, int toIndex) {
+        target.asIntBuffer().put(array, fromIndex, toIndex - fromIndex);
+        target.position(target.position() + (toIndex - fromIndex) * Integer.BYTES);
+    }
+
+    /**
+     * Appends int elements read from a buffer through an IntBuffer view
+     * @param source Buffer holding at least count encoded elements
+     * @param count Number of elements to read
+     */
+    protected void getElements(ByteBuffer source, int count) {
+        ensureCapacity(size + count);
+        source.asIntBuffer().get(array, size, count);
+        source.position(source.position() + count * Integer.BYTES);
+        size += count;
+    }
+
+    /**
+     * Returns the backing int[]
+     * @return Backing array
+     */
+    protected Object storage() {
+        return array;
+    }
+
+    /**
+     * Replaces the backing int[]
+     * @param storage New backing array
+     */
+    protected void setStorage(Object storage) {
+        this.array = (int[]) storage;
+    }
+
+    /**
+     * Allocates a new int[]
+     * @param len Length of array to allocate
+     * @return New array with given length
+     */
+    protected Object allocateStorage(int len) {
+        return new int[len];
+    }
+
+    /**
+     * Creates an empty IntDynamicArray for the whole-array operations
+     * @param capacity Initial capacity of new array
+     * @param growthPolicy Growth policy of new array
+     * @return New empty array
+     */
+    protected IntDynamicArray newArray(int capacity, GrowthPolicy growthPolicy) {
+        return new IntDynamicArray(capacity, growthPolicy);
+    }
+}
@@ -0,0 +1,299 @@
+import java.util.ConcurrentModificationException;
+
+/**
+ * Deferred chain of whole-array operations over DynamicArrays
+ * Each operation (append, insert, splitPrefix, splitSuffix, delete, extract) only composes index ranges
+ * of the source arrays into a new plan, in time proportional to the number of ranges, without copying elements
+ * The plan is materialized once, on the first get or set or an explicit build(), with one bulk copy per range,
+ * so a chain of k operations costs one O(n) copy instead of k
+ * Like a DynamicArrayView, a plan reads its sources when it is built: set on a source before then is seen,
+ * and a structural modification (add or remove) of a source makes the build fail fast
+ * @param <T> Type of elements stored in array
+ */
+public class LazyDynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperationsADT<T, LazyDynamicArray<T>> {
+
+    private Segment<T>[] segments; //ranges of source arrays, in order; empty ranges are never stored
+    private final int size; //total number of elements in segments
+    private DynamicArray<T> built; //null until the plan is materialized
+    private final DynamicArray<T> origin; //array the first plan in the chain was made from; the result inherits its growth policy and metrics
+
+    /**
+     * Constructor makes a plan holding all elements of a DynamicArray
+     * Only DynamicArray.lazy() creates these
+     * @param source Array whose elements the plan holds
+     */
+    LazyDynamicArray(DynamicArray<T> source) {
+        this.segments = newSegments(source.size() == 0 ? 0 : 1);
+        if (source.size() > 0) {
+            segments[0] = new Segment<>(source, 0, source.size());
+        }
+        this.size = source.size();
+        this.origin = source;
+    }
+
+    /**
+     * Private constructor wraps a list of ranges as a plan
+     * @param origin Array the result inherits its growth policy and metrics from
+     * @param segments Non-empty ranges, in order
+     * @param size Total number of elements in segments
+     */
+    private LazyDynamicArray(DynamicArray<T> origin, Segment<T>[] segments, int size) {
+        this.origin = origin;
+        this.segments = segments;
+        this.size = size;
+    }
+
+    /**
+     * Returns element at specified position, materializing the plan first if needed
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws ConcurrentModificationException if a source was structurally modified before the plan was built
+     */
+    public T get(int index) {
+        return build().get(index);
+    }
+
+    /**
+     * Replaces element at specified position, materializing the plan first if needed
+     * The change goes to the materialized copy, not to the source arrays
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws ConcurrentModificationException if a source was structurally modified before the plan was built
+     */
+    public T set(int index, T newElement) {
+        return build().set(index, newElement);
+    }
+
+    /**
+     * Returns number of elements in array, without materializing it
+     * @return Number of elements in array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the plan has been materialized yet
+     * @return true once get, set or build has run
+     */
+    public boolean isBuilt() {
+        return built != null;
+    }
+
+    /**
+     * Materializes the plan, copying each range of the sources once, and returns the result
+     * Later calls return the same array, and get and set on this plan go to it
+     * The result inherits the growth policy and metrics of the array the first plan in the chain was made from,
+     * even when the plan is empty
+     * Plans derived from this one afterwards read from the result instead of the original sources
+     * @return DynamicArray holding the plan's elements
+     * @throws ConcurrentModificationException if a source was structurally modified after the plan was made
+     */
+    public DynamicArray<T> build() {
+        if (built == null) {
+            for (Segment<T> segment : segments) {
+                if (segment.source.modCount() != segment.expectedModCount) {
+                    throw new ConcurrentModificationException("Source array was structurally modified after this plan was created.");
+                }
+            }
+            DynamicArray<T> result = origin.newResult("lazy", size);
+            for (Segment<T> segment : segments) {
+                segment.source.copyRangeInto(segment.from, segment.to, result);
+            }
+            built = result;
+            segments = newSegments(size == 0 ? 0 : 1);
+            if (size > 0) {
+                segments[0] = new Segment<>(result, 0, size);
+            }
+        }
+        return built;
+    }
+
+    /**
+     * Plans this array's elements followed by another plan's
+     * @param other Plan containing elements to be appended
+     * @return New plan with all elements from both
+     */
+    public LazyDynamicArray<T> append(LazyDynamicArray<T> other) {
+        return new LazyDynamicArray<>(origin, concat(this.segments, other.segments), this.size + other.size);
+    }
+
+    /**
+     * Plans the insertion of another plan's elements at specified index
+     * @param index Index where the other plan's elements go
+     * @param other Plan with elements to be inserted
+     * @return New plan with combined elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public LazyDynamicArray<T> insert(int index, LazyDynamicArray<T> other) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        Segment<T>[] combined = concat(concat(slice(0, index), other.segments), slice(index, size));
+        return new LazyDynamicArray<>(origin, combined, size + other.size);
+    }
+
+    /**
+     * Plans the elements from specified index to end
+     * @param index Starting index for suffix (included)
+     * @return New plan with the suffix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public LazyDynamicArray<T> splitSuffix(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return new LazyDynamicArray<>(origin, slice(index, size), size - index);
+    }
+
+    /**
+     * Plans the elements from start to specified index
+     * @param index Ending index for prefix (not included)
+     * @return New plan with the prefix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public LazyDynamicArray<T> splitPrefix(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return new LazyDynamicArray<>(origin, slice(0, index), index);
+    }
+
+    /**
+     * Plans the elements outside specified range
+     * @param fromIndex Start index of range of elements to be removed (included)
+     * @param toIndex End index of range of elements to be removed (not included)
+     * @return New plan with range removed
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public LazyDynamicArray<T> delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        return new LazyDynamicArray<>(origin, concat(slice(0, fromIndex), slice(toIndex, size)), size - (toIndex - fromIndex));
+    }
+
+    /**
+     * Plans the elements in specified range
+     * @param fromIndex Start index of extracted range (included)
+     * @param toIndex End index of extracted range (not included)
+     * @return New plan with extracted elements
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public LazyDynamicArray<T> extract(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        return new LazyDynamicArray<>(origin, slice(fromIndex, toIndex), toIndex - fromIndex);
+    }
+
+    /**
+     * Private utility that checks a [fromIndex, toIndex) range
+     * @param fromIndex Start index (included)
+     * @param toIndex End index (not included)
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+    }
+
+    /**
+     * Private utility that returns the ranges covering this plan's elements [fromIndex, toIndex)
+     * @param fromIndex Start index (included)
+     * @param toIndex End index (not included)
+     * @return Ranges, clipped to the requested elements
+     */
+    private Segment<T>[] slice(int fromIndex, int toIndex) {
+        int count = 0;
+        int start = 0; //plan index of current segment's first element
+        for (Segment<T> segment : segments) {
+            int end = start + segment.length();
+            count += start < toIndex && end > fromIndex ? 1 : 0;
+            start = end;
+        }
+        Segment<T>[] result = newSegments(count);
+        int next = 0;
+        start = 0;
+        for (Segment<T> segment : segments) {
+            int end = start + segment.length();
+            if (start < toIndex && end > fromIndex) {
+                int from = segment.from + Math.max(0, fromIndex - start);
+                int to = segment.to - Math.max(0, end - toIndex);
+                result[next++] = from == segment.from && to == segment.to ? segment : new Segment<>(segment, from, to);
+            }
+            start = end;
+        }
+        return result;
+    }
+
+    /**
+     * Private utility that joins two lists of ranges, merging the ranges where they meet if they are contiguous
+     * @param <T> Type of elements stored in array
+     * @param first Ranges that come first
+     * @param second Ranges that come after
+     * @return Joined ranges
+     */
+    private static <T> Segment<T>[] concat(Segment<T>[] first, Segment<T>[] second) {
+        if (first.length == 0) {
+            return second;
+        }
+        if (second.length == 0) {
+            return first;
+        }
+        Segment<T> last = first[first.length - 1];
+        Segment<T> next = second[0];
+        boolean contiguous = last.source == next.source && last.to == next.from && last.expectedModCount == next.expectedModCount;
+        Segment<T>[] result = newSegments(first.length + second.length - (contiguous ? 1 : 0));
+        System.arraycopy(first, 0, result, 0, first.length);
+        if (contiguous) {
+            result[first.length - 1] = new Segment<>(last, last.from, next.to);
+            System.arraycopy(second, 1, result, first.length, second.length - 1);
+        } else {
+            System.arraycopy(second, 0, result, first.length, second.length);
+        }
+        return result;
+    }
+
+    /**
+     * Private utility that allocates an array of ranges
+     * @param <T> Type of elements stored in array
+     * @param length Number of ranges
+     * @return New, empty array of ranges
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Segment<T>[] newSegments(int length) {
+        return (Segment<T>[]) new Segment<?>[length];
+    }
+
+    /**
+     * Range [from, to) of a source array, with the source's modification count when the range was first planned
+     */
+    private static final class Segment<T> {
+        final DynamicArray<T> source;
+        final int from;
+        final int to;
+        final int expectedModCount;
+
+        Segment(DynamicArray<T> source, int from, int to) {
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.expectedModCount = source.modCount();
+        }
+
+        /**
+         * Narrows or widens a range of the same source, keeping the original modification count
+         */
+        Segment(Segment<T> original, int from, int to) {
+            this.source = original.source;
+            this.from = from;
+            this.to = to;
+            this.expectedModCount = original.expectedModCount;
+        }
+
+        int length() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Dynamic array of long values stored unboxed in a long[]
+ * Each element takes 8 bytes, instead of a reference plus a separate Long object
+ * Use the long accessors (getLong, setLong, ...) in hot loops to avoid boxing entirely
+ * Bulk kernels (indexOf, fill, sum, min, max, count) scan the backing array in plain counted loops,
+ * which the JIT compiles to SIMD instructions where the CPU has them
+ */
+public class LongDynamicArray extends PrimitiveDynamicArray<Long, LongDynamicArray> {
+
+    private long[] array;
+
+    /**
+     * Constructor makes a new LongDynamicArray with specified initial capacity
+     * @param length Initial capacity of array
+     * @throws IllegalArgumentException if length is negative
+     */
+    public LongDynamicArray(int length) {
+        this(length, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructor makes a new LongDynamicArray with specified initial capacity and growth policy
+     * @param length Initial capacity of array
+     * @param growthPolicy Policy used to pick a new capacity when the array is full
+     * @throws IllegalArgumentException if length is negative or growthPolicy is null
+     */
+    public LongDynamicArray(int length, GrowthPolicy growthPolicy) {
+        super(growthPolicy);
+        if (length < 0) {
+            throw new IllegalArgumentException("Allocated space for array cannot be negative.");
+        }
+        this.array = new long[length];
+    }
+
+    /**
+     * Creates a LongDynamicArray holding a copy of the given values
+     * @param values Values to store, in order
+     * @return New array containing values
+     */
+    public static LongDynamicArray of(long... values) {
+        LongDynamicArray result = new LongDynamicArray(values.length);
+        System.arraycopy(values, 0, result.array, 0, values.length);
+        result.size = values.length;
+        return result;
+    }
+
+    /**
+     * Returns long element at specified position in array without boxing
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public long getLong(int index) {
+        checkIndex(index);
+        return array[index];
+    }
+
+    /**
+     * Replaces long element at specified position without boxing
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public long setLong(int index, long newElement) {
+        checkIndex(index);
+        long oldValue = array[index];
+        array[index] = newElement;
+        return oldValue;
+    }
+
+    /**
+     * Inserts long element at specified index without boxing
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public void addLong(int index, long value) {
+        openSlot(index);
+        array[index] = value;
+    }
+
+    /**
+     * Appends long element to end of array in amortized O(1) time without boxing
+     * @param value Element to be appended
+     */
+    public void addLong(long value) {
+        addLong(size, value);
+    }
+
+    /**
+     * Removes and returns long element at specified index without boxing
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public long removeLong(int index) {
+        checkIndex(index);
+        long removedElement = array[index];
+        closeSlot(index);
+        return removedElement;
+    }
+
+    /**
+     * Returns a copy of the stored elements as a plain long[]
+     * @return New array of length size() holding the elements in order
+     */
+    public long[] toLongArray() {
+        long[] result = new long[size];
+        System.arraycopy(array, 0, result, 0, size);
+        return result;
+    }
+
+    // ~*~*~*~*~ Bulk Kernels Below ~*~*~*~*~
+
+    /**
+     * Returns the index of the first element equal to value, scanning the backing array directly
+     * @param value Value to search for
+     * @return Index of first equal element, or -1 if there is none
+     */
+    public int indexOf(long value) {
+        long[] a = array;
+        for (int i = 0; i < size; i++) {
+            if (a[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether any element is equal to value
+     * @param value Value to search for
+     * @return true if value is found
+     */
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Sets every element in specified range to value
+     * @param fromIndex Start index of range (included)
+     * @param toIndex End index of range (not included)
+     * @param value Value to store
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public void fill(int fromIndex, int toIndex, long value) {
+        checkRange(fromIndex, toIndex);
+        Arrays.fill(array, fromIndex, toIndex, value);
+    }
+
+    /**
+     * Returns the sum of all elements, 0 for an empty array
+     * Overflow wraps around, as with + on long values
+     * @return Sum of elements
+     */
+    public long sum() {
+        long[] a = array;
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += a[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the smallest element
+     * @return Smallest element
+     * @throws NoSuchElementException if array is empty
+     */
+    public long min() {
+        checkNotEmpty();
+        long[] a = array;
+        long result = a[0];
+        for (int i = 1; i < size; i++) {
+            result = Math.min(result, a[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest element
+     * @return Largest element
+     * @throws NoSuchElementException if array is empty
+     */
+    public long max() {
+        checkNotEmpty();
+        long[] a = array;
+        long result = a[0];
+        for (int i = 1; i < size; i++) {
+            result = Math.max(result, a[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of elements that compare to value as specified
+     * Each comparison has its own branch-free loop, so the choice is made once rather than per element
+     * @param comparison How each element is compared to value
+     * @param value Constant each element is compared to
+     * @return Number of elements for which (element comparison value) holds
+     */
+    public int count(Comparison comparison, long value) {
+        long[] a = array;
+        int n = size;
+        int count = 0;
+        switch (comparison) {
+            case LESS_THAN:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] < value ? 1 : 0;
+                }
+                break;
+            case LESS_OR_EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] <= value ? 1 : 0;
+                }
+                break;
+            case EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] == value ? 1 : 0;
+                }
+                break;
+            case NOT_EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] != value ? 1 : 0;
+                }
+                break;
+            case GREATER_OR_EQUAL:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] >= value ? 1 : 0;
+                }
+                break;
+            default:
+                for (int i = 0; i < n; i++) {
+                    count += a[i] > value ? 1 : 0;
+                }
+                break;
+        }
+        return count;
+    }
+
+    /**
+     * Returns element at specified position in array, boxed
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * Replaces element at specified position with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index, boxed
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NullPointerException if newElement is null
+     */
+    public Long set(int index, Long newElement) {
+        return setLong(index, newElement);
+    }
+
+    /**
+     * Inserts specified element at specified index
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws NullPointerException if value is null
+     */
+    public void add(int index, Long value) {
+        addLong(index, value);
+    }
+
+    /**
+     * Removes and returns element at specified index
+     * @param index Index of element to remove
+     * @return Element previously at specified index, boxed
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public Long remove(int index) {
+        return removeLong(index);
+    }
+
+    /**
+     * Returns number of elements the array can hold before it has to grow
+     * @return Allocated capacity of array
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Returns width of one long element
+     * @return Long.BYTES
+     */
+    protected int elementBytes() {
+        return Long.BYTES;
+    }
+
+    /**
+     * Returns the codec for long elements
+     * @return ElementCodec.LONG
+     */
+    public ElementCodec<Long> codec() {
+        return ElementCodec.LONG;
+    }
+
+    /**
+     * Copies a range of long elements into a buffer through a LongBuffer view
+     * @param target Buffer with room for (toIndex - fromIndex) elements
+     * @param fromIndex Start index of range to copy (included)
+     * @param toIndex End index of range to copy (not included)
+     */
+    protected void putElements(ByteBuffer target, int fromIndex, int toIndex) {
+        target.asLongBuffer().put(array, fromIndex, toIndex - fromIndex);
+        target.position(target.position() + (toIndex - fromIndex) * Long.BYTES);
+    }
+
+    /**
+     * Appends long elements read from a buffer through a LongBuffer view
+     * @param source Buffer holding at least count encoded elements
+     * @param count Number of elements to read
+     */
+    protected void getElements(ByteBuffer source, int count) {
+        ensureCapacity(size + count);
+        source.asLongBuffer().get(array, size, count);
+        source.position(source.position() + count * Long.BYTES);
+        size += count;
+    }
+
+    /**
+     * Returns the backing long[]
+     * @return Backing array
+     */
+    protected Object storage() {
+        return array;
+    }
+
+    /**
+     * Replaces the backing long[]
+     * @param storage New backing array
+     */
+    protected void setStorage(Object storage) {
+        this.array = (long[]) storage;
+    }
+
+    /**
+     * Allocates a new long[]
+     * @param len Length of array to allocate
+     * @return New array with given length
+     */
+    protected Object allocateStorage(int len) {
+        return new long[len];
+    }
+
+    /**
+     * Creates an empty LongDynamicArray for the whole-array operations
+     * @param capacity Initial capacity of new array
+     * @param growthPolicy Growth policy of new array
+     * @return New empty array
+     */
+    protected LongDynamicArray newArray(int capacity, GrowthPolicy growthPolicy) {
+        return new LongDynamicArray(capacity, growthPolicy);
+    }
+}
@@ -0,0 +1,274 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Fixed-size array backed by a memory-mapped file
+ * save() writes any array to a file as an ArrayHeader followed by its codec-encoded elements;
+ * open() maps that file back in O(1) time, without reading or decoding any element
+ * get pages data in from disk on first touch and set writes straight into the page cache,
+ * so the operating system decides which parts of the file stay in memory
+ * The file is mapped in chunks of up to 1 GiB, since a single mapping cannot exceed 2 GiB
+ * @param <T> Type of elements stored in array
+ */
+public class MappedDynamicArray<T> implements DynamicArrayADT<T>, Closeable {
+
+    private static final int CHUNK_BITS = 30; //chunks hold at most 2^30 bytes
+
+    private final ElementCodec<T> codec; //decodes elements from the mapped bytes
+    private final int width; //bytes per element, cached from codec
+    private final int size; //number of elements in the file
+    private final int chunkShift; //log2 of elements per chunk
+    private final int chunkMask; //elements per chunk - 1
+    private final boolean writable; //false if opened read-only
+    private MappedByteBuffer[] chunks; //mapped element data; null once closed
+
+    /**
+     * Private constructor that wraps already mapped chunks
+     * @param codec Codec the elements are encoded with
+     * @param size Number of elements
+     * @param chunks Mapped element data
+     * @param writable Whether the mapping allows writes
+     */
+    private MappedDynamicArray(ElementCodec<T> codec, int size, MappedByteBuffer[] chunks, boolean writable) {
+        this.codec = codec;
+        this.width = codec.width();
+        this.size = size;
+        this.chunkShift = chunkShift(width);
+        this.chunkMask = (1 << chunkShift) - 1;
+        this.chunks = chunks;
+        this.writable = writable;
+    }
+
+    /**
+     * Writes a primitive array to a file with its own codec, replacing the file if it exists
+     * @param <T> Boxed type of elements stored in array
+     * @param path File to write
+     * @param array Array to save
+     * @throws IOException if the file cannot be written
+     */
+    public static <T> void save(Path path, PrimitiveDynamicArray<T, ?> array) throws IOException {
+        save(path, array, array.codec());
+    }
+
+    /**
+     * Writes an array to a file, replacing the file if it exists
+     * Primitive and off-heap arrays with the same codec are copied in bulk; other arrays are encoded one element at a time
+     * @param <T> Type of elements stored in array
+     * @param path File to write
+     * @param array Array to save
+     * @param codec Codec used to encode elements
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if the codec's name or width cannot be stored in the header
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void save(Path path, DynamicArrayADT<T> array, ElementCodec<T> codec) throws IOException {
+        ArrayHeader header = new ArrayHeader(codec, array.size());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer headerBytes = channel.map(MapMode.READ_WRITE, 0, ArrayHeader.BYTES);
+            headerBytes.order(ByteOrder.LITTLE_ENDIAN);
+            header.write(headerBytes);
+            headerBytes.force();
+
+            MappedByteBuffer[] chunks = map(channel, MapMode.READ_WRITE, codec.width(), array.size());
+            int perChunk = 1 << chunkShift(codec.width());
+            for (int c = 0; c < chunks.length; c++) {
+                int from = c * perChunk;
+                int to = Math.min(array.size(), from + perChunk);
+                ByteBuffer target = chunks[c];
+                if (array instanceof PrimitiveDynamicArray && ((PrimitiveDynamicArray<T, ?>) array).codec() == codec) {
+                    ((PrimitiveDynamicArray<T, ?>) array).putElements(target, from, to);
+                } else if (array instanceof OffHeapDynamicArray && ((OffHeapDynamicArray<T>) array).codec() == codec) {
+                    ((OffHeapDynamicArray<T>) array).putElements(target, from, to);
+                } else {
+                    for (int i = from; i < to; i++) {
+                        codec.write(target, (i - from) * codec.width(), array.get(i));
+                    }
+                }
+                chunks[c].force();
+            }
+        }
+    }
+
+    /**
+     * Maps a saved array for reading and writing; writes through set go to the file
+     * @param <T> Type of elements stored in array
+     * @param path File written by save
+     * @param codec Codec the elements were saved with
+     * @return Array backed by the mapped file
+     * @throws IOException if the file cannot be opened or is not a saved array
+     * @throws IllegalArgumentException if the file was saved with a different codec
+     */
+    public static <T> MappedDynamicArray<T> open(Path path, ElementCodec<T> codec) throws IOException {
+        return open(path, codec, true);
+    }
+
+    /**
+     * Maps a saved array for reading only; set throws ReadOnlyBufferException
+     * @param <T> Type of elements stored in array
+     * @param path File written by save
+     * @param codec Codec the elements were saved with
+     * @return Read-only array backed by the mapped file
+     * @throws IOException if the file cannot be opened or is not a saved array
+     * @throws IllegalArgumentException if the file was saved with a different codec
+     */
+    public static <T> MappedDynamicArray<T> openReadOnly(Path path, ElementCodec<T> codec) throws IOException {
+        return open(path, codec, false);
+    }
+
+    /**
+     * Private utility that reads the header and maps the element data
+     * The channel can be closed right away, since mappings stay valid until they are collected
+     * @param <T> Type of elements stored in array
+     * @param path File written by save
+     * @param codec Codec the elements were saved with
+     * @param writable Whether to map for writing
+     * @return Array backed by the mapped file
+     * @throws IOException if the file cannot be opened or is not a saved array
+     */
+    private static <T> MappedDynamicArray<T> open(Path path, ElementCodec<T> codec, boolean writable) throws IOException {
+        try (FileChannel channel = writable
+                ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer headerBytes = ByteBuffer.allocate(ArrayHeader.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (headerBytes.hasRemaining()) {
+                if (channel.read(headerBytes, headerBytes.position()) < 0) {
+                    throw new IOException("File is too short to hold a DynamicArray header.");
+                }
+            }
+            headerBytes.flip();
+            ArrayHeader header = ArrayHeader.read(headerBytes);
+            header.checkCodec(codec);
+            if (header.size > Integer.MAX_VALUE || channel.size() < ArrayHeader.BYTES + header.size * header.width) {
+                throw new IOException("File is truncated or holds more elements than an array can index.");
+            }
+            MappedByteBuffer[] chunks = map(channel, writable ? MapMode.READ_WRITE : MapMode.READ_ONLY, codec.width(), (int) header.size);
+            return new MappedDynamicArray<>(codec, (int) header.size, chunks, writable);
+        }
+    }
+
+    /**
+     * Private utility that maps the element data following the header in chunks
+     * Mapping for writing past the end of the file extends the file
+     * @param channel Open channel to the file
+     * @param mode Mapping mode
+     * @param width Bytes per element
+     * @param size Number of elements
+     * @return Little-endian mapped chunks covering size elements
+     * @throws IOException if mapping fails
+     */
+    private static MappedByteBuffer[] map(FileChannel channel, MapMode mode, int width, int size) throws IOException {
+        int perChunk = 1 << chunkShift(width);
+        MappedByteBuffer[] chunks = new MappedByteBuffer[(int) (((long) size + perChunk - 1) / perChunk)];
+        for (int c = 0; c < chunks.length; c++) {
+            long first = (long) c * perChunk;
+            long count = Math.min(perChunk, size - first);
+            chunks[c] = channel.map(mode, ArrayHeader.BYTES + first * width, count * width);
+            chunks[c].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return chunks;
+    }
+
+    /**
+     * Private utility that picks how many elements go in a chunk: the largest power of two that fits in 2^30 bytes
+     * Using a power of two lets get and set find an element's chunk with a shift and a mask
+     * @param width Bytes per element
+     * @return log2 of elements per chunk
+     */
+    private static int chunkShift(int width) {
+        return CHUNK_BITS - (Integer.SIZE - Integer.numberOfLeadingZeros(width - 1));
+    }
+
+    /**
+     * Returns element at specified position, reading it from the mapped file
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException if the array has been closed
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return codec.read(chunks[index >>> chunkShift], (index & chunkMask) * width);
+    }
+
+    /**
+     * Replaces element at specified position, writing through to the mapped file
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException if the array has been closed
+     * @throws java.nio.ReadOnlyBufferException if the array was opened read-only
+     */
+    public T set(int index, T newElement) {
+        checkIndex(index);
+        ByteBuffer chunk = chunks[index >>> chunkShift];
+        int offset = (index & chunkMask) * width;
+        T oldValue = codec.read(chunk, offset);
+        codec.write(chunk, offset, newElement);
+        return oldValue;
+    }
+
+    /**
+     * Returns number of elements in the file
+     * @return Number of elements in array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Flushes changes made with set to the storage device
+     * @throws IllegalStateException if the array has been closed
+     */
+    public void force() {
+        checkOpen();
+        if (writable) {
+            for (MappedByteBuffer chunk : chunks) {
+                chunk.force();
+            }
+        }
+    }
+
+    /**
+     * Flushes pending changes and releases the mapping; calling it again has no effect
+     * Java 17 has no public call that unmaps a file immediately, so the address space is released
+     * when the mapped buffers are next collected
+     */
+    public void close() {
+        if (chunks != null) {
+            force();
+            chunks = null;
+        }
+    }
+
+    /**
+     * Private utility that fails if the array has been closed
+     * @throws IllegalStateException if the array has been closed
+     */
+    private void checkOpen() {
+        if (chunks == null) {
+            throw new IllegalStateException("MappedDynamicArray has been closed.");
+        }
+    }
+
+    /**
+     * Private utility that checks an index refers to a stored element
+     * @param index Index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException if the array has been closed
+     */
+    private void checkIndex(int index) {
+        checkOpen();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+    }
+}
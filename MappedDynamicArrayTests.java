@@ -0,0 +1,152 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class MappedDynamicArrayTests {
+
+    private Path file;
+
+    /**
+     * Creates a temporary file for each test to save arrays into.
+     */
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("mapped", ".dyna");
+    }
+
+    /**
+     * Deletes the temporary file after each test.
+     */
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Tests that a saved IntDynamicArray takes a 32-byte header plus 4 bytes per element
+     * and reads back the same values when mapped
+     */
+    @Test
+    public void testSaveAndOpenPrimitiveArray() throws IOException {
+        IntDynamicArray numbers = new IntDynamicArray(0);
+        for (int i = 0; i < 10_000; i++) {
+            numbers.addInt(i * 3);
+        }
+        MappedDynamicArray.save(file, numbers);
+        assertEquals(32 + 10_000 * 4, Files.size(file));
+        try (MappedDynamicArray<Integer> mapped = MappedDynamicArray.open(file, ElementCodec.INT)) {
+            assertEquals(10_000, mapped.size());
+            for (int i = 0; i < 10_000; i++) {
+                assertEquals(Integer.valueOf(i * 3), mapped.get(i));
+            }
+        }
+    }
+
+    /**
+     * Tests that set on a mapped array is written to the file and seen when it is reopened
+     */
+    @Test
+    public void testSetWritesThroughToFile() throws IOException {
+        MappedDynamicArray.save(file, DoubleDynamicArray.of(1.5, 2.5, 3.5));
+        try (MappedDynamicArray<Double> mapped = MappedDynamicArray.open(file, ElementCodec.DOUBLE)) {
+            assertEquals(2.5, mapped.set(1, -1.0), 0.0);
+        }
+        try (MappedDynamicArray<Double> reopened = MappedDynamicArray.openReadOnly(file, ElementCodec.DOUBLE)) {
+            assertEquals(-1.0, reopened.get(1), 0.0);
+            assertEquals(3.5, reopened.get(2), 0.0);
+        }
+    }
+
+    /**
+     * Tests that DynamicArray and OffHeapDynamicArray can be saved with a codec and mapped back
+     */
+    @Test
+    public void testSaveBoxedAndOffHeapArrays() throws IOException {
+        DynamicArray<Character> letters = new DynamicArray<>(0);
+        for (char c : "mapped".toCharArray()) {
+            letters.add(c);
+        }
+        MappedDynamicArray.save(file, letters, ElementCodec.CHAR);
+        try (MappedDynamicArray<Character> mapped = MappedDynamicArray.open(file, ElementCodec.CHAR)) {
+            assertEquals('m', mapped.get(0).charValue());
+            assertEquals('d', mapped.get(5).charValue());
+        }
+
+        OffHeapDynamicArray<Long> longs = new OffHeapDynamicArray<>(ElementCodec.LONG, 0);
+        longs.add(7L);
+        longs.add(Long.MIN_VALUE);
+        MappedDynamicArray.save(file, longs, ElementCodec.LONG);
+        try (MappedDynamicArray<Long> mapped = MappedDynamicArray.open(file, ElementCodec.LONG)) {
+            assertEquals(2, mapped.size());
+            assertEquals(Long.valueOf(Long.MIN_VALUE), mapped.get(1));
+        }
+    }
+
+    /**
+     * Tests that an empty array saves and reopens with size zero
+     */
+    @Test
+    public void testEmptyArray() throws IOException {
+        MappedDynamicArray.save(file, new IntDynamicArray(4));
+        try (MappedDynamicArray<Integer> mapped = MappedDynamicArray.open(file, ElementCodec.INT)) {
+            assertEquals(0, mapped.size());
+        }
+    }
+
+    /**
+     * Tests that set on an array opened read-only throws
+     */
+    @Test(expected = ReadOnlyBufferException.class)
+    public void testReadOnlyRejectsSet() throws IOException {
+        MappedDynamicArray.save(file, IntDynamicArray.of(1, 2));
+        try (MappedDynamicArray<Integer> mapped = MappedDynamicArray.openReadOnly(file, ElementCodec.INT)) {
+            mapped.set(0, 5);
+        }
+    }
+
+    /**
+     * Tests that opening a file with a codec other than the one it was saved with throws
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testOpenWithWrongCodec() throws IOException {
+        MappedDynamicArray.save(file, IntDynamicArray.of(1, 2));
+        MappedDynamicArray.open(file, ElementCodec.LONG);
+    }
+
+    /**
+     * Tests that opening a file that does not start with a header throws
+     */
+    @Test(expected = IOException.class)
+    public void testOpenFileWithoutHeader() throws IOException {
+        Files.write(file, new byte[40]);
+        MappedDynamicArray.open(file, ElementCodec.INT);
+    }
+
+    /**
+     * Tests that reads after close throw
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testClosedArrayRejectsAccess() throws IOException {
+        MappedDynamicArray.save(file, IntDynamicArray.of(1, 2));
+        MappedDynamicArray<Integer> mapped = MappedDynamicArray.open(file, ElementCodec.INT);
+        mapped.close();
+        mapped.get(0);
+    }
+
+    /**
+     * Tests that get past the last element throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() throws IOException {
+        MappedDynamicArray.save(file, IntDynamicArray.of(1, 2));
+        try (MappedDynamicArray<Integer> mapped = MappedDynamicArray.open(file, ElementCodec.INT)) {
+            mapped.get(2);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Snapshot of how much memory an array retains
+ * Estimates are shallow: they cover the array object and its backing storage,
+ * but not element objects that the array refers to
+ */
+public final class MemoryFootprint {
+
+    /**
+     * Estimated size of an object header on a 64-bit JVM with compressed class pointers
+     */
+    static final int OBJECT_HEADER_BYTES = 12;
+
+    /**
+     * Estimated size of an array header (object header plus length)
+     */
+    static final int ARRAY_HEADER_BYTES = 16;
+
+    /**
+     * Estimated size of an object reference with compressed oops
+     */
+    static final int REFERENCE_BYTES = 4;
+
+    private final int capacity;
+    private final int size;
+    private final long estimatedBytes;
+
+    /**
+     * Constructor records one measurement
+     * @param capacity Allocated slots
+     * @param size Used slots
+     * @param estimatedBytes Estimated retained bytes
+     */
+    MemoryFootprint(int capacity, int size, long estimatedBytes) {
+        this.capacity = capacity;
+        this.size = size;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    /**
+     * Estimates the footprint of an array object with fixed fields plus a backing array
+     * @param fieldBytes Bytes taken by the array object's own fields
+     * @param capacity Length of backing array
+     * @param size Number of elements stored
+     * @param slotBytes Bytes per slot of backing array
+     * @return Footprint estimate, with object sizes rounded up to 8-byte alignment
+     */
+    static MemoryFootprint estimate(int fieldBytes, int capacity, int size, int slotBytes) {
+        long bytes = align(OBJECT_HEADER_BYTES + fieldBytes) + align(ARRAY_HEADER_BYTES + (long) capacity * slotBytes);
+        return new MemoryFootprint(capacity, size, bytes);
+    }
+
+    /**
+     * Returns number of allocated slots
+     * @return Capacity
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns number of slots holding elements
+     * @return Size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns number of allocated slots not holding elements
+     * @return Capacity minus size
+     */
+    public int unusedSlots() {
+        return capacity - size;
+    }
+
+    /**
+     * Returns estimated number of bytes retained by the array and its storage
+     * @return Estimated shallow size in bytes
+     */
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns a readable summary of the footprint
+     * @return Summary such as "size=10, capacity=16, ~96 bytes"
+     */
+    public String toString() {
+        return "size=" + size + ", capacity=" + capacity + ", ~" + estimatedBytes + " bytes";
+    }
+
+    /**
+     * Estimates the bytes of one object with the given fields, for structures built from many objects
+     * @param fieldBytes Bytes taken by the object's fields
+     * @return Aligned size of the object
+     */
+    static long objectBytes(int fieldBytes) {
+        return align(OBJECT_HEADER_BYTES + fieldBytes);
+    }
+
+    /**
+     * Estimates the bytes of one array
+     * @param length Number of slots in the array
+     * @param slotBytes Bytes per slot
+     * @return Aligned size of the array
+     */
+    static long arrayBytes(int length, int slotBytes) {
+        return align(ARRAY_HEADER_BYTES + (long) length * slotBytes);
+    }
+
+    /**
+     * Private utility that rounds an object size up to the JVM's 8-byte alignment
+     * @param bytes Unaligned size
+     * @return Aligned size
+     */
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,440 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Dynamic array whose elements live in direct (off-heap) memory instead of an Object[]
+ * Each element is encoded into a fixed number of bytes by an ElementCodec, so the garbage
+ * collector only ever sees one small buffer object no matter how many elements are stored
+ * All element moves and whole-array operations are bulk byte copies between buffers
+ * Bytes are stored little-endian, the native order on x86 and ARM, so encoding needs no byte swaps
+ * and the layout matches the one MappedDynamicArray saves to disk
+ * Call close() when done; afterwards every operation throws IllegalStateException
+ * @param <T> Type of elements stored in array
+ */
+public class OffHeapDynamicArray<T> implements DynamicArrayADT<T>, WholeArrayOperationsADT<T, OffHeapDynamicArray<T>>, AutoCloseable {
+
+    private final ElementCodec<T> codec; //encodes elements to and from bytes
+    private final int width; //bytes per element, cached from codec
+    private final GrowthPolicy growthPolicy; //decides new capacity when array is full
+    private ByteBuffer buffer; //direct storage of capacity * width bytes; null once closed
+    private int size; //number of elements stored in array
+
+    /**
+     * Constructor makes a new, empty OffHeapDynamicArray with specified initial capacity
+     * @param codec Codec used to encode elements
+     * @param length Initial capacity of array
+     * @throws IllegalArgumentException if length is negative, codec is null or its width is not positive
+     */
+    public OffHeapDynamicArray(ElementCodec<T> codec, int length) {
+        this(codec, length, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructor makes a new, empty OffHeapDynamicArray with a given growth policy
+     * @param codec Codec used to encode elements
+     * @param length Initial capacity of array
+     * @param growthPolicy Policy used to pick a new capacity when the array is full
+     * @throws IllegalArgumentException if length is negative, codec or growthPolicy is null, or the codec's width is not positive
+     */
+    public OffHeapDynamicArray(ElementCodec<T> codec, int length, GrowthPolicy growthPolicy) {
+        if (codec == null || codec.width() <= 0) {
+            throw new IllegalArgumentException("Codec cannot be null and must have a positive width.");
+        }
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Growth policy cannot be null.");
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("Allocated space for array cannot be negative.");
+        }
+        this.codec = codec;
+        this.width = codec.width();
+        this.growthPolicy = growthPolicy;
+        this.buffer = allocate(length);
+        this.size = 0;
+    }
+
+    /**
+     * Creates an OffHeapDynamicArray holding a copy of another array's elements
+     * @param <T> Type of elements stored in array
+     * @param codec Codec used to encode elements
+     * @param source Array to copy
+     * @return New OffHeapDynamicArray with the same elements
+     */
+    public static <T> OffHeapDynamicArray<T> of(ElementCodec<T> codec, DynamicArrayADT<T> source) {
+        OffHeapDynamicArray<T> result = new OffHeapDynamicArray<>(codec, source.size());
+        for (int i = 0; i < source.size(); i++) {
+            codec.write(result.buffer, i * result.width, source.get(i));
+        }
+        result.size = source.size();
+        return result;
+    }
+
+    /**
+     * Returns the codec used to encode elements
+     * @return Element codec
+     */
+    public ElementCodec<T> codec() {
+        return codec;
+    }
+
+    /**
+     * Returns element at specified position in array
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException if the array has been closed
+     */
+    public T get(int index) {
+        checkIndex(index);
+        return codec.read(buffer, index * width);
+    }
+
+    /**
+     * Replaces element at specified position with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException if the array has been closed
+     */
+    public T set(int index, T newElement) {
+        checkIndex(index);
+        T oldValue = codec.read(buffer, index * width);
+        codec.write(buffer, index * width, newElement);
+        return oldValue;
+    }
+
+    /**
+     * Returns number of elements in array
+     * @return Number of elements in array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns number of elements the array can hold before it has to grow
+     * @return Allocated capacity of array
+     * @throws IllegalStateException if the array has been closed
+     */
+    public int capacity() {
+        return open().capacity() / width;
+    }
+
+    /**
+     * Returns number of bytes of direct memory held by this array
+     * @return Off-heap bytes allocated, or 0 once closed
+     */
+    public long offHeapBytes() {
+        return buffer == null ? 0 : buffer.capacity();
+    }
+
+    /**
+     * Appends specified element to end of array in amortized O(1) time
+     * @param value Element to be appended
+     * @throws IllegalStateException if the array has been closed
+     */
+    public void add(T value) {
+        add(size, value);
+    }
+
+    /**
+     * Inserts specified element at specified index
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws IllegalStateException if the array has been closed
+     */
+    public void add(int index, T value) {
+        open();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        ensureCapacity(size + 1);
+        buffer.put((index + 1) * width, buffer, index * width, (size - index) * width);
+        codec.write(buffer, index * width, value);
+        size++;
+    }
+
+    /**
+     * Removes and returns element at specified index
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws IllegalStateException if the array has been closed
+     */
+    public T remove(int index) {
+        open();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        T removedElement = codec.read(buffer, index * width);
+        buffer.put(index * width, buffer, (index + 1) * width, (size - index - 1) * width);
+        size--;
+        return removedElement;
+    }
+
+    /**
+     * Makes sure the array can hold at least the given number of elements without growing again
+     * @param minCapacity Smallest capacity needed
+     * @throws IllegalStateException if minCapacity is more than a direct buffer can hold, or the array has been closed
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            int maxCapacity = Integer.MAX_VALUE / width;
+            if (minCapacity > maxCapacity) {
+                throw new IllegalStateException("OffHeapDynamicArray cannot hold more than " + maxCapacity + " elements.");
+            }
+            resize(Math.min(growthPolicy.grow(capacity(), minCapacity), maxCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the allocated direct memory down to the number of stored elements
+     * @throws IllegalStateException if the array has been closed
+     */
+    public void trimToSize() {
+        if (capacity() > size) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Copies the elements into a new on-heap DynamicArray
+     * @return New DynamicArray with the same elements
+     * @throws IllegalStateException if the array has been closed
+     */
+    public DynamicArray<T> toDynamicArray() {
+        open();
+        DynamicArray<T> result = new DynamicArray<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(codec.read(buffer, i * width));
+        }
+        return result;
+    }
+
+    /**
+     * Copies a range of encoded elements into a buffer in one bulk transfer, advancing its position
+     * @param target Buffer with room for (toIndex - fromIndex) elements
+     * @param fromIndex Start index of range to copy (included)
+     * @param toIndex End index of range to copy (not included)
+     * @throws IllegalStateException if the array has been closed
+     */
+    void putElements(ByteBuffer target, int fromIndex, int toIndex) {
+        int length = (toIndex - fromIndex) * width;
+        target.put(target.position(), open(), fromIndex * width, length);
+        target.position(target.position() + length);
+    }
+
+    /**
+     * Appends encoded elements from a buffer in one bulk transfer, advancing its position
+     * @param source Buffer holding at least count encoded elements
+     * @param count Number of elements to read
+     * @throws IllegalStateException if the array has been closed
+     */
+    void getElements(ByteBuffer source, int count) {
+        ensureCapacity(size + count);
+        buffer.put(size * width, source, source.position(), count * width);
+        source.position(source.position() + count * width);
+        size += count;
+    }
+
+    /**
+     * Releases the direct memory held by this array; calling it again has no effect
+     * Java 17 has no public call that frees a direct buffer immediately, so the memory is returned
+     * when the buffer object is next collected, which is cheap since it is the only object involved
+     */
+    public void close() {
+        buffer = null;
+        size = 0;
+    }
+
+    /**
+     * Appends all elements from another array to this array
+     * @param other Array containing elements to be appended
+     * @return New OffHeapDynamicArray with all elements from both arrays
+     * @throws IllegalArgumentException if the arrays use different codecs
+     * @throws IllegalStateException if either array has been closed
+     */
+    public OffHeapDynamicArray<T> append(OffHeapDynamicArray<T> other) {
+        checkCodec(other);
+        OffHeapDynamicArray<T> result = newArray(this.size + other.size);
+        copyRange(this, 0, this.size, result);
+        copyRange(other, 0, other.size, result);
+        return result;
+    }
+
+    /**
+     * Inserts all elements from another array at specified index
+     * @param index Index where the other array is inserted
+     * @param other Array with elements to be inserted
+     * @return New OffHeapDynamicArray with combined elements
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws IllegalArgumentException if the arrays use different codecs
+     * @throws IllegalStateException if either array has been closed
+     */
+    public OffHeapDynamicArray<T> insert(int index, OffHeapDynamicArray<T> other) {
+        checkCodec(other);
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        OffHeapDynamicArray<T> result = newArray(this.size + other.size);
+        copyRange(this, 0, index, result);
+        copyRange(other, 0, other.size, result);
+        copyRange(this, index, this.size, result);
+        return result;
+    }
+
+    /**
+     * Creates new array containing elements from specified index to end
+     * @param index Starting index for suffix (included)
+     * @return New OffHeapDynamicArray that has the suffix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws IllegalStateException if the array has been closed
+     */
+    public OffHeapDynamicArray<T> splitSuffix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return extract(index, this.size);
+    }
+
+    /**
+     * Creates new array containing elements from start to specified index
+     * @param index Ending index for prefix (not included)
+     * @return New OffHeapDynamicArray that has the prefix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws IllegalStateException if the array has been closed
+     */
+    public OffHeapDynamicArray<T> splitPrefix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return extract(0, index);
+    }
+
+    /**
+     * Creates new array with elements in specified range removed
+     * @param fromIndex Start index of range of elements to be removed (included)
+     * @param toIndex End index of range of elements to be removed (not included)
+     * @return New OffHeapDynamicArray with range removed
+     * @throws IndexOutOfBoundsException if indices are invalid
+     * @throws IllegalStateException if the array has been closed
+     */
+    public OffHeapDynamicArray<T> delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        OffHeapDynamicArray<T> result = newArray(this.size - (toIndex - fromIndex));
+        copyRange(this, 0, fromIndex, result);
+        copyRange(this, toIndex, this.size, result);
+        return result;
+    }
+
+    /**
+     * Creates new array with elements in specified range
+     * @param fromIndex Start index of extracted range (included)
+     * @param toIndex End index of extracted range (not included)
+     * @return New OffHeapDynamicArray with extracted elements
+     * @throws IndexOutOfBoundsException if indices are invalid
+     * @throws IllegalStateException if the array has been closed
+     */
+    public OffHeapDynamicArray<T> extract(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        OffHeapDynamicArray<T> result = newArray(toIndex - fromIndex);
+        copyRange(this, fromIndex, toIndex, result);
+        return result;
+    }
+
+    /**
+     * Private utility that allocates little-endian direct storage for a number of elements
+     * @param capacity Number of elements to make room for
+     * @return New direct buffer
+     */
+    private ByteBuffer allocate(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * width).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Private utility that moves the elements into newly allocated direct storage of given capacity
+     * @param newCapacity Capacity of the new storage (must be at least size)
+     */
+    private void resize(int newCapacity) {
+        ByteBuffer newBuffer = allocate(newCapacity);
+        newBuffer.put(0, buffer, 0, size * width);
+        buffer = newBuffer;
+    }
+
+    /**
+     * Private utility that creates an empty array with the same codec and growth policy
+     * @param capacity Initial capacity of new array
+     * @return New empty OffHeapDynamicArray
+     */
+    private OffHeapDynamicArray<T> newArray(int capacity) {
+        return new OffHeapDynamicArray<>(codec, capacity, growthPolicy);
+    }
+
+    /**
+     * Private utility that copies a contiguous range of one array onto the end of another in one bulk move
+     * @param source Array to copy from
+     * @param fromIndex Start index of range to copy (included)
+     * @param toIndex End index of range to copy (not included)
+     * @param dest Array receiving the elements, which must already have room for them
+     */
+    private static void copyRange(OffHeapDynamicArray<?> source, int fromIndex, int toIndex, OffHeapDynamicArray<?> dest) {
+        int width = source.width;
+        dest.buffer.put(dest.size * width, source.open(), fromIndex * width, (toIndex - fromIndex) * width);
+        dest.size += toIndex - fromIndex;
+    }
+
+    /**
+     * Private utility that returns the storage, failing if the array has been closed
+     * @return Direct buffer holding the elements
+     * @throws IllegalStateException if the array has been closed
+     */
+    private ByteBuffer open() {
+        if (buffer == null) {
+            throw new IllegalStateException("OffHeapDynamicArray has been closed.");
+        }
+        return buffer;
+    }
+
+    /**
+     * Private utility that checks another array stores elements the same way as this one
+     * @param other Array to compare with
+     * @throws IllegalArgumentException if the codecs differ
+     * @throws IllegalStateException if either array has been closed
+     */
+    private void checkCodec(OffHeapDynamicArray<T> other) {
+        open();
+        other.open();
+        if (other.codec != codec) {
+            throw new IllegalArgumentException("Arrays must use the same codec.");
+        }
+    }
+
+    /**
+     * Private utility that checks an index refers to a stored element
+     * @param index Index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalStateException if the array has been closed
+     */
+    private void checkIndex(int index) {
+        open();
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+    }
+
+    /**
+     * Private utility that checks a [fromIndex, toIndex) range
+     * @param fromIndex Start index (included)
+     * @param toIndex End index (not included)
+     * @throws IndexOutOfBoundsException if indices are invalid
+     * @throws IllegalStateException if the array has been closed
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        open();
+        if (fromIndex < 0 || fromIndex > size || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+    }
+}
@@ -0,0 +1,180 @@
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+public class OffHeapDynamicArrayTests {
+
+    private OffHeapDynamicArray<Character> a1;
+    private OffHeapDynamicArray<Character> a2;
+
+    /**
+     * Initializes OffHeapDynamicArray<Character> instances to be used for testing.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdef");
+        a2 = stringToArray("wxyz");
+    }
+
+    /**
+     * Puts the characters of a string into an off-heap array
+     */
+    public OffHeapDynamicArray<Character> stringToArray(String s) {
+        OffHeapDynamicArray<Character> result = new OffHeapDynamicArray<>(ElementCodec.CHAR, 0);
+        for (int i = 0; i < s.length(); i++) {
+            result.add(s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Example of a user-defined record: a point with two int coordinates stored in 8 bytes
+     */
+    private static final class Point {
+        final int x;
+        final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    private static final ElementCodec<Point> POINT = new ElementCodec<>() {
+        public String name() {
+            return "point";
+        }
+
+        public int width() {
+            return 8;
+        }
+
+        public Point read(ByteBuffer buffer, int offset) {
+            return new Point(buffer.getInt(offset), buffer.getInt(offset + 4));
+        }
+
+        public void write(ByteBuffer buffer, int offset, Point value) {
+            buffer.putInt(offset, value.x);
+            buffer.putInt(offset + 4, value.y);
+        }
+    };
+
+    /**
+     * Tests add, set, remove and trimToSize, and that the off-heap size
+     * follows the capacity at two bytes per char
+     */
+    @Test
+    public void testBasicOperations() {
+        a1.add(0, '_');
+        assertEquals('c', a1.set(3, 'C').charValue());
+        assertEquals('f', a1.remove(6).charValue());
+        ArrayAssert.compareToString(a1, "_abCde");
+        ArrayAssert.compareToString(a1.toDynamicArray(), "_abCde");
+        assertTrue(a1.capacity() >= 6);
+        a1.trimToSize();
+        assertEquals(6, a1.capacity());
+        assertEquals(12, a1.offHeapBytes());
+    }
+
+    /**
+     * Tests that each whole-array operation gives the expected elements
+     * and leaves its inputs unchanged
+     */
+    @Test
+    public void testWholeArrayOperations() {
+        ArrayAssert.compareToString(a1.append(a2), "abcdefwxyz");
+        ArrayAssert.compareToString(a1.append(a1), "abcdefabcdef");
+        ArrayAssert.compareToString(a1.insert(2, a2), "abwxyzcdef");
+        ArrayAssert.compareToString(a1.insert(6, a2), "abcdefwxyz");
+        ArrayAssert.compareToString(a1.splitPrefix(2), "ab");
+        ArrayAssert.compareToString(a1.splitSuffix(2), "cdef");
+        ArrayAssert.compareToString(a1.delete(1, 5), "af");
+        ArrayAssert.compareToString(a1.extract(1, 5), "bcde");
+        ArrayAssert.compareToString(a1, "abcdef");
+    }
+
+    /**
+     * Tests that the long, double and int codecs round-trip values
+     * through many resizes
+     */
+    @Test
+    public void testNumericCodecs() {
+        OffHeapDynamicArray<Long> longs = new OffHeapDynamicArray<>(ElementCodec.LONG, 1, GrowthPolicy.ONE_AND_A_HALF);
+        OffHeapDynamicArray<Double> doubles = new OffHeapDynamicArray<>(ElementCodec.DOUBLE, 1);
+        OffHeapDynamicArray<Integer> ints = new OffHeapDynamicArray<>(ElementCodec.INT, 1);
+        for (int i = 0; i < 1000; i++) {
+            longs.add(Long.MAX_VALUE - i);
+            doubles.add(i / 4.0);
+            ints.add(0, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Long.valueOf(Long.MAX_VALUE - i), longs.get(i));
+            assertEquals(i / 4.0, doubles.get(i), 0.0);
+            assertEquals(Integer.valueOf(999 - i), ints.get(i));
+        }
+    }
+
+    /**
+     * Tests that a user-defined codec stores a two-field record in place
+     */
+    @Test
+    public void testUserDefinedRecordCodec() {
+        OffHeapDynamicArray<Point> points = new OffHeapDynamicArray<>(POINT, 2);
+        for (int i = 0; i < 10; i++) {
+            points.add(new Point(i, -i));
+        }
+        points.remove(0);
+        OffHeapDynamicArray<Point> tail = points.splitSuffix(5);
+        assertEquals(4, tail.size());
+        assertEquals(6, tail.get(0).x);
+        assertEquals(-9, tail.get(3).y);
+    }
+
+    /**
+     * Tests that of copies every element of a DynamicArray
+     */
+    @Test
+    public void testOfCopiesDynamicArray() {
+        DynamicArray<Character> source = new DynamicArray<>(0);
+        for (char c : "hello".toCharArray()) {
+            source.add(c);
+        }
+        ArrayAssert.compareToString(OffHeapDynamicArray.of(ElementCodec.CHAR, source), "hello");
+    }
+
+    /**
+     * Tests that close frees the off-heap memory and later reads throw
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testClosedArrayRejectsAccess() {
+        a1.close();
+        assertEquals(0, a1.offHeapBytes());
+        a1.get(0);
+    }
+
+    /**
+     * Tests that a negative capacity is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity() {
+        new OffHeapDynamicArray<>(ElementCodec.INT, -1);
+    }
+
+    /**
+     * Tests that get past the last element throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        a1.get(6);
+    }
+
+    /**
+     * Tests that extract with an end index before its start index throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testExtractHighIndexLessThanLow() {
+        a1.extract(3, 1);
+    }
+}
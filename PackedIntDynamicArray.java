@@ -0,0 +1,487 @@
+/**
+ * Compressed dynamic array of int values, for data whose values are close together
+ * Elements are stored in blocks of up to 512 values; each block keeps its smallest value as a reference
+ * (frame of reference) and stores every value as its offset from the reference, bit-packed in just enough
+ * bits for the block's largest offset
+ * e.g. values between 1000 and 1015 take 4 bits each instead of 32, an 8x saving
+ * get and set find their block by binary search over block boundaries, O(log(n / 512)), and decode one value
+ * Appended values collect uncompressed in a 512-value tail, which is packed once it is full
+ * Whole-array operations share whole blocks with their inputs (blocks never change once packed)
+ * and only decode the at most two blocks cut by each range boundary
+ */
+public class PackedIntDynamicArray implements DynamicArrayADT<Integer>, WholeArrayOperationsADT<Integer, PackedIntDynamicArray> {
+
+    static final int BLOCK_SIZE = 512; //largest number of values in one block
+
+    private Block[] blocks; //packed blocks in order; shared with other arrays, never modified
+    private int[] blockEnds; //blockEnds[b] is the index just after block b's last value
+    private int blockCount;
+    private final int[] tail; //values after the last block, not yet packed
+    private int tailSize;
+
+    /**
+     * Constructor makes a new, empty PackedIntDynamicArray
+     */
+    public PackedIntDynamicArray() {
+        this.blocks = new Block[4];
+        this.blockEnds = new int[4];
+        this.blockCount = 0;
+        this.tail = new int[BLOCK_SIZE];
+        this.tailSize = 0;
+    }
+
+    /**
+     * Creates a PackedIntDynamicArray holding the given values
+     * @param values Values to store, in order
+     * @return New array containing values
+     */
+    public static PackedIntDynamicArray of(int... values) {
+        PackedIntDynamicArray result = new PackedIntDynamicArray();
+        result.appendValues(values, 0, values.length);
+        return result;
+    }
+
+    /**
+     * Returns int element at specified position in array without boxing
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        int packed = packedSize();
+        if (index >= packed) {
+            return tail[index - packed];
+        }
+        int b = findBlock(index);
+        return blocks[b].get(index - blockStart(b));
+    }
+
+    /**
+     * Replaces int element at specified position without boxing
+     * A value outside its block's current range makes the block be packed again, wider
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int setInt(int index, int newElement) {
+        int oldValue = getInt(index);
+        int packed = packedSize();
+        if (index >= packed) {
+            tail[index - packed] = newElement;
+        } else {
+            int b = findBlock(index);
+            blocks[b] = blocks[b].with(index - blockStart(b), newElement);
+        }
+        return oldValue;
+    }
+
+    /**
+     * Appends int element to end of array in amortized O(1) time without boxing
+     * @param value Element to be appended
+     */
+    public void addInt(int value) {
+        tail[tailSize++] = value;
+        if (tailSize == BLOCK_SIZE) {
+            pushBlock(Block.pack(tail, 0, BLOCK_SIZE));
+            tailSize = 0;
+        }
+    }
+
+    /**
+     * Returns element at specified position in array, boxed
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    /**
+     * Replaces element at specified position with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index, boxed
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NullPointerException if newElement is null
+     */
+    public Integer set(int index, Integer newElement) {
+        return setInt(index, newElement);
+    }
+
+    /**
+     * Appends element to end of array
+     * @param value Element to be appended
+     * @throws NullPointerException if value is null
+     */
+    public void add(Integer value) {
+        addInt(value);
+    }
+
+    /**
+     * Returns number of elements in array
+     * @return Number of elements in array
+     */
+    public int size() {
+        return packedSize() + tailSize;
+    }
+
+    /**
+     * Returns a copy of the stored elements as a plain int[]
+     * @return New array of length size() holding the elements in order
+     */
+    public int[] toIntArray() {
+        int[] result = new int[size()];
+        int position = 0;
+        for (int b = 0; b < blockCount; b++) {
+            blocks[b].decode(0, blocks[b].length, result, position);
+            position += blocks[b].length;
+        }
+        System.arraycopy(tail, 0, result, position, tailSize);
+        return result;
+    }
+
+    /**
+     * Reports the size and estimated retained bytes of this array, including every block
+     * Capacity counts the packed values plus the tail's slots
+     * @return Current memory footprint
+     */
+    public MemoryFootprint footprint() {
+        //three references and two ints, plus the three arrays they point to
+        long bytes = MemoryFootprint.objectBytes(20) + MemoryFootprint.arrayBytes(blocks.length, MemoryFootprint.REFERENCE_BYTES)
+                + MemoryFootprint.arrayBytes(blockEnds.length, Integer.BYTES) + MemoryFootprint.arrayBytes(BLOCK_SIZE, Integer.BYTES);
+        for (int b = 0; b < blockCount; b++) {
+            bytes += blocks[b].bytes();
+        }
+        return new MemoryFootprint(packedSize() + BLOCK_SIZE, size(), bytes);
+    }
+
+    /**
+     * Appends all elements from another array, sharing its whole blocks
+     * @param other Array containing elements to be appended
+     * @return New PackedIntDynamicArray with all elements from both arrays
+     */
+    public PackedIntDynamicArray append(PackedIntDynamicArray other) {
+        PackedIntDynamicArray result = new PackedIntDynamicArray();
+        result.appendRange(this, 0, this.size());
+        result.appendRange(other, 0, other.size());
+        return result;
+    }
+
+    /**
+     * Inserts all elements from another array at specified index, sharing whole blocks of both
+     * @param index Index where the other array is inserted
+     * @param other Array with elements to be inserted
+     * @return New PackedIntDynamicArray with combined elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PackedIntDynamicArray insert(int index, PackedIntDynamicArray other) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        PackedIntDynamicArray result = new PackedIntDynamicArray();
+        result.appendRange(this, 0, index);
+        result.appendRange(other, 0, other.size());
+        result.appendRange(this, index, this.size());
+        return result;
+    }
+
+    /**
+     * Creates new array containing elements from specified index to end
+     * @param index Starting index for suffix (included)
+     * @return New PackedIntDynamicArray that has the suffix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PackedIntDynamicArray splitSuffix(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return extract(index, size());
+    }
+
+    /**
+     * Creates new array containing elements from start to specified index
+     * @param index Ending index for prefix (not included)
+     * @return New PackedIntDynamicArray that has the prefix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PackedIntDynamicArray splitPrefix(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return extract(0, index);
+    }
+
+    /**
+     * Creates new array with elements in specified range removed
+     * @param fromIndex Start index of range of elements to be removed (included)
+     * @param toIndex End index of range of elements to be removed (not included)
+     * @return New PackedIntDynamicArray with range removed
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public PackedIntDynamicArray delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        PackedIntDynamicArray result = new PackedIntDynamicArray();
+        result.appendRange(this, 0, fromIndex);
+        result.appendRange(this, toIndex, size());
+        return result;
+    }
+
+    /**
+     * Creates new array with elements in specified range
+     * @param fromIndex Start index of extracted range (included)
+     * @param toIndex End index of extracted range (not included)
+     * @return New PackedIntDynamicArray with extracted elements
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public PackedIntDynamicArray extract(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        PackedIntDynamicArray result = new PackedIntDynamicArray();
+        result.appendRange(this, fromIndex, toIndex);
+        return result;
+    }
+
+    /**
+     * Private utility that returns number of values in packed blocks
+     * @return Index of first tail value
+     */
+    private int packedSize() {
+        return blockCount == 0 ? 0 : blockEnds[blockCount - 1];
+    }
+
+    /**
+     * Private utility that returns the index of a block's first value
+     * @param b Block number
+     * @return Index of first value in block b
+     */
+    private int blockStart(int b) {
+        return b == 0 ? 0 : blockEnds[b - 1];
+    }
+
+    /**
+     * Private utility that finds the block holding an index, by binary search over block ends
+     * @param index Index less than packedSize()
+     * @return Number of block holding index
+     */
+    private int findBlock(int index) {
+        int low = 0;
+        int high = blockCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (blockEnds[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Private utility that appends values through the tail
+     * @param values Array to copy from
+     * @param from Start index (included)
+     * @param to End index (not included)
+     */
+    private void appendValues(int[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            addInt(values[i]);
+        }
+    }
+
+    /**
+     * Private utility that appends a packed block after the current values, packing the tail first
+     * @param block Block to append, which may be shared with another array
+     */
+    private void appendBlock(Block block) {
+        if (tailSize > 0) {
+            pushBlock(Block.pack(tail, 0, tailSize));
+            tailSize = 0;
+        }
+        pushBlock(block);
+    }
+
+    /**
+     * Private utility that adds a block after the last one, merging it into the last one if both fit in one block
+     * @param block Block to add (tail must be empty)
+     */
+    private void pushBlock(Block block) {
+        if (blockCount > 0 && blocks[blockCount - 1].length + block.length <= BLOCK_SIZE) {
+            Block last = blocks[blockCount - 1];
+            int[] values = new int[last.length + block.length];
+            last.decode(0, last.length, values, 0);
+            block.decode(0, block.length, values, last.length);
+            blocks[blockCount - 1] = Block.pack(values, 0, values.length);
+            blockEnds[blockCount - 1] += block.length;
+            return;
+        }
+        if (blockCount == blocks.length) {
+            Block[] newBlocks = new Block[blocks.length * 2];
+            int[] newEnds = new int[blocks.length * 2];
+            System.arraycopy(blocks, 0, newBlocks, 0, blockCount);
+            System.arraycopy(blockEnds, 0, newEnds, 0, blockCount);
+            blocks = newBlocks;
+            blockEnds = newEnds;
+        }
+        blockEnds[blockCount] = packedSize() + block.length;
+        blocks[blockCount++] = block;
+    }
+
+    /**
+     * Private utility that appends a range of another array, sharing the blocks that lie wholly inside it
+     * and decoding only the parts of blocks cut by the range's ends
+     * @param source Array to copy from (may be this array's input, never this array)
+     * @param fromIndex Start index in source (included)
+     * @param toIndex End index in source (not included)
+     */
+    private void appendRange(PackedIntDynamicArray source, int fromIndex, int toIndex) {
+        int packed = source.packedSize();
+        if (fromIndex < Math.min(toIndex, packed)) {
+            int[] buffer = new int[BLOCK_SIZE];
+            for (int b = source.findBlock(fromIndex); b < source.blockCount && source.blockStart(b) < toIndex; b++) {
+                int start = source.blockStart(b);
+                int end = source.blockEnds[b];
+                int from = Math.max(fromIndex, start);
+                int to = Math.min(toIndex, end);
+                if (from == start && to == end) {
+                    appendBlock(source.blocks[b]);
+                } else {
+                    source.blocks[b].decode(from - start, to - start, buffer, 0);
+                    appendValues(buffer, 0, to - from);
+                }
+            }
+        }
+        if (toIndex > packed) {
+            appendValues(source.tail, Math.max(fromIndex, packed) - packed, toIndex - packed);
+        }
+    }
+
+    /**
+     * Private utility that checks an index refers to a stored element
+     * @param index Index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+    }
+
+    /**
+     * Private utility that checks a [fromIndex, toIndex) range
+     * @param fromIndex Start index (included)
+     * @param toIndex End index (not included)
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size() || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+    }
+
+    /**
+     * Immutable run of up to BLOCK_SIZE values stored as width-bit offsets from a reference value
+     */
+    private static final class Block {
+        final int reference; //smallest value in block
+        final int width; //bits per offset, 0 to 32; 0 when all values are equal
+        final int length; //number of values
+        final long[] words; //offsets packed low bits first; value j occupies bits [j * width, (j + 1) * width)
+
+        private Block(int reference, int width, int length, long[] words) {
+            this.reference = reference;
+            this.width = width;
+            this.length = length;
+            this.words = words;
+        }
+
+        /**
+         * Packs values[from, to) into a new block, choosing the reference and width from their range
+         */
+        static Block pack(int[] values, int from, int to) {
+            int min = values[from];
+            int max = values[from];
+            for (int i = from + 1; i < to; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+            int width = 64 - Long.numberOfLeadingZeros((long) max - min);
+            int length = to - from;
+            long[] words = new long[(int) (((long) length * width + 63) >>> 6)];
+            for (int j = 0; j < length; j++) {
+                put(words, j, width, (long) values[from + j] - min);
+            }
+            return new Block(min, width, length, words);
+        }
+
+        /**
+         * Returns value j of the block
+         */
+        int get(int j) {
+            if (width == 0) {
+                return reference;
+            }
+            long bit = (long) j * width;
+            int word = (int) (bit >>> 6);
+            int shift = (int) (bit & 63);
+            long offset = words[word] >>> shift;
+            if (shift + width > 64) {
+                offset |= words[word + 1] << (64 - shift);
+            }
+            return (int) (reference + (offset & ((1L << width) - 1)));
+        }
+
+        /**
+         * Returns a copy of the block with value j replaced; the copy is repacked only if value is out of its range
+         */
+        Block with(int j, int value) {
+            long offset = (long) value - reference;
+            if (offset >= 0 && offset < (1L << width)) {
+                long[] copy = words.clone();
+                put(copy, j, width, offset);
+                return new Block(reference, width, length, copy);
+            }
+            int[] values = new int[length];
+            decode(0, length, values, 0);
+            values[j] = value;
+            return pack(values, 0, length);
+        }
+
+        /**
+         * Decodes values [from, to) into dest starting at destPos
+         */
+        void decode(int from, int to, int[] dest, int destPos) {
+            for (int j = from; j < to; j++) {
+                dest[destPos++] = get(j);
+            }
+        }
+
+        /**
+         * Returns the estimated bytes of the block and its words
+         */
+        long bytes() {
+            return MemoryFootprint.objectBytes(3 * Integer.BYTES + MemoryFootprint.REFERENCE_BYTES)
+                    + MemoryFootprint.arrayBytes(words.length, Long.BYTES);
+        }
+
+        /**
+         * Writes an offset into bit position j * width, clearing the bits it replaces
+         */
+        private static void put(long[] words, int j, int width, long offset) {
+            if (width == 0) {
+                return;
+            }
+            long mask = (1L << width) - 1;
+            long bit = (long) j * width;
+            int word = (int) (bit >>> 6);
+            int shift = (int) (bit & 63);
+            words[word] = (words[word] & ~(mask << shift)) | (offset << shift);
+            if (shift + width > 64) {
+                int spill = 64 - shift;
+                words[word + 1] = (words[word + 1] & ~(mask >>> spill)) | (offset >>> spill);
+            }
+        }
+    }
+}
@@ -0,0 +1,297 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Parallel versions of the bulk DynamicArray operations, run on a ForkJoinPool
+ * Work on ranges larger than the threshold is split in half recursively, so copies and
+ * traversals of very large arrays spread across all worker threads
+ * Ranges at or below the threshold run on a single thread, so small arrays pay no splitting overhead
+ * Arrays passed in must not be modified by other threads while an operation is running
+ */
+public final class ParallelOperations {
+
+    /**
+     * Default number of elements below which work is not split further
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private static final ParallelOperations COMMON = new ParallelOperations(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Constructor makes a parallel executor over a given pool
+     * @param pool Pool that runs the split work
+     * @param threshold Number of elements below which work is not split further
+     * @throws IllegalArgumentException if pool is null or threshold is not positive
+     */
+    public ParallelOperations(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null.");
+        }
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive.");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the shared executor that uses the common pool and the default threshold
+     * @return Shared ParallelOperations
+     */
+    public static ParallelOperations common() {
+        return COMMON;
+    }
+
+    /**
+     * Returns the number of elements below which work is not split further
+     * @return Split threshold
+     */
+    public int threshold() {
+        return threshold;
+    }
+
+    /**
+     * Appends all elements of second to first, as DynamicArray.append does, copying in parallel
+     * The result inherits first's growth policy and metrics, as with DynamicArray.append
+     * @param <T> Type of elements stored in arrays
+     * @param first Array whose elements come first
+     * @param second Array whose elements come after
+     * @return New DynamicArray with all elements from both arrays
+     */
+    public <T> DynamicArray<T> append(DynamicArray<T> first, DynamicArray<T> second) {
+        if (first.size() + second.size() <= threshold) {
+            return first.append(second);
+        }
+        return parallelInsert("append", first, first.size(), second);
+    }
+
+    /**
+     * Inserts all elements of other into array at specified index, as DynamicArray.insert does, copying in parallel
+     * The result inherits array's growth policy and metrics, as with DynamicArray.insert
+     * @param <T> Type of elements stored in arrays
+     * @param array Array to insert into
+     * @param index Index where the other array is inserted
+     * @param other Array with elements to be inserted
+     * @return New DynamicArray with combined elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public <T> DynamicArray<T> insert(DynamicArray<T> array, int index, DynamicArray<T> other) {
+        if (index < 0 || index > array.size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        if (array.size() + other.size() <= threshold) {
+            return array.insert(index, other);
+        }
+        return parallelInsert("insert", array, index, other);
+    }
+
+    /**
+     * Creates new array with elements in specified range, as DynamicArray.extract does, copying in parallel
+     * The result inherits array's growth policy and metrics, as with DynamicArray.extract
+     * @param <T> Type of elements stored in array
+     * @param array Array to extract from
+     * @param fromIndex Start index of extracted range (included)
+     * @param toIndex End index of extracted range (not included)
+     * @return New DynamicArray with extracted elements
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public <T> DynamicArray<T> extract(DynamicArray<T> array, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > array.size() || toIndex > array.size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+        if (toIndex - fromIndex <= threshold) {
+            return array.extract(fromIndex, toIndex);
+        }
+        DynamicArray<T> result = array.newResult("extract", toIndex - fromIndex);
+        pool.invoke(new CopyTask(array, fromIndex, result.array, 0, toIndex - fromIndex));
+        result.size = toIndex - fromIndex;
+        return result;
+    }
+
+    /**
+     * Calls action on every element, in parallel and in no particular order
+     * @param <T> Type of elements stored in array
+     * @param array Array to traverse
+     * @param action Action to perform on each element; must be safe to call from several threads
+     */
+    public <T> void forEach(DynamicArray<T> array, Consumer<? super T> action) {
+        T[] elements = array.array;
+        pool.invoke(new RangeAction(0, array.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                action.accept(elements[array.slotOf(i)]);
+            }
+        }));
+    }
+
+    /**
+     * Creates a new array holding mapper applied to every element, computed in parallel
+     * The result inherits array's growth policy and metrics, and is reported to the metrics as a "map" allocation
+     * @param <T> Type of elements stored in array
+     * @param <R> Type of elements in result
+     * @param array Array to map
+     * @param mapper Function applied to each element; must be safe to call from several threads
+     * @return New DynamicArray where element i is mapper applied to element i of array
+     */
+    public <T, R> DynamicArray<R> map(DynamicArray<T> array, Function<? super T, ? extends R> mapper) {
+        T[] elements = array.array;
+        DynamicArray<R> result = array.newResult("map", array.size());
+        R[] mapped = result.array;
+        pool.invoke(new RangeAction(0, array.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                mapped[i] = mapper.apply(elements[array.slotOf(i)]);
+            }
+        }));
+        result.size = array.size();
+        return result;
+    }
+
+    /**
+     * Combines all elements with an associative operator, in parallel
+     * Chunks are reduced separately and their results combined in index order,
+     * so the operator does not need to be commutative
+     * @param <T> Type of elements stored in array
+     * @param array Array to reduce
+     * @param identity Identity value for operator, returned for an empty array
+     * @param operator Associative operator; must be safe to call from several threads
+     * @return Result of combining identity and all elements in order
+     */
+    public <T> T reduce(DynamicArray<T> array, T identity, BinaryOperator<T> operator) {
+        return pool.invoke(new ReduceTask<>(array, 0, array.size(), identity, operator));
+    }
+
+    /**
+     * Private utility that copies array with other inserted at index into a new array, splitting the copies across the pool
+     * @param <T> Type of elements stored in arrays
+     * @param operation Name of the whole-array operation, for metrics
+     * @param array Array to insert into
+     * @param index Index where the other array is inserted (already checked)
+     * @param other Array with elements to be inserted
+     * @return New DynamicArray with combined elements
+     */
+    private <T> DynamicArray<T> parallelInsert(String operation, DynamicArray<T> array, int index, DynamicArray<T> other) {
+        int total = array.size() + other.size();
+        DynamicArray<T> result = array.newResult(operation, total);
+
+        Object[] dest = result.array;
+        pool.invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            protected void compute() {
+                invokeAll(new CopyTask(array, 0, dest, 0, index),
+                        new CopyTask(other, 0, dest, index, other.size()),
+                        new CopyTask(array, index, dest, index + other.size(), array.size() - index));
+            }
+        });
+
+        result.size = total;
+        return result;
+    }
+
+    /**
+     * Copies a range of elements out of an array, splitting it into parallel halves while it exceeds the threshold
+     * Each half is copied with the source's copyOut, so a gap or ring-buffer source is read in place
+     */
+    private final class CopyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final DynamicArray<?> source;
+        private final int sourcePos;
+        private final Object[] dest;
+        private final int destPos;
+        private final int length;
+
+        CopyTask(DynamicArray<?> source, int sourcePos, Object[] dest, int destPos, int length) {
+            this.source = source;
+            this.sourcePos = sourcePos;
+            this.dest = dest;
+            this.destPos = destPos;
+            this.length = length;
+        }
+
+        protected void compute() {
+            if (length <= threshold) {
+                source.copyOut(sourcePos, dest, destPos, length);
+                return;
+            }
+            int half = length >>> 1;
+            invokeAll(new CopyTask(source, sourcePos, dest, destPos, half),
+                    new CopyTask(source, sourcePos + half, dest, destPos + half, length - half));
+        }
+    }
+
+    /**
+     * Work done on one unsplit index range
+     */
+    private interface RangeBody {
+        void run(int from, int to);
+    }
+
+    /**
+     * Visits an index range, splitting it into parallel halves while it exceeds the threshold
+     */
+    private final class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int from;
+        private final int to;
+        private final RangeBody body;
+
+        RangeAction(int from, int to, RangeBody body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        protected void compute() {
+            if (to - from <= threshold) {
+                body.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeAction(from, mid, body), new RangeAction(mid, to, body));
+        }
+    }
+
+    /**
+     * Reduces an index range, splitting it into parallel halves while it exceeds the threshold
+     * @param <T> Type of elements reduced
+     */
+    private final class ReduceTask<T> extends RecursiveTask<T> {
+        private static final long serialVersionUID = 1L;
+        private final DynamicArray<T> array;
+        private final int from;
+        private final int to;
+        private final T identity;
+        private final BinaryOperator<T> operator;
+
+        ReduceTask(DynamicArray<T> array, int from, int to, T identity, BinaryOperator<T> operator) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.identity = identity;
+            this.operator = operator;
+        }
+
+        protected T compute() {
+            if (to - from <= threshold) {
+                T[] elements = array.array;
+                T result = identity;
+                for (int i = from; i < to; i++) {
+                    result = operator.apply(result, elements[array.slotOf(i)]);
+                }
+                return result;
+            }
+            int mid = (from + to) >>> 1;
+            ReduceTask<T> left = new ReduceTask<>(array, from, mid, identity, operator);
+            ReduceTask<T> right = new ReduceTask<>(array, mid, to, identity, operator);
+            left.fork();
+            T rightResult = right.compute();
+            return operator.apply(left.join(), rightResult);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ParallelOperationsTests {
+
+    private ParallelOperations parallel;
+    private DynamicArray<Integer> numbers;
+    private DynamicArray<Integer> more;
+
+    /**
+     * Uses a tiny threshold so that even small test arrays get split across tasks
+     */
+    @Before
+    public void setUp() {
+        parallel = new ParallelOperations(new ForkJoinPool(4), 8);
+        numbers = new DynamicArray<>(0);
+        more = new DynamicArray<>(0);
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i);
+        }
+        for (int i = 0; i < 100; i++) {
+            more.add(-i);
+        }
+    }
+
+    /**
+     * Checks that two arrays hold the same elements in the same order
+     */
+    public void compareArrays(DynamicArray<Integer> expected, DynamicArray<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals("Elements are equal at index " + i, expected.get(i), actual.get(i));
+        }
+    }
+
+    /**
+     * Tests that parallel append, insert and extract give the same elements
+     * as the sequential operations
+     */
+    @Test
+    public void testCopiesMatchSequential() {
+        compareArrays(numbers.append(more), parallel.append(numbers, more));
+        compareArrays(numbers.insert(517, more), parallel.insert(numbers, 517, more));
+        compareArrays(numbers.insert(0, more), parallel.insert(numbers, 0, more));
+        compareArrays(numbers.extract(13, 987), parallel.extract(numbers, 13, 987));
+        compareArrays(numbers.extract(5, 5), parallel.extract(numbers, 5, 5));
+    }
+
+    /**
+     * Tests that a ring-buffer source is read in index order, not slot order
+     */
+    @Test
+    public void testCopiesFromRingBuffer() {
+        DynamicArray<Integer> ring = DynamicArray.ringBuffer(0);
+        for (int i = 0; i < 100; i++) {
+            ring.add(i);
+            ring.addFirst(-i);
+        }
+        compareArrays(new DynamicArray<>(ring).append(more), parallel.append(ring, more));
+    }
+
+    /**
+     * Tests that extract, map and reduce read a gap-buffer source in place,
+     * without moving its gap
+     */
+    @Test
+    public void testReadsLeaveGapInPlace() {
+        int[] moves = {0};
+        DynamicArray<Integer> text = new GapBufferDynamicArray<Integer>(0) {
+            protected void linearize() {
+                moves[0]++;
+                super.linearize();
+            }
+        };
+        for (int i = 0; i < 100; i++) {
+            text.add(i);
+        }
+        text.add(50, -1); //gap now starts at index 51
+        moves[0] = 0;
+        compareArrays(text.extract(10, 90), parallel.extract(text, 10, 90));
+        compareArrays(text.insert(20, more), parallel.insert(text, 20, more));
+        assertEquals(text.get(60) * 2, parallel.map(text, x -> x * 2).get(60).intValue());
+        assertEquals(4949, parallel.reduce(text, 0, Integer::sum).intValue());
+        assertEquals(0, moves[0]);
+    }
+
+    /**
+     * Tests that map applies the function at every index and reduce combines every element
+     */
+    @Test
+    public void testMapAndReduce() {
+        DynamicArray<Integer> doubled = parallel.map(numbers, x -> x * 2);
+        assertEquals(1000, doubled.size());
+        assertEquals(Integer.valueOf(1998), doubled.get(999));
+        assertEquals(Integer.valueOf(499500), parallel.reduce(numbers, 0, Integer::sum));
+        assertEquals(Integer.valueOf(0), parallel.reduce(new DynamicArray<>(0), 0, Integer::sum));
+    }
+
+    /**
+     * Tests that reduce combines chunks in index order, so a non-commutative operator works
+     */
+    @Test
+    public void testReduceKeepsOrder() {
+        DynamicArray<String> letters = new DynamicArray<>(0);
+        for (char c = 'a'; c <= 'z'; c++) {
+            letters.add(String.valueOf(c));
+        }
+        assertEquals("abcdefghijklmnopqrstuvwxyz", parallel.reduce(letters, "", String::concat));
+    }
+
+    /**
+     * Tests that forEach calls the action once for every element
+     */
+    @Test
+    public void testForEachVisitsEveryElement() {
+        AtomicLong total = new AtomicLong();
+        parallel.forEach(numbers, x -> total.addAndGet(x));
+        assertEquals(499500L, total.get());
+    }
+
+    /**
+     * Tests that results inherit the source's growth policy and metrics and report
+     * their allocation both above and below the split threshold
+     */
+    @Test
+    public void testResultsInheritPolicyAndMetrics() {
+        DynamicArray<Integer> source = new DynamicArray<>(0, GrowthPolicy.fixedChunk(7));
+        for (int i = 0; i < 20; i++) {
+            source.add(i);
+        }
+        ArrayMetricsRecorder recorder = new ArrayMetricsRecorder();
+        source.setMetrics(recorder);
+        ParallelOperations sequential = new ParallelOperations(ForkJoinPool.commonPool(), 1000);
+        for (ParallelOperations ops : new ParallelOperations[] {parallel, sequential}) {
+            DynamicArray<Integer> appended = ops.append(source, more);
+            DynamicArray<Integer> inserted = ops.insert(source, 3, more);
+            DynamicArray<Integer> extracted = ops.extract(source, 2, 15);
+            DynamicArray<Integer> mapped = ops.map(source, x -> x + 1);
+            for (DynamicArray<Integer> result : List.of(appended, inserted, extracted, mapped)) {
+                assertSame(recorder, result.metrics());
+                int size = result.size();
+                result.add(0);
+                assertEquals(size + 7, result.capacity());
+            }
+        }
+        Map<String, Long> byOperation = recorder.getAllocationsByOperation();
+        assertEquals(Long.valueOf(2), byOperation.get("append"));
+        assertEquals(Long.valueOf(2), byOperation.get("insert"));
+        assertEquals(Long.valueOf(2), byOperation.get("extract"));
+        assertEquals(Long.valueOf(2), byOperation.get("map"));
+    }
+
+    /**
+     * Tests that extract with an end index before its start index throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testExtractInvalidRange() {
+        parallel.extract(numbers, 10, 5);
+    }
+
+    /**
+     * Tests that a threshold of zero is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testThresholdMustBePositive() {
+        new ParallelOperations(ForkJoinPool.commonPool(), 0);
+    }
+}
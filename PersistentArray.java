@@ -0,0 +1,447 @@
+/**
+ * Immutable array whose versions share structure with each other
+ * Elements are kept in a size-annotated AVL tree, so get and every whole-array operation
+ * (append, insert, splitPrefix, splitSuffix, delete, extract) run in O(log n) time and
+ * reuse all untouched subtrees of their inputs instead of copying them
+ * Since the array never changes, set is not supported; with, plus and minus return new versions instead
+ * @param <T> Type of elements stored in array
+ */
+public final class PersistentArray<T> implements DynamicArrayADT<T>, WholeArrayOperationsADT<T, PersistentArray<T>> {
+
+    private static final PersistentArray<?> EMPTY = new PersistentArray<>(null);
+
+    private final Node<T> root; //null for the empty array
+
+    /**
+     * Private constructor wraps a tree as an array
+     * @param root Root of tree holding the elements in order
+     */
+    private PersistentArray(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty array
+     * @param <T> Type of elements stored in array
+     * @return Empty PersistentArray
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentArray<T> empty() {
+        return (PersistentArray<T>) EMPTY;
+    }
+
+    /**
+     * Creates a persistent array holding the elements of another array, in O(n) time
+     * @param <T> Type of elements stored in array
+     * @param source Array to copy elements from
+     * @return New PersistentArray with the same elements as source
+     */
+    public static <T> PersistentArray<T> of(DynamicArrayADT<T> source) {
+        return wrap(build(source, 0, source.size()));
+    }
+
+    /**
+     * Returns element at specified position in array in O(log n) time
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T get(int index) {
+        checkIndex(index);
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Not supported, because a PersistentArray never changes
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return never returns normally
+     * @throws UnsupportedOperationException always; use with(index, newElement) instead
+     */
+    public T set(int index, T newElement) {
+        throw new UnsupportedOperationException("PersistentArray cannot be changed. Use with(index, value) to get an updated copy.");
+    }
+
+    /**
+     * Returns number of elements in array
+     * @return Number of elements in array
+     */
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a new version with the element at specified position replaced, in O(log n) time
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return New PersistentArray sharing all other elements with this one
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public PersistentArray<T> with(int index, T newElement) {
+        checkIndex(index);
+        return wrap(replace(root, index, newElement));
+    }
+
+    /**
+     * Returns a new version with specified element appended, in O(log n) time
+     * @param value Element to be appended
+     * @return New PersistentArray with value at the end
+     */
+    public PersistentArray<T> plus(T value) {
+        return plus(size(), value);
+    }
+
+    /**
+     * Returns a new version with specified element inserted at specified index, in O(log n) time
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @return New PersistentArray with value inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PersistentArray<T> plus(int index, T value) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        Split<T> parts = split(root, index);
+        return wrap(join(parts.left, value, parts.right));
+    }
+
+    /**
+     * Returns a new version with the element at specified index removed, in O(log n) time
+     * @param index Index of element to remove
+     * @return New PersistentArray without that element
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PersistentArray<T> minus(int index) {
+        checkIndex(index);
+        return delete(index, index + 1);
+    }
+
+    /**
+     * Appends all elements from another PersistentArray to this array
+     * @param other PersistentArray containing elements to be appended
+     * @return New PersistentArray with all elements from both arrays
+     */
+    public PersistentArray<T> append(PersistentArray<T> other) {
+        return wrap(concat(this.root, other.root));
+    }
+
+    /**
+     * Inserts all elements from another PersistentArray at specified index
+     * @param index Index where the other array is inserted
+     * @param other PersistentArray with elements to be inserted
+     * @return New PersistentArray with combined elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PersistentArray<T> insert(int index, PersistentArray<T> other) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        Split<T> parts = split(root, index);
+        return wrap(concat(concat(parts.left, other.root), parts.right));
+    }
+
+    /**
+     * Creates new array containing elements from specified index to end
+     * @param index Starting index for suffix (included)
+     * @return New PersistentArray that has the suffix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PersistentArray<T> splitSuffix(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return wrap(split(root, index).right);
+    }
+
+    /**
+     * Creates new array containing elements from start to specified index
+     * @param index Ending index for prefix (not included)
+     * @return New PersistentArray that has the prefix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public PersistentArray<T> splitPrefix(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return wrap(split(root, index).left);
+    }
+
+    /**
+     * Creates new array with elements in specified range removed
+     * @param fromIndex Start index of range of elements to be removed (included)
+     * @param toIndex End index of range of elements to be removed (not included)
+     * @return New PersistentArray with range removed
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public PersistentArray<T> delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        Split<T> head = split(root, fromIndex);
+        Split<T> tail = split(head.right, toIndex - fromIndex);
+        return wrap(concat(head.left, tail.right));
+    }
+
+    /**
+     * Creates new array with elements in specified range
+     * @param fromIndex Start index of extracted range (included)
+     * @param toIndex End index of extracted range (not included)
+     * @return New PersistentArray with extracted elements
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public PersistentArray<T> extract(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        Split<T> head = split(root, fromIndex);
+        return wrap(split(head.right, toIndex - fromIndex).left);
+    }
+
+    /**
+     * Copies the elements into a new, mutable DynamicArray in O(n) time
+     * @return New DynamicArray with the same elements in order
+     */
+    public DynamicArray<T> toDynamicArray() {
+        DynamicArray<T> result = new DynamicArray<>(size());
+        addAllInOrder(root, result);
+        return result;
+    }
+
+    /**
+     * Private utility that checks an index refers to a stored element
+     * @param index Index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+    }
+
+    /**
+     * Private utility that checks a [fromIndex, toIndex) range
+     * @param fromIndex Start index (included)
+     * @param toIndex End index (not included)
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size() || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+    }
+
+    /**
+     * Private utility that wraps a tree, reusing the shared empty array for null
+     * @param <T> Type of elements stored in array
+     * @param root Root of tree
+     * @return PersistentArray over root
+     */
+    private static <T> PersistentArray<T> wrap(Node<T> root) {
+        return root == null ? empty() : new PersistentArray<>(root);
+    }
+
+    // ~*~*~*~*~ Tree Utilities Below ~*~*~*~*~
+
+    /**
+     * Immutable tree node storing one element plus the size and height of its subtree
+     * @param <T> Type of element stored in node
+     */
+    private static final class Node<T> {
+        final Node<T> left;
+        final T value;
+        final Node<T> right;
+        final int size;
+        final int height;
+
+        /**
+         * Constructor makes a node over two subtrees whose heights differ by at most one
+         * @param left Subtree of elements before value
+         * @param value Element stored in node
+         * @param right Subtree of elements after value
+         */
+        Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Pair of trees produced by split
+     * @param <T> Type of elements stored in trees
+     */
+    private static final class Split<T> {
+        final Node<T> left;
+        final Node<T> right;
+
+        /**
+         * Constructor stores both halves of a split
+         * @param left Tree of elements before the split point
+         * @param right Tree of elements from the split point on
+         */
+        Split(Node<T> left, Node<T> right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     * Returns number of elements in a tree
+     * @param node Root of tree (may be null)
+     * @return Number of elements in tree
+     */
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Returns height of a tree
+     * @param node Root of tree (may be null)
+     * @return Height of tree, 0 if empty
+     */
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Builds a perfectly balanced tree from a range of another array
+     * @param <T> Type of elements stored in tree
+     * @param source Array to read elements from
+     * @param from Start index (included)
+     * @param to End index (not included)
+     * @return Root of new tree, or null if range is empty
+     */
+    private static <T> Node<T> build(DynamicArrayADT<T> source, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(source, from, mid), source.get(mid), build(source, mid + 1, to));
+    }
+
+    /**
+     * Copies a tree's elements into a DynamicArray in order
+     * @param <T> Type of elements stored in tree
+     * @param node Root of tree to copy
+     * @param dest DynamicArray receiving the elements
+     */
+    private static <T> void addAllInOrder(Node<T> node, DynamicArray<T> dest) {
+        if (node != null) {
+            addAllInOrder(node.left, dest);
+            dest.add(node.value);
+            addAllInOrder(node.right, dest);
+        }
+    }
+
+    /**
+     * Copies the path to one element, replacing it and sharing everything else
+     * @param <T> Type of elements stored in tree
+     * @param node Root of tree
+     * @param index Index of element within this tree
+     * @param value New element
+     * @return Root of new tree
+     */
+    private static <T> Node<T> replace(Node<T> node, int index, T value) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(replace(node.left, index, value), node.value, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, value, node.right);
+        } else {
+            return new Node<>(node.left, node.value, replace(node.right, index - leftSize - 1, value));
+        }
+    }
+
+    /**
+     * Joins two trees around a middle element, in time proportional to their height difference
+     * @param <T> Type of elements stored in tree
+     * @param left Tree of elements before value
+     * @param value Middle element
+     * @param right Tree of elements after value
+     * @return Root of balanced tree holding left, value, right in order
+     */
+    private static <T> Node<T> join(Node<T> left, T value, Node<T> right) {
+        if (height(left) > height(right) + 1) {
+            return rebalance(left.left, left.value, join(left.right, value, right));
+        }
+        if (height(right) > height(left) + 1) {
+            return rebalance(join(left, value, right.left), right.value, right.right);
+        }
+        return new Node<>(left, value, right);
+    }
+
+    /**
+     * Concatenates two trees, in O(log n) time
+     * @param <T> Type of elements stored in tree
+     * @param left Tree of first elements
+     * @param right Tree of last elements
+     * @return Root of balanced tree holding left then right
+     */
+    private static <T> Node<T> concat(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        Split<T> parts = split(right, 1);
+        return join(left, parts.left.value, parts.right);
+    }
+
+    /**
+     * Splits a tree into its first index elements and the rest, in O(log n) time
+     * @param <T> Type of elements stored in tree
+     * @param node Root of tree
+     * @param index Number of elements that go into the left tree
+     * @return Both halves
+     */
+    private static <T> Split<T> split(Node<T> node, int index) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            Split<T> parts = split(node.left, index);
+            return new Split<>(parts.left, join(parts.right, node.value, node.right));
+        } else {
+            Split<T> parts = split(node.right, index - leftSize - 1);
+            return new Split<>(join(node.left, node.value, parts.left), parts.right);
+        }
+    }
+
+    /**
+     * Builds a node whose subtree heights may differ by two, rotating to restore AVL balance
+     * @param <T> Type of elements stored in tree
+     * @param left Tree of elements before value
+     * @param value Middle element
+     * @param right Tree of elements after value
+     * @return Root of balanced tree holding left, value, right in order
+     */
+    private static <T> Node<T> rebalance(Node<T> left, T value, Node<T> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(new Node<>(left.left, left.value, pivot.left), pivot.value, new Node<>(pivot.right, value, right));
+        }
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(new Node<>(left, value, pivot.left), pivot.value, new Node<>(pivot.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+}
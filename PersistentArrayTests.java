@@ -0,0 +1,141 @@
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+public class PersistentArrayTests {
+
+    private PersistentArray<Character> a1;
+    private PersistentArray<Character> a2;
+    private PersistentArray<Character> empty;
+
+    /**
+     * Initializes PersistentArray<Character> instances to be used for testing.
+     */
+    @Before
+    public void setUp() {
+        a1 = stringToArray("abcdef");
+        a2 = stringToArray("wxyz");
+        empty = PersistentArray.empty();
+    }
+
+    /**
+     * Puts the characters of a string into a persistent array
+     */
+    public PersistentArray<Character> stringToArray(String s) {
+        PersistentArray<Character> result = PersistentArray.empty();
+        for (int i = 0; i < s.length(); i++) {
+            result = result.plus(s.charAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Tests that each whole-array operation gives the expected elements
+     */
+    @Test
+    public void testWholeArrayOperations() {
+        ArrayAssert.compareToString(a1.append(a2), "abcdefwxyz");
+        ArrayAssert.compareToString(a1.append(a1), "abcdefabcdef");
+        ArrayAssert.compareToString(a1.append(empty), "abcdef");
+        ArrayAssert.compareToString(a1.insert(2, a2), "abwxyzcdef");
+        ArrayAssert.compareToString(a1.splitPrefix(2), "ab");
+        ArrayAssert.compareToString(a1.splitSuffix(2), "cdef");
+        ArrayAssert.compareToString(a1.delete(1, 5), "af");
+        ArrayAssert.compareToString(a1.extract(1, 5), "bcde");
+        ArrayAssert.compareToString(a1.extract(3, 3), "");
+    }
+
+    /**
+     * Tests that with, plus and minus return new versions and leave the original unchanged
+     */
+    @Test
+    public void testVersionsAreIndependent() {
+        PersistentArray<Character> changed = a1.with(0, 'A').plus(1, 'q').minus(6);
+        ArrayAssert.compareToString(changed, "Aqbcde");
+        ArrayAssert.compareToString(a1, "abcdef");
+    }
+
+    /**
+     * Tests that converting to and from DynamicArray keeps every element in order
+     */
+    @Test
+    public void testConversions() {
+        DynamicArray<Character> copy = a1.toDynamicArray();
+        ArrayAssert.compareToString(copy, "abcdef");
+        ArrayAssert.compareToString(PersistentArray.of(copy), "abcdef");
+    }
+
+    /**
+     * Tests random edits against a DynamicArray doing the same edits,
+     * which also exercises rebalancing on larger trees
+     */
+    @Test
+    public void testMatchesDynamicArray() {
+        Random random = new Random(210);
+        DynamicArray<Integer> expected = new DynamicArray<>(0);
+        PersistentArray<Integer> actual = PersistentArray.empty();
+        for (int step = 0; step < 2000; step++) {
+            int choice = random.nextInt(4);
+            if (choice < 2 || expected.size() == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, step);
+                actual = actual.plus(index, step);
+            } else if (choice == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            } else {
+                int from = random.nextInt(expected.size() + 1);
+                int to = from + random.nextInt(expected.size() - from + 1);
+                PersistentArray<Integer> middle = actual.extract(from, to);
+                actual = actual.delete(from, to).insert(from, middle);
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    /**
+     * Tests that a long chain of plus and an append of a large tree to itself
+     * keep every element at the right index
+     */
+    @Test
+    public void testLargeAppendChain() {
+        PersistentArray<Integer> arr = PersistentArray.empty();
+        for (int i = 0; i < 100000; i++) {
+            arr = arr.plus(i);
+        }
+        PersistentArray<Integer> doubled = arr.append(arr);
+        assertEquals(200000, doubled.size());
+        assertEquals(Integer.valueOf(99999), doubled.get(199999));
+        assertEquals(Integer.valueOf(12345), doubled.splitSuffix(100000).get(12345));
+    }
+
+    /**
+     * Tests that set is rejected, since a persistent array never changes
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSetUnsupported() {
+        a1.set(0, 'z');
+    }
+
+    /**
+     * Tests that get past the last element throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        a1.get(6);
+    }
+
+    /**
+     * Tests that extract with an end index before its start index throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testExtractHighIndexLessThanLow() {
+        a1.extract(4, 2);
+    }
+}
@@ -0,0 +1,320 @@
+import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * Shared implementation of dynamic arrays whose elements are stored in a primitive array (int[], long[], ...)
+ * Elements are never boxed in storage; subclasses add typed accessors such as getInt and setInt,
+ * and the boxed DynamicArrayADT methods are thin wrappers around them
+ * All element moves go through System.arraycopy, which works on any primitive array type
+ * @param <T> Boxed type of elements stored in array
+ * @param <A> Concrete array type returned by the whole-array operations
+ */
+public abstract class PrimitiveDynamicArray<T, A extends PrimitiveDynamicArray<T, A>>
+        implements DynamicArrayADT<T>, WholeArrayOperationsADT<T, A> {
+
+    protected int size; //number of elements stored in array
+    private final GrowthPolicy growthPolicy; //decides new capacity when array is full
+
+    /**
+     * Constructor for subclasses, which allocate their own storage
+     * @param growthPolicy Policy used to pick a new capacity when the array is full
+     * @throws IllegalArgumentException if growthPolicy is null
+     */
+    protected PrimitiveDynamicArray(GrowthPolicy growthPolicy) {
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Growth policy cannot be null.");
+        }
+        this.growthPolicy = growthPolicy;
+        this.size = 0;
+    }
+
+    /**
+     * Returns the backing primitive array
+     * @return Backing array, whose length is the capacity
+     */
+    protected abstract Object storage();
+
+    /**
+     * Replaces the backing primitive array
+     * @param storage New backing array of the subclass's primitive type
+     */
+    protected abstract void setStorage(Object storage);
+
+    /**
+     * Allocates a primitive array of the subclass's element type
+     * @param len Length of array to allocate
+     * @return New primitive array with given length
+     */
+    protected abstract Object allocateStorage(int len);
+
+    /**
+     * Creates an empty array of the concrete subclass type
+     * @param capacity Initial capacity of new array
+     * @param growthPolicy Growth policy of new array
+     * @return New empty array
+     */
+    protected abstract A newArray(int capacity, GrowthPolicy growthPolicy);
+
+    /**
+     * Returns number of bytes one element takes in the backing array
+     * @return Element width in bytes
+     */
+    protected abstract int elementBytes();
+
+    /**
+     * Returns the codec that encodes this array's element type, used when saving or streaming it
+     * @return Matching ElementCodec constant
+     */
+    public abstract ElementCodec<T> codec();
+
+    /**
+     * Copies a range of elements into a little-endian buffer in one bulk transfer, advancing its position
+     * @param target Buffer with room for (toIndex - fromIndex) elements
+     * @param fromIndex Start index of range to copy (included)
+     * @param toIndex End index of range to copy (not included)
+     */
+    protected abstract void putElements(ByteBuffer target, int fromIndex, int toIndex);
+
+    /**
+     * Appends elements read from a little-endian buffer in one bulk transfer, advancing its position
+     * @param source Buffer holding at least count encoded elements
+     * @param count Number of elements to read
+     */
+    protected abstract void getElements(ByteBuffer source, int count);
+
+    /**
+     * Returns number of elements in array
+     * @return Number of elements in array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns number of elements the array can hold before it has to grow
+     * @return Allocated capacity of array
+     */
+    public abstract int capacity();
+
+    /**
+     * Appends specified element to end of array in amortized O(1) time
+     * @param value Element to be appended
+     */
+    public void add(T value) {
+        add(size, value);
+    }
+
+    /**
+     * Inserts specified element at specified index
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     * @throws NullPointerException if value is null
+     */
+    public abstract void add(int index, T value);
+
+    /**
+     * Removes and returns element at specified index
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public abstract T remove(int index);
+
+    /**
+     * Makes sure the array can hold at least the given number of elements without growing again
+     * @param minCapacity Smallest capacity needed
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > capacity()) {
+            resize(growthPolicy.grow(capacity(), minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the allocated capacity down to the number of stored elements
+     */
+    public void trimToSize() {
+        if (capacity() > size) {
+            resize(size);
+        }
+    }
+
+    /**
+     * Reports the capacity, size and estimated retained bytes of this array
+     * @return Current memory footprint
+     */
+    public MemoryFootprint footprint() {
+        //size, growth policy and the subclass's storage reference
+        return MemoryFootprint.estimate(12, capacity(), size, elementBytes());
+    }
+
+    /**
+     * Private utility that moves the elements into a newly allocated array of given capacity
+     * @param newCapacity Length of the new backing array (must be at least size)
+     */
+    private void resize(int newCapacity) {
+        Object newStorage = allocateStorage(newCapacity);
+        System.arraycopy(storage(), 0, newStorage, 0, size);
+        setStorage(newStorage);
+    }
+
+    /**
+     * Checks that an index refers to a stored element
+     * @param index Index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    protected void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+    }
+
+    /**
+     * Checks that [fromIndex, toIndex) is a range of stored elements
+     * @param fromIndex Start index (included)
+     * @param toIndex End index (not included)
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    protected void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+    }
+
+    /**
+     * Checks that the array has at least one element, for reductions that have no value on an empty array
+     * @throws NoSuchElementException if array is empty
+     */
+    protected void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Array is empty.");
+        }
+    }
+
+    /**
+     * Makes room for one element at specified index, shifting later elements to the right
+     * Subclasses call this and then store the new value at index
+     * @param index Index where the new element will go
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    protected void openSlot(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        if (size == capacity()) {
+            ensureCapacity(size + 1);
+        }
+        Object storage = storage();
+        System.arraycopy(storage, index, storage, index + 1, size - index);
+        size++;
+    }
+
+    /**
+     * Removes the element at specified index by shifting later elements to the left
+     * Subclasses read the element before calling this
+     * @param index Index of element to remove (already checked)
+     */
+    protected void closeSlot(int index) {
+        Object storage = storage();
+        System.arraycopy(storage, index + 1, storage, index, size - index - 1);
+        size--;
+    }
+
+    /**
+     * Private utility that copies a contiguous range of one array onto the end of another in one bulk move
+     * @param source Array to copy from
+     * @param fromIndex Start index of range to copy (included)
+     * @param toIndex End index of range to copy (not included)
+     * @param dest Array receiving the elements, which must already have room for them
+     */
+    private static void copyRange(PrimitiveDynamicArray<?, ?> source, int fromIndex, int toIndex, PrimitiveDynamicArray<?, ?> dest) {
+        System.arraycopy(source.storage(), fromIndex, dest.storage(), dest.size, toIndex - fromIndex);
+        dest.size += toIndex - fromIndex;
+    }
+
+    /**
+     * Appends all elements from another array to this array
+     * @param other Array containing elements to be appended
+     * @return New array with all elements from both arrays
+     */
+    public A append(A other) {
+        A result = newArray(this.size + other.size, growthPolicy);
+        copyRange(this, 0, this.size, result);
+        copyRange(other, 0, other.size, result);
+        return result;
+    }
+
+    /**
+     * Inserts all elements from another array at specified index
+     * @param index Index where the other array is inserted
+     * @param other Array with elements to be inserted
+     * @return New array with combined elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public A insert(int index, A other) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        A result = newArray(this.size + other.size, growthPolicy);
+        copyRange(this, 0, index, result);
+        copyRange(other, 0, other.size, result);
+        copyRange(this, index, this.size, result);
+        return result;
+    }
+
+    /**
+     * Creates new array containing elements from specified index to end
+     * @param index Starting index for suffix (included)
+     * @return New array that has the suffix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public A splitSuffix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return extract(index, this.size);
+    }
+
+    /**
+     * Creates new array containing elements from start to specified index
+     * @param index Ending index for prefix (not included)
+     * @return New array that has the prefix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public A splitPrefix(int index) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return extract(0, index);
+    }
+
+    /**
+     * Creates new array with elements in specified range removed
+     * @param fromIndex Start index of range of elements to be removed (included)
+     * @param toIndex End index of range of elements to be removed (not included)
+     * @return New array with range removed
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public A delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        A result = newArray(this.size - (toIndex - fromIndex), growthPolicy);
+        copyRange(this, 0, fromIndex, result);
+        copyRange(this, toIndex, this.size, result);
+        return result;
+    }
+
+    /**
+     * Creates new array with elements in specified range
+     * @param fromIndex Start index of extracted range (included)
+     * @param toIndex End index of extracted range (not included)
+     * @return New array with extracted elements
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public A extract(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        A result = newArray(toIndex - fromIndex, growthPolicy);
+        copyRange(this, fromIndex, toIndex, result);
+        return result;
+    }
+}
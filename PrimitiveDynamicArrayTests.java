@@ -0,0 +1,215 @@
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class PrimitiveDynamicArrayTests {
+
+    private IntDynamicArray ints;
+    private IntDynamicArray moreInts;
+    private CharDynamicArray chars;
+
+    /**
+     * Initializes primitive arrays to be used for testing.
+     * Re-initializes before each test.
+     */
+    @Before
+    public void setUp() {
+        ints = IntDynamicArray.of(1, 2, 3, 4, 5);
+        moreInts = IntDynamicArray.of(10, 20);
+        chars = new CharDynamicArray(0);
+        for (char c : "abcdef".toCharArray()) {
+            chars.addChar(c);
+        }
+    }
+
+    // ~*~*~*~*~ Basic Access Tests Below ~*~*~*~*~
+
+    @Test
+    public void testGetAndSet() {
+        assertEquals(3, ints.getInt(2));
+        assertEquals(3, ints.setInt(2, 30));
+        assertEquals(30, ints.getInt(2));
+        assertEquals(Integer.valueOf(30), ints.get(2));
+        assertEquals(5, ints.size());
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        ints.addInt(0, 0);
+        ints.addInt(6);
+        ints.add(3, 99);
+        assertArrayEquals(new int[] {0, 1, 2, 99, 3, 4, 5, 6}, ints.toIntArray());
+        assertEquals(99, ints.removeInt(3));
+        assertEquals(Integer.valueOf(0), ints.remove(0));
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6}, ints.toIntArray());
+    }
+
+    @Test
+    public void testCharArray() {
+        assertEquals('d', chars.getChar(3));
+        assertEquals(Character.valueOf('a'), chars.get(0));
+        assertEquals("abcdef", new String(chars.toCharArray()));
+    }
+
+    @Test
+    public void testLongAndDoubleArrays() {
+        LongDynamicArray longs = LongDynamicArray.of(1L << 40, 2L);
+        longs.addLong(3L);
+        assertEquals(1L << 40, longs.getLong(0));
+        assertEquals(3, longs.size());
+
+        DoubleDynamicArray doubles = DoubleDynamicArray.of(0.5, 1.5);
+        doubles.setDouble(1, 2.5);
+        assertEquals(2.5, doubles.getDouble(1), 0.0);
+    }
+
+    @Test
+    public void testGrowthAndTrim() {
+        IntDynamicArray arr = new IntDynamicArray(1);
+        for (int i = 0; i < 100; i++) {
+            arr.addInt(i);
+        }
+        assertEquals(100, arr.size());
+        assertEquals(128, arr.capacity());
+        assertEquals(57, arr.getInt(57));
+        arr.trimToSize();
+        assertEquals(100, arr.capacity());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        ints.getInt(5);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddOutOfBounds() {
+        ints.addInt(7, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLength() {
+        new IntDynamicArray(-1);
+    }
+
+    // ~*~*~*~*~ Whole-Array Tests Below ~*~*~*~*~
+
+    @Test
+    public void testWholeArrayOperations() {
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5, 10, 20}, ints.append(moreInts).toIntArray());
+        assertArrayEquals(new int[] {1, 10, 20, 2, 3, 4, 5}, ints.insert(1, moreInts).toIntArray());
+        assertArrayEquals(new int[] {1, 2}, ints.splitPrefix(2).toIntArray());
+        assertArrayEquals(new int[] {3, 4, 5}, ints.splitSuffix(2).toIntArray());
+        assertArrayEquals(new int[] {1, 5}, ints.delete(1, 4).toIntArray());
+        assertArrayEquals(new int[] {2, 3}, ints.extract(1, 3).toIntArray());
+        assertArrayEquals(new int[] {1, 2, 3, 4, 5}, ints.toIntArray());
+    }
+
+    @Test
+    public void testWholeArrayOperationsOnChars() {
+        assertEquals("abcdefabcdef", new String(chars.append(chars).toCharArray()));
+        assertEquals("cd", new String(chars.extract(2, 4).toCharArray()));
+        assertEquals("", new String(chars.extract(3, 3).toCharArray()));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testExtractHighIndexLessThanLow() {
+        ints.extract(3, 2);
+    }
+
+    /**
+     * Tests that an int array's estimated footprint is several times
+     * smaller than a DynamicArray of boxed Integers with the same capacity
+     */
+    @Test
+    public void testFootprintSmallerThanBoxed() {
+        IntDynamicArray unboxed = new IntDynamicArray(1000);
+        DynamicArray<Integer> boxed = new DynamicArray<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            unboxed.addInt(i + 1000);
+            boxed.add(i + 1000);
+        }
+        long boxedBytes = boxed.footprint().estimatedBytes() + 1000L * 16; //each Integer is a 16-byte object
+        assertTrue(boxedBytes >= 4 * unboxed.footprint().estimatedBytes());
+        assertEquals(1000, unboxed.footprint().size());
+    }
+
+    // ~*~*~*~*~ Bulk Kernel Tests Below ~*~*~*~*~
+
+    @Test
+    public void testSearchKernels() {
+        assertEquals(2, ints.indexOf(3));
+        assertEquals(-1, ints.indexOf(6));
+        assertTrue(ints.contains(5));
+        assertFalse(moreInts.contains(1));
+        assertEquals(1, LongDynamicArray.of(7L, 8L, 8L).indexOf(8L));
+        assertEquals(-1, DoubleDynamicArray.of(1.0, Double.NaN).indexOf(Double.NaN));
+        assertEquals(-1, new IntDynamicArray(4).indexOf(0)); //unused capacity is not searched
+    }
+
+    @Test
+    public void testFillKernel() {
+        ints.fill(1, 4, 9);
+        assertArrayEquals(new int[] {1, 9, 9, 9, 5}, ints.toIntArray());
+        ints.fill(2, 2, 0);
+        assertArrayEquals(new int[] {1, 9, 9, 9, 5}, ints.toIntArray());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testFillPastEnd() {
+        ints.fill(3, 6, 0);
+    }
+
+    @Test
+    public void testReductionKernels() {
+        assertEquals(15L, ints.sum());
+        assertEquals(1, ints.min());
+        assertEquals(5, ints.max());
+        assertEquals(2L * Integer.MAX_VALUE, IntDynamicArray.of(Integer.MAX_VALUE, Integer.MAX_VALUE).sum());
+        assertEquals(0L, new IntDynamicArray(0).sum());
+        assertEquals(-3L, LongDynamicArray.of(4L, -3L, 9L).min());
+        assertEquals(2.5, DoubleDynamicArray.of(0.5, 2.0).sum(), 0.0);
+        assertEquals(2.0, DoubleDynamicArray.of(0.5, 2.0).max(), 0.0);
+        assertTrue(Double.isNaN(DoubleDynamicArray.of(0.5, Double.NaN).min()));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testMinOfEmpty() {
+        new LongDynamicArray(0).min();
+    }
+
+    @Test
+    public void testCountKernel() {
+        assertEquals(2, ints.count(Comparison.LESS_THAN, 3));
+        assertEquals(3, ints.count(Comparison.LESS_OR_EQUAL, 3));
+        assertEquals(1, ints.count(Comparison.EQUAL, 3));
+        assertEquals(4, ints.count(Comparison.NOT_EQUAL, 3));
+        assertEquals(3, ints.count(Comparison.GREATER_OR_EQUAL, 3));
+        assertEquals(2, ints.count(Comparison.GREATER_THAN, 3));
+        DoubleDynamicArray doubles = DoubleDynamicArray.of(1.5, Double.NaN, 3.0);
+        assertEquals(1, doubles.count(Comparison.GREATER_THAN, 2.0));
+        assertEquals(3, doubles.count(Comparison.NOT_EQUAL, 2.0));
+    }
+
+    @Test
+    public void testKernelsMatchGetLoop() {
+        Random random = new Random(210);
+        IntDynamicArray arr = new IntDynamicArray(0);
+        for (int i = 0; i < 10000; i++) {
+            arr.addInt(random.nextInt(1000) - 500);
+        }
+        long sum = 0;
+        int min = Integer.MAX_VALUE;
+        int below = 0;
+        for (int i = 0; i < arr.size(); i++) {
+            sum += arr.get(i);
+            min = Math.min(min, arr.get(i));
+            below += arr.get(i) < 100 ? 1 : 0;
+        }
+        assertEquals(sum, arr.sum());
+        assertEquals(min, arr.min());
+        assertEquals(below, arr.count(Comparison.LESS_THAN, 100));
+    }
+}
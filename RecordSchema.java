@@ -0,0 +1,248 @@
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Describes how a record type is split into primitive columns for a ColumnarDynamicArray
+ * Each column has a name, a primitive type and a getter that reads that field from a record;
+ * a factory rebuilds a record from the fields of one row
+ * e.g. RecordSchema.of(row -> new Reading(row.getInt(0), row.getLong(1), row.getDouble(2)),
+ *          RecordSchema.intColumn("id", Reading::id),
+ *          RecordSchema.longColumn("timestamp", Reading::timestamp),
+ *          RecordSchema.doubleColumn("value", Reading::value))
+ * @param <R> Type of records described
+ */
+public final class RecordSchema<R> {
+
+    private final Column<R, ?>[] columns;
+    private final Function<Row, R> factory;
+
+    /**
+     * Private constructor; use of
+     * @param factory Builds a record from one row's fields
+     * @param columns Columns in order
+     */
+    private RecordSchema(Function<Row, R> factory, Column<R, ?>[] columns) {
+        this.factory = factory;
+        this.columns = columns;
+    }
+
+    /**
+     * Creates a schema from a record factory and the record's columns
+     * @param <R> Type of records described
+     * @param factory Builds a record from one row, reading each field by its column's position
+     * @param columns Columns in order; column i is read with row.getInt(i), getLong(i) or getDouble(i)
+     * @return New schema
+     * @throws IllegalArgumentException if there are no columns, or two columns share a name
+     */
+    @SafeVarargs
+    public static <R> RecordSchema<R> of(Function<Row, R> factory, Column<R, ?>... columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Schema must have at least one column.");
+        }
+        for (int i = 0; i < columns.length; i++) {
+            for (int j = 0; j < i; j++) {
+                if (columns[i].name.equals(columns[j].name)) {
+                    throw new IllegalArgumentException("Column name " + columns[i].name + " is used twice.");
+                }
+            }
+        }
+        @SuppressWarnings("unchecked")
+        Column<R, ?>[] copy = (Column<R, ?>[]) new Column<?, ?>[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            copy[i] = columns[i];
+        }
+        return new RecordSchema<>(factory, copy);
+    }
+
+    /**
+     * Creates a column stored in an IntDynamicArray
+     * @param <R> Type of records described
+     * @param name Name of column
+     * @param getter Reads the field from a record
+     * @return New column
+     */
+    public static <R> Column<R, IntDynamicArray> intColumn(String name, ToIntFunction<? super R> getter) {
+        return new Column<>(name, IntDynamicArray.class, IntDynamicArray::new,
+                (values, index, record) -> values.setInt(index, getter.applyAsInt(record)));
+    }
+
+    /**
+     * Creates a column stored in a LongDynamicArray
+     * @param <R> Type of records described
+     * @param name Name of column
+     * @param getter Reads the field from a record
+     * @return New column
+     */
+    public static <R> Column<R, LongDynamicArray> longColumn(String name, ToLongFunction<? super R> getter) {
+        return new Column<>(name, LongDynamicArray.class, LongDynamicArray::new,
+                (values, index, record) -> values.setLong(index, getter.applyAsLong(record)));
+    }
+
+    /**
+     * Creates a column stored in a DoubleDynamicArray
+     * @param <R> Type of records described
+     * @param name Name of column
+     * @param getter Reads the field from a record
+     * @return New column
+     */
+    public static <R> Column<R, DoubleDynamicArray> doubleColumn(String name, ToDoubleFunction<? super R> getter) {
+        return new Column<>(name, DoubleDynamicArray.class, DoubleDynamicArray::new,
+                (values, index, record) -> values.setDouble(index, getter.applyAsDouble(record)));
+    }
+
+    /**
+     * Returns number of columns
+     * @return Number of columns
+     */
+    public int columnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Returns a column's name
+     * @param column Position of column
+     * @return Name of column
+     * @throws IndexOutOfBoundsException if column is out of range
+     */
+    public String columnName(int column) {
+        return columns[column].name;
+    }
+
+    /**
+     * Returns the position of a column
+     * @param name Name of column
+     * @return Position of column
+     * @throws IllegalArgumentException if there is no column with that name
+     */
+    public int columnIndex(String name) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].name.equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Schema has no column named " + name + ".");
+    }
+
+    /**
+     * Returns a column
+     * @param column Position of column
+     * @return Column at that position
+     */
+    Column<R, ?> column(int column) {
+        return columns[column];
+    }
+
+    /**
+     * Builds a record from one row's fields
+     * @param row Fields of the row
+     * @return New record
+     */
+    R newRecord(Row row) {
+        return factory.apply(row);
+    }
+
+    /**
+     * Fields of one row, read by column position, given to a schema's record factory
+     */
+    public interface Row {
+
+        /**
+         * Returns the value of an int column
+         * @param column Position of column
+         * @return Value in this row
+         * @throws IllegalArgumentException if the column is not an int column
+         */
+        public int getInt(int column);
+
+        /**
+         * Returns the value of a long column
+         * @param column Position of column
+         * @return Value in this row
+         * @throws IllegalArgumentException if the column is not a long column
+         */
+        public long getLong(int column);
+
+        /**
+         * Returns the value of a double column
+         * @param column Position of column
+         * @return Value in this row
+         * @throws IllegalArgumentException if the column is not a double column
+         */
+        public double getDouble(int column);
+    }
+
+    /**
+     * Writes one field of a record into a column
+     */
+    private interface FieldWriter<A, R> {
+        void write(A values, int index, R record);
+    }
+
+    /**
+     * One field of a record type, with the primitive array type it is stored in
+     * Created by intColumn, longColumn and doubleColumn
+     * @param <R> Type of records described
+     * @param <A> Primitive array type holding the column
+     */
+    public static final class Column<R, A extends PrimitiveDynamicArray<?, A>> {
+        private final String name;
+        private final Class<A> type;
+        private final IntFunction<A> storage; //creates an empty column with a given capacity
+        private final FieldWriter<A, R> setter;
+
+        private Column(String name, Class<A> type, IntFunction<A> storage, FieldWriter<A, R> setter) {
+            if (name == null) {
+                throw new IllegalArgumentException("Column name cannot be null.");
+            }
+            this.name = name;
+            this.type = type;
+            this.storage = storage;
+            this.setter = setter;
+        }
+
+        /**
+         * Creates empty storage for this column
+         */
+        A newValues(int capacity) {
+            return storage.apply(capacity);
+        }
+
+        /**
+         * Overwrites the field at index with a record's field
+         */
+        void set(PrimitiveDynamicArray<?, ?> values, int index, R record) {
+            setter.write(type.cast(values), index, record);
+        }
+
+        /**
+         * Returns the values of two columns of this type, one after the other
+         */
+        A append(PrimitiveDynamicArray<?, ?> values, PrimitiveDynamicArray<?, ?> other) {
+            return type.cast(values).append(type.cast(other));
+        }
+
+        /**
+         * Returns the values of a column of this type with another column's inserted at index
+         */
+        A insert(PrimitiveDynamicArray<?, ?> values, int index, PrimitiveDynamicArray<?, ?> other) {
+            return type.cast(values).insert(index, type.cast(other));
+        }
+
+        /**
+         * Returns the values of a column of this type with [fromIndex, toIndex) removed
+         */
+        A delete(PrimitiveDynamicArray<?, ?> values, int fromIndex, int toIndex) {
+            return type.cast(values).delete(fromIndex, toIndex);
+        }
+
+        /**
+         * Returns the values [fromIndex, toIndex) of a column of this type
+         */
+        A extract(PrimitiveDynamicArray<?, ?> values, int fromIndex, int toIndex) {
+            return type.cast(values).extract(fromIndex, toIndex);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * DynamicArray stored as a circular buffer with a movable head
+ * Elements start at slot head and wrap around the end of the backing array, so adding or removing
+ * at either end is O(1) and inserts or removes elsewhere shift only the shorter side
+ * get and set stay O(1)
+ * @param <T> Type of elements stored in array
+ */
+public class RingBufferDynamicArray<T> extends DynamicArray<T> {
+
+    private int head; //slot of the element at index 0
+
+    /**
+     * Constructor makes a new, empty RingBufferDynamicArray with specified initial capacity
+     * @param length Initial capacity of array
+     * @throws IllegalArgumentException if length is negative
+     */
+    public RingBufferDynamicArray(int length) {
+        this(length, GrowthPolicy.DOUBLING);
+    }
+
+    /**
+     * Constructor makes a new, empty RingBufferDynamicArray with specified initial capacity and growth policy
+     * @param length Initial capacity of array
+     * @param growthPolicy Policy used to pick a new capacity when the array is full
+     * @throws IllegalArgumentException if length is negative or growthPolicy is null
+     */
+    public RingBufferDynamicArray(int length, GrowthPolicy growthPolicy) {
+        super(length, growthPolicy);
+        this.head = 0;
+    }
+
+    /**
+     * Replaces element at specified position with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T set(int index, T newElement) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+        prepareForWrite();
+        int slot = slotOf(index);
+        T oldValue = array[slot];
+        array[slot] = newElement;
+        return oldValue;
+    }
+
+    /**
+     * Returns element at specified position in array
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+        return array[slotOf(index)];
+    }
+
+    /**
+     * Inserts specified element at specified index
+     * Elements before index move one slot back if that side is shorter, otherwise elements after it move forward
+     * @param index Index to insert element at
+     * @param value Element to be inserted
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public void add(int index, T value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+
+        if (size == capacity) {
+            ensureCapacity(size + 1);
+        }
+        prepareForWrite();
+
+        if (index < size - index) {
+            //shift front part one slot towards the start, wrapping the head backwards
+            head = head == 0 ? capacity - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                array[slotOf(i)] = array[slotOf(i + 1)];
+            }
+            recordShift(index);
+        } else {
+            //shift back part one slot towards the end
+            for (int i = size; i > index; i--) {
+                array[slotOf(i)] = array[slotOf(i - 1)];
+            }
+            recordShift(size - index);
+        }
+
+        array[slotOf(index)] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Removes and returns element at specified index, closing the hole from whichever side is shorter
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public T remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+
+        prepareForWrite();
+        T removedElement = array[slotOf(index)];
+
+        if (index < size - 1 - index) {
+            //shift front part one slot towards the end and advance the head
+            for (int i = index; i > 0; i--) {
+                array[slotOf(i)] = array[slotOf(i - 1)];
+            }
+            recordShift(index);
+            array[head] = null;
+            head = head == capacity - 1 ? 0 : head + 1;
+        } else {
+            //shift back part one slot towards the start
+            for (int i = index; i < size - 1; i++) {
+                array[slotOf(i)] = array[slotOf(i + 1)];
+            }
+            recordShift(size - 1 - index);
+            array[slotOf(size - 1)] = null;
+        }
+
+        size--;
+        modCount++;
+        shrinkIfNeeded();
+
+        return removedElement;
+    }
+
+    /**
+     * Rotates the backing array so the head is at slot 0 and elements occupy slots [0, size)
+     */
+    protected void linearize() {
+        if (head == 0) {
+            return;
+        }
+        //rotating left by head is three in-place reversals; free slots are null, so they can rotate along
+        reverse(0, head);
+        reverse(head, capacity);
+        reverse(0, capacity);
+        head = 0;
+    }
+
+    /**
+     * Maps an element index to its slot, wrapping around the end of the backing array
+     * @param index Index of element, between 0 and size
+     * @return Slot holding that element
+     */
+    protected int slotOf(int index) {
+        int slot = head + index;
+        return slot >= capacity ? slot - capacity : slot;
+    }
+
+    /**
+     * Copies a range of elements without rotating the ring: one bulk copy up to the end of the backing array
+     * and one for the part that wrapped around to its start
+     * @param fromIndex Index of first element to copy
+     * @param dest Array receiving the elements
+     * @param destPos Position in dest of the first copied element
+     * @param length Number of elements to copy
+     */
+    protected void copyOut(int fromIndex, Object[] dest, int destPos, int length) {
+        int start = slotOf(fromIndex);
+        int beforeWrap = Math.min(length, capacity - start);
+        System.arraycopy(array, start, dest, destPos, beforeWrap);
+        System.arraycopy(array, 0, dest, destPos + beforeWrap, length - beforeWrap);
+    }
+
+    /**
+     * Private utility that reverses the slots of the backing array in a range
+     * @param from First slot (included)
+     * @param to Last slot (not included)
+     */
+    private void reverse(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            T temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+}
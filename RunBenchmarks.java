@@ -0,0 +1,622 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Micro-benchmark harness for the DynamicArrayADT and WholeArrayOperationsADT operations
+ * Each operation is warmed up and then timed over a fixed interval for a range of array sizes,
+ * on boxed DynamicArray<Integer>, unboxed IntDynamicArray and ChunkedDynamicArray<Integer>
+ * Reports throughput, bytes allocated per operation and a scaling exponent per operation
+ * (time per call ~ size^k), and flags operations that scale worse than expected
+ *
+ * With --concurrent, instead measures how ConcurrentDynamicArray read throughput scales
+ * with the number of reader threads while one writer keeps appending and updating
+ * With --ingest, instead measures how append throughput scales with the number of producer
+ * threads, for AppendOnlyConcurrentArray against a DynamicArray guarded by synchronized
+ * With --kernels, instead compares the IntDynamicArray bulk kernels (indexOf, sum, min, count, fill)
+ * against the equivalent get/set loop over a boxed DynamicArray<Integer> of max elements
+ *
+ * Usage: java RunBenchmarks [--max N] [--warmup MS] [--measure MS] [--only NAME] [--concurrent | --ingest | --kernels]
+ * e.g.   java -cp . RunBenchmarks --max 10000000 > bench_output.txt
+ */
+public class RunBenchmarks {
+
+    private static long sink; //consumes results so the JIT cannot discard benchmarked work
+
+    /**
+     * One benchmarked call; returns an int derived from its result
+     */
+    interface Operation {
+        int run();
+    }
+
+    /**
+     * Benchmark definition: how to build the operation for a given fixture, and how it should scale
+     */
+    private static final class Benchmark {
+        final String name;
+        final double expectedExponent; //0 for O(1), 1 for O(n)
+        final Function<Fixture, Operation> factory;
+
+        Benchmark(String name, double expectedExponent, Function<Fixture, Operation> factory) {
+            this.name = name;
+            this.expectedExponent = expectedExponent;
+            this.factory = factory;
+        }
+    }
+
+    /**
+     * Arrays of one element type and size that operations run against
+     * Operations that change the size undo their change, so every call sees the same size
+     */
+    private interface Fixture {
+        int size();
+        Operation addHead();
+        Operation addMiddle();
+        Operation addTail();
+        Operation removeMiddle();
+        Operation get();
+        Operation set();
+        Operation append();
+        Operation insert();
+        Operation splitPrefix();
+        Operation splitSuffix();
+        Operation delete();
+        Operation extract();
+    }
+
+    /**
+     * Fixture over boxed DynamicArray<Integer>
+     */
+    private static final class BoxedFixture implements Fixture {
+        private final DynamicArray<Integer> array;
+        private final DynamicArray<Integer> other;
+        private final Random random = new Random(210);
+
+        BoxedFixture(int n) {
+            array = new DynamicArray<>(n + 1);
+            other = new DynamicArray<>(n / 2);
+            for (int i = 0; i < n; i++) {
+                array.add(i);
+            }
+            for (int i = 0; i < n / 2; i++) {
+                other.add(i);
+            }
+        }
+
+        public int size() { return array.size(); }
+        public Operation addHead() { return () -> { array.add(0, 1); return array.removeLast(); }; }
+        public Operation addMiddle() { return () -> { array.add(array.size() / 2, 1); return array.removeLast(); }; }
+        public Operation addTail() { return () -> { array.add(1); return array.removeLast(); }; }
+        public Operation removeMiddle() { return () -> { int v = array.remove(array.size() / 2); array.add(v); return v; }; }
+        public Operation get() { return () -> array.get(random.nextInt(array.size())); }
+        public Operation set() { return () -> array.set(random.nextInt(array.size()), 7); }
+        public Operation append() { return () -> array.append(other).size(); }
+        public Operation insert() { return () -> array.insert(array.size() / 2, other).size(); }
+        public Operation splitPrefix() { return () -> array.splitPrefix(array.size() / 2).size(); }
+        public Operation splitSuffix() { return () -> array.splitSuffix(array.size() / 2).size(); }
+        public Operation delete() { return () -> array.delete(array.size() / 4, array.size() / 2).size(); }
+        public Operation extract() { return () -> array.extract(array.size() / 4, 3 * array.size() / 4).size(); }
+    }
+
+    /**
+     * Fixture over unboxed IntDynamicArray
+     */
+    private static final class PrimitiveFixture implements Fixture {
+        private final IntDynamicArray array;
+        private final IntDynamicArray other;
+        private final Random random = new Random(210);
+
+        PrimitiveFixture(int n) {
+            array = new IntDynamicArray(n + 1);
+            other = new IntDynamicArray(n / 2);
+            for (int i = 0; i < n; i++) {
+                array.addInt(i);
+            }
+            for (int i = 0; i < n / 2; i++) {
+                other.addInt(i);
+            }
+        }
+
+        public int size() { return array.size(); }
+        public Operation addHead() { return () -> { array.addInt(0, 1); return array.removeInt(array.size() - 1); }; }
+        public Operation addMiddle() { return () -> { array.addInt(array.size() / 2, 1); return array.removeInt(array.size() - 1); }; }
+        public Operation addTail() { return () -> { array.addInt(1); return array.removeInt(array.size() - 1); }; }
+        public Operation removeMiddle() { return () -> { int v = array.removeInt(array.size() / 2); array.addInt(v); return v; }; }
+        public Operation get() { return () -> array.getInt(random.nextInt(array.size())); }
+        public Operation set() { return () -> array.setInt(random.nextInt(array.size()), 7); }
+        public Operation append() { return () -> array.append(other).size(); }
+        public Operation insert() { return () -> array.insert(array.size() / 2, other).size(); }
+        public Operation splitPrefix() { return () -> array.splitPrefix(array.size() / 2).size(); }
+        public Operation splitSuffix() { return () -> array.splitSuffix(array.size() / 2).size(); }
+        public Operation delete() { return () -> array.delete(array.size() / 4, array.size() / 2).size(); }
+        public Operation extract() { return () -> array.extract(array.size() / 4, 3 * array.size() / 4).size(); }
+    }
+
+    /**
+     * Fixture over ChunkedDynamicArray<Integer>, whose edits and whole-array operations are O(log n)
+     */
+    private static final class ChunkedFixture implements Fixture {
+        private final ChunkedDynamicArray<Integer> array = new ChunkedDynamicArray<>();
+        private final ChunkedDynamicArray<Integer> other = new ChunkedDynamicArray<>();
+        private final Random random = new Random(210);
+
+        ChunkedFixture(int n) {
+            for (int i = 0; i < n; i++) {
+                array.add(i);
+            }
+            for (int i = 0; i < n / 2; i++) {
+                other.add(i);
+            }
+        }
+
+        public int size() { return array.size(); }
+        public Operation addHead() { return () -> { array.add(0, 1); return array.remove(array.size() - 1); }; }
+        public Operation addMiddle() { return () -> { array.add(array.size() / 2, 1); return array.remove(array.size() - 1); }; }
+        public Operation addTail() { return () -> { array.add(1); return array.remove(array.size() - 1); }; }
+        public Operation removeMiddle() { return () -> { int v = array.remove(array.size() / 2); array.add(v); return v; }; }
+        public Operation get() { return () -> array.get(random.nextInt(array.size())); }
+        public Operation set() { return () -> array.set(random.nextInt(array.size()), 7); }
+        public Operation append() { return () -> array.append(other).size(); }
+        public Operation insert() { return () -> array.insert(array.size() / 2, other).size(); }
+        public Operation splitPrefix() { return () -> array.splitPrefix(array.size() / 2).size(); }
+        public Operation splitSuffix() { return () -> array.splitSuffix(array.size() / 2).size(); }
+        public Operation delete() { return () -> array.delete(array.size() / 4, array.size() / 2).size(); }
+        public Operation extract() { return () -> array.extract(array.size() / 4, 3 * array.size() / 4).size(); }
+    }
+
+    /**
+     * Result of timing one operation at one size
+     */
+    private static final class Measurement {
+        final double nanosPerOp;
+        final double bytesPerOp; //negative if allocation counting is unavailable
+
+        Measurement(double nanosPerOp, double bytesPerOp) {
+            this.nanosPerOp = nanosPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+    }
+
+    /**
+     * Returns every benchmarked operation with its expected scaling exponent
+     * @return Benchmarks in report order
+     */
+    private static List<Benchmark> benchmarks() {
+        List<Benchmark> list = new ArrayList<>();
+        list.add(new Benchmark("add(head)", 1, Fixture::addHead));
+        list.add(new Benchmark("add(middle)", 1, Fixture::addMiddle));
+        list.add(new Benchmark("add(tail)", 0, Fixture::addTail));
+        list.add(new Benchmark("remove(middle)", 1, Fixture::removeMiddle));
+        list.add(new Benchmark("get", 0, Fixture::get));
+        list.add(new Benchmark("set", 0, Fixture::set));
+        list.add(new Benchmark("append", 1, Fixture::append));
+        list.add(new Benchmark("insert", 1, Fixture::insert));
+        list.add(new Benchmark("splitPrefix", 1, Fixture::splitPrefix));
+        list.add(new Benchmark("splitSuffix", 1, Fixture::splitSuffix));
+        list.add(new Benchmark("delete", 1, Fixture::delete));
+        list.add(new Benchmark("extract", 1, Fixture::extract));
+        return list;
+    }
+
+    public static void main(String[] args) {
+        int max = 100_000;
+        long warmupMillis = 200;
+        long measureMillis = 300;
+        String only = null;
+        boolean concurrent = false;
+        boolean ingest = false;
+        boolean kernels = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--max": max = Integer.parseInt(args[++i]); break;
+                case "--warmup": warmupMillis = Long.parseLong(args[++i]); break;
+                case "--measure": measureMillis = Long.parseLong(args[++i]); break;
+                case "--only": only = args[++i]; break;
+                case "--concurrent": concurrent = true; break;
+                case "--ingest": ingest = true; break;
+                case "--kernels": kernels = true; break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        if (concurrent) {
+            concurrentReadScaling(max, warmupMillis, measureMillis);
+            return;
+        }
+        if (ingest) {
+            ingestScaling(max, warmupMillis);
+            return;
+        }
+        if (kernels) {
+            kernelComparison(max, warmupMillis, measureMillis);
+            return;
+        }
+
+        List<Integer> sizes = new ArrayList<>();
+        for (long n = 10; n <= max; n *= 10) {
+            sizes.add((int) n);
+        }
+
+        System.out.printf("%-10s %-15s %10s %14s %14s %12s%n", "type", "operation", "size", "ns/op", "ops/s", "bytes/op");
+        Map<String, Map<Integer, Measurement>> results = new LinkedHashMap<>();
+        for (String type : new String[] {"boxed", "int", "chunked"}) {
+            for (int n : sizes) {
+                Fixture fixture = type.equals("boxed") ? new BoxedFixture(n)
+                        : type.equals("int") ? new PrimitiveFixture(n) : new ChunkedFixture(n);
+                for (Benchmark benchmark : benchmarks()) {
+                    if (only != null && !benchmark.name.startsWith(only)) {
+                        continue;
+                    }
+                    Measurement m = measure(benchmark.factory.apply(fixture), warmupMillis, measureMillis);
+                    results.computeIfAbsent(type + " " + benchmark.name, k -> new LinkedHashMap<>()).put(n, m);
+                    System.out.printf("%-10s %-15s %10d %14.1f %14.0f %12s%n", type, benchmark.name, n,
+                            m.nanosPerOp, 1e9 / m.nanosPerOp, m.bytesPerOp < 0 ? "n/a" : String.format("%.0f", m.bytesPerOp));
+                }
+            }
+        }
+
+        System.out.println("\n====================");
+        System.out.println("Scaling (time per call ~ size^k, fitted over sizes >= 1000):");
+        int flagged = 0;
+        for (String type : new String[] {"boxed", "int", "chunked"}) {
+            for (Benchmark benchmark : benchmarks()) {
+                Map<Integer, Measurement> curve = results.get(type + " " + benchmark.name);
+                if (curve == null) {
+                    continue;
+                }
+                double k = scalingExponent(curve);
+                if (Double.isNaN(k)) {
+                    continue;
+                }
+                boolean superlinear = k > benchmark.expectedExponent + 0.5;
+                flagged += superlinear ? 1 : 0;
+                System.out.printf("%-10s %-15s k = %5.2f (expected %.0f)%s%n", type, benchmark.name, k,
+                        benchmark.expectedExponent, superlinear ? "  <-- REGRESSION?" : "");
+            }
+        }
+        System.out.println("====================");
+        System.out.println(flagged == 0 ? "No operation scales worse than expected." : flagged + " operation(s) scale worse than expected.");
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Measures total get() throughput on a ConcurrentDynamicArray for 1, 2, 4, ... reader threads
+     * (up to the number of processors), with one writer appending and overwriting elements throughout
+     * @param n Number of elements in the array
+     * @param warmupMillis Warmup duration per thread count
+     * @param measureMillis Measurement duration per thread count
+     */
+    private static void concurrentReadScaling(int n, long warmupMillis, long measureMillis) {
+        ConcurrentDynamicArray<Integer> array = new ConcurrentDynamicArray<>(n);
+        for (int i = 0; i < n; i++) {
+            array.add(i);
+        }
+        System.out.printf("%-10s %16s %10s%n", "readers", "reads/s", "speedup");
+        double baseline = 0;
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int readers = 1; readers <= Math.max(1, processors - 1); readers *= 2) {
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicBoolean measuring = new AtomicBoolean(false);
+            LongAdder reads = new LongAdder();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < readers; t++) {
+                final int seed = t;
+                threads.add(new Thread(() -> {
+                    Random random = new Random(seed);
+                    long local = 0;
+                    while (running.get()) {
+                        long count = 0;
+                        for (int i = 0; i < 1024; i++) {
+                            local += array.get(random.nextInt(n));
+                            count++;
+                        }
+                        if (measuring.get()) {
+                            reads.add(count);
+                        }
+                    }
+                    synchronized (RunBenchmarks.class) {
+                        sink += local;
+                    }
+                }));
+            }
+            threads.add(new Thread(() -> {
+                Random random = new Random(-1);
+                while (running.get()) {
+                    array.set(random.nextInt(n), random.nextInt());
+                    array.add(0);
+                    array.remove(array.size() - 1);
+                    Thread.onSpinWait();
+                }
+            }));
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            sleep(warmupMillis);
+            measuring.set(true);
+            long start = System.nanoTime();
+            sleep(measureMillis);
+            measuring.set(false);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            running.set(false);
+            for (Thread thread : threads) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            double rate = reads.sum() / seconds;
+            if (readers == 1) {
+                baseline = rate;
+            }
+            System.out.printf("%-10d %16.0f %9.2fx%n", readers, rate, rate / baseline);
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Measures append throughput for 1, 2, 4, ... producer threads (up to the number of processors),
+     * each producer adding its share of n elements, on AppendOnlyConcurrentArray and on a
+     * DynamicArray whose add is guarded by synchronized
+     * @param n Total number of elements appended per run
+     * @param warmupMillis Time spent on untimed runs before measuring each thread count
+     */
+    private static void ingestScaling(int n, long warmupMillis) {
+        System.out.printf("%-10s %16s %10s %16s %10s%n", "producers", "lock-free adds/s", "speedup", "synchronized/s", "speedup");
+        double lockFreeBaseline = 0;
+        double synchronizedBaseline = 0;
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int producers = 1; producers <= processors; producers *= 2) {
+            final int threads = producers;
+            Runnable lockFree = () -> {
+                AppendOnlyConcurrentArray<Integer> array = new AppendOnlyConcurrentArray<>();
+                runProducers(threads, n, array::add);
+                sink += array.size();
+            };
+            Runnable locked = () -> {
+                DynamicArray<Integer> array = new DynamicArray<>(0);
+                runProducers(threads, n, value -> {
+                    synchronized (array) {
+                        array.add(value);
+                    }
+                });
+                sink += array.size();
+            };
+            double lockFreeRate = n / timeRuns(lockFree, warmupMillis);
+            double synchronizedRate = n / timeRuns(locked, warmupMillis);
+            if (producers == 1) {
+                lockFreeBaseline = lockFreeRate;
+                synchronizedBaseline = synchronizedRate;
+            }
+            System.out.printf("%-10d %16.0f %9.2fx %16.0f %9.2fx%n", producers, lockFreeRate, lockFreeRate / lockFreeBaseline,
+                    synchronizedRate, synchronizedRate / synchronizedBaseline);
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Times each IntDynamicArray bulk kernel against the get/set loop it replaces, over n random values
+     * The loops run on a boxed DynamicArray<Integer>, as callers did before the kernels existed
+     * @param n Number of elements in each array
+     * @param warmupMillis Warmup duration per operation
+     * @param measureMillis Measurement duration per operation
+     */
+    private static void kernelComparison(int n, long warmupMillis, long measureMillis) {
+        Random random = new Random(210);
+        DynamicArray<Integer> boxed = new DynamicArray<>(n);
+        IntDynamicArray unboxed = new IntDynamicArray(n);
+        for (int i = 0; i < n; i++) {
+            int value = random.nextInt(1000);
+            boxed.add(value);
+            unboxed.addInt(value);
+        }
+        String[] names = {"indexOf", "sum", "min", "count", "fill"};
+        Operation[] loops = {
+            () -> {
+                for (int i = 0; i < boxed.size(); i++) {
+                    if (boxed.get(i) == -1) {
+                        return i;
+                    }
+                }
+                return -1;
+            },
+            () -> {
+                long total = 0;
+                for (int i = 0; i < boxed.size(); i++) {
+                    total += boxed.get(i);
+                }
+                return (int) total;
+            },
+            () -> {
+                int min = Integer.MAX_VALUE;
+                for (int i = 0; i < boxed.size(); i++) {
+                    min = Math.min(min, boxed.get(i));
+                }
+                return min;
+            },
+            () -> {
+                int count = 0;
+                for (int i = 0; i < boxed.size(); i++) {
+                    count += boxed.get(i) < 500 ? 1 : 0;
+                }
+                return count;
+            },
+            () -> {
+                for (int i = 0; i < boxed.size(); i++) {
+                    boxed.set(i, 7);
+                }
+                return boxed.size();
+            }
+        };
+        Operation[] kernels = {
+            () -> unboxed.indexOf(-1),
+            () -> (int) unboxed.sum(),
+            unboxed::min,
+            () -> unboxed.count(Comparison.LESS_THAN, 500),
+            () -> {
+                unboxed.fill(0, unboxed.size(), 7);
+                return unboxed.size();
+            }
+        };
+
+        System.out.printf("%-10s %10s %16s %16s %10s%n", "kernel", "size", "get loop ns/op", "kernel ns/op", "speedup");
+        for (int k = 0; k < names.length; k++) {
+            Measurement loop = measure(loops[k], warmupMillis, measureMillis);
+            Measurement kernel = measure(kernels[k], warmupMillis, measureMillis);
+            System.out.printf("%-10s %10d %16.0f %16.0f %9.1fx%n", names[k], n, loop.nanosPerOp, kernel.nanosPerOp,
+                    loop.nanosPerOp / kernel.nanosPerOp);
+        }
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    /**
+     * Runs a task repeatedly for the warmup interval, then returns the best time of five timed runs
+     * @param run Task to time
+     * @param warmupMillis Warmup duration
+     * @return Shortest run time in seconds
+     */
+    private static double timeRuns(Runnable run, long warmupMillis) {
+        long warmupEnd = System.nanoTime() + warmupMillis * 1_000_000L;
+        while (System.nanoTime() < warmupEnd) {
+            run.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1e9;
+    }
+
+    /**
+     * Starts producer threads that together pass the values 0 to n-1 to an add function, and waits for them
+     * @param producers Number of threads
+     * @param n Total number of values
+     * @param add Function called with every value
+     */
+    private static void runProducers(int producers, int n, Consumer<Integer> add) {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < producers; t++) {
+            final int from = (int) ((long) n * t / producers);
+            final int to = (int) ((long) n * (t + 1) / producers);
+            threads.add(new Thread(() -> {
+                for (int i = from; i < to; i++) {
+                    add.accept(i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Sleeps for a number of milliseconds, keeping the interrupt flag if interrupted
+     * @param millis Time to sleep
+     */
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs an operation for the warmup interval, then counts calls and allocated bytes over the measurement interval
+     * Calls are made in batches so that reading the clock does not dominate fast operations
+     * @param op Operation to time
+     * @param warmupMillis Warmup duration
+     * @param measureMillis Measurement duration
+     * @return Average time and allocation per call
+     */
+    private static Measurement measure(Operation op, long warmupMillis, long measureMillis) {
+        runFor(op, warmupMillis * 1_000_000L);
+        long bytesBefore = allocatedBytes();
+        long start = System.nanoTime();
+        long calls = runFor(op, measureMillis * 1_000_000L);
+        long elapsed = System.nanoTime() - start;
+        long bytesAfter = allocatedBytes();
+        double bytesPerOp = bytesBefore < 0 ? -1 : (double) (bytesAfter - bytesBefore) / calls;
+        return new Measurement((double) elapsed / calls, bytesPerOp);
+    }
+
+    /**
+     * Calls an operation repeatedly until a time budget is used up
+     * @param op Operation to call
+     * @param budgetNanos Time budget
+     * @return Number of calls made
+     */
+    private static long runFor(Operation op, long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        long calls = 0;
+        int batch = 1;
+        long local = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < batch; i++) {
+                local += op.run();
+            }
+            calls += batch;
+            if (batch < 1024) {
+                batch *= 2;
+            }
+        }
+        sink += local;
+        return calls;
+    }
+
+    /**
+     * Returns bytes allocated so far by the current thread, as counted by the JVM
+     * @return Allocated bytes, or -1 if the JVM does not support allocation counting
+     */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    /**
+     * Fits log(time) = k * log(size) + c by least squares over sizes of at least 1000
+     * Small sizes are dominated by constant overhead, so they are left out of the fit
+     * @param curve Measurements by size
+     * @return Fitted exponent k, or NaN if fewer than two sizes qualify
+     */
+    private static double scalingExponent(Map<Integer, Measurement> curve) {
+        double sumX = 0, sumY = 0, sumXY = 0, sumXX = 0;
+        int count = 0;
+        for (Map.Entry<Integer, Measurement> entry : curve.entrySet()) {
+            if (entry.getKey() < 1000) {
+                continue;
+            }
+            double x = Math.log(entry.getKey());
+            double y = Math.log(entry.getValue().nanosPerOp);
+            sumX += x;
+            sumY += y;
+            sumXY += x * y;
+            sumXX += x * x;
+            count++;
+        }
+        if (count < 2) {
+            return Double.NaN;
+        }
+        return (count * sumXY - sumX * sumY) / (count * sumXX - sumX * sumX);
+    }
+}
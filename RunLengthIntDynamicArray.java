@@ -0,0 +1,377 @@
+import java.util.Arrays;
+
+/**
+ * Compressed dynamic array of int values, for data with long runs of repeated values
+ * Each run of equal consecutive values is stored once, as its value and the index just past its end,
+ * so memory grows with the number of runs rather than the number of elements
+ * get and set find their run by binary search over run ends, O(log r) for r runs
+ * set may split a run into up to three runs, and merges runs that become equal
+ * Whole-array operations copy run boundaries only, never expanding runs into individual elements
+ */
+public class RunLengthIntDynamicArray implements DynamicArrayADT<Integer>, WholeArrayOperationsADT<Integer, RunLengthIntDynamicArray> {
+
+    private int[] runValues; //value of each run
+    private int[] runEnds; //runEnds[r] is the index just after run r's last element
+    private int runCount; //adjacent runs never have equal values
+
+    /**
+     * Constructor makes a new, empty RunLengthIntDynamicArray
+     */
+    public RunLengthIntDynamicArray() {
+        this.runValues = new int[4];
+        this.runEnds = new int[4];
+        this.runCount = 0;
+    }
+
+    /**
+     * Creates a RunLengthIntDynamicArray holding the given values
+     * @param values Values to store, in order
+     * @return New array containing values
+     */
+    public static RunLengthIntDynamicArray of(int... values) {
+        RunLengthIntDynamicArray result = new RunLengthIntDynamicArray();
+        for (int value : values) {
+            result.addInt(value);
+        }
+        return result;
+    }
+
+    /**
+     * Returns int element at specified position in array without boxing
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return runValues[findRun(index)];
+    }
+
+    /**
+     * Replaces int element at specified position without boxing
+     * Splits the run holding index if the value differs, and merges with neighbouring runs of the same value
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public int setInt(int index, int newElement) {
+        checkIndex(index);
+        int r = findRun(index);
+        int oldValue = runValues[r];
+        if (oldValue == newElement) {
+            return oldValue;
+        }
+        int start = runStart(r);
+        int end = runEnds[r];
+        int before = index > start ? 1 : 0; //part of old run left of index
+        int after = index + 1 < end ? 1 : 0; //part of old run right of index
+        int added = before + after; //run r becomes before + 1 + after runs
+        ensureRunCapacity(runCount + added);
+        System.arraycopy(runValues, r + 1, runValues, r + 1 + added, runCount - r - 1);
+        System.arraycopy(runEnds, r + 1, runEnds, r + 1 + added, runCount - r - 1);
+        runCount += added;
+        int next = r;
+        if (before == 1) {
+            runValues[next] = oldValue;
+            runEnds[next++] = index;
+        }
+        runValues[next] = newElement;
+        runEnds[next++] = index + 1;
+        if (after == 1) {
+            runValues[next] = oldValue;
+            runEnds[next] = end;
+        }
+        coalesce(Math.max(0, r - 1), Math.min(runCount - 1, r + added + 1));
+        return oldValue;
+    }
+
+    /**
+     * Appends int element to end of array in amortized O(1) time without boxing
+     * Extends the last run if the value repeats it
+     * @param value Element to be appended
+     */
+    public void addInt(int value) {
+        appendRun(value, 1);
+    }
+
+    /**
+     * Returns element at specified position in array, boxed
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    /**
+     * Replaces element at specified position with user-given element
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index, boxed
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws NullPointerException if newElement is null
+     */
+    public Integer set(int index, Integer newElement) {
+        return setInt(index, newElement);
+    }
+
+    /**
+     * Appends element to end of array
+     * @param value Element to be appended
+     * @throws NullPointerException if value is null
+     */
+    public void add(Integer value) {
+        addInt(value);
+    }
+
+    /**
+     * Returns number of elements in array
+     * @return Number of elements in array
+     */
+    public int size() {
+        return runCount == 0 ? 0 : runEnds[runCount - 1];
+    }
+
+    /**
+     * Returns number of runs of equal values, which is what the array's memory grows with
+     * @return Number of runs
+     */
+    public int runCount() {
+        return runCount;
+    }
+
+    /**
+     * Returns a copy of the stored elements as a plain int[]
+     * @return New array of length size() holding the elements in order
+     */
+    public int[] toIntArray() {
+        int[] result = new int[size()];
+        for (int r = 0; r < runCount; r++) {
+            Arrays.fill(result, runStart(r), runEnds[r], runValues[r]);
+        }
+        return result;
+    }
+
+    /**
+     * Reports the size and estimated retained bytes of this array
+     * Capacity counts the elements the allocated runs can describe, which is the size
+     * @return Current memory footprint
+     */
+    public MemoryFootprint footprint() {
+        //two references and an int, plus the two run arrays
+        long bytes = MemoryFootprint.objectBytes(2 * MemoryFootprint.REFERENCE_BYTES + Integer.BYTES)
+                + MemoryFootprint.arrayBytes(runValues.length, Integer.BYTES) + MemoryFootprint.arrayBytes(runEnds.length, Integer.BYTES);
+        return new MemoryFootprint(size(), size(), bytes);
+    }
+
+    /**
+     * Appends all elements from another array, in time proportional to the number of runs
+     * @param other Array containing elements to be appended
+     * @return New RunLengthIntDynamicArray with all elements from both arrays
+     */
+    public RunLengthIntDynamicArray append(RunLengthIntDynamicArray other) {
+        RunLengthIntDynamicArray result = new RunLengthIntDynamicArray();
+        result.appendRange(this, 0, this.size());
+        result.appendRange(other, 0, other.size());
+        return result;
+    }
+
+    /**
+     * Inserts all elements from another array at specified index, in time proportional to the number of runs
+     * @param index Index where the other array is inserted
+     * @param other Array with elements to be inserted
+     * @return New RunLengthIntDynamicArray with combined elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public RunLengthIntDynamicArray insert(int index, RunLengthIntDynamicArray other) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        RunLengthIntDynamicArray result = new RunLengthIntDynamicArray();
+        result.appendRange(this, 0, index);
+        result.appendRange(other, 0, other.size());
+        result.appendRange(this, index, this.size());
+        return result;
+    }
+
+    /**
+     * Creates new array containing elements from specified index to end
+     * @param index Starting index for suffix (included)
+     * @return New RunLengthIntDynamicArray that has the suffix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public RunLengthIntDynamicArray splitSuffix(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return extract(index, size());
+    }
+
+    /**
+     * Creates new array containing elements from start to specified index
+     * @param index Ending index for prefix (not included)
+     * @return New RunLengthIntDynamicArray that has the prefix elements
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public RunLengthIntDynamicArray splitPrefix(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. Please enter a valid index.");
+        }
+        return extract(0, index);
+    }
+
+    /**
+     * Creates new array with elements in specified range removed
+     * @param fromIndex Start index of range of elements to be removed (included)
+     * @param toIndex End index of range of elements to be removed (not included)
+     * @return New RunLengthIntDynamicArray with range removed
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public RunLengthIntDynamicArray delete(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        RunLengthIntDynamicArray result = new RunLengthIntDynamicArray();
+        result.appendRange(this, 0, fromIndex);
+        result.appendRange(this, toIndex, size());
+        return result;
+    }
+
+    /**
+     * Creates new array with elements in specified range
+     * @param fromIndex Start index of extracted range (included)
+     * @param toIndex End index of extracted range (not included)
+     * @return New RunLengthIntDynamicArray with extracted elements
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    public RunLengthIntDynamicArray extract(int fromIndex, int toIndex) {
+        checkRange(fromIndex, toIndex);
+        RunLengthIntDynamicArray result = new RunLengthIntDynamicArray();
+        result.appendRange(this, fromIndex, toIndex);
+        return result;
+    }
+
+    /**
+     * Private utility that returns the index of a run's first element
+     * @param r Run number
+     * @return Index of first element of run r
+     */
+    private int runStart(int r) {
+        return r == 0 ? 0 : runEnds[r - 1];
+    }
+
+    /**
+     * Private utility that finds the run holding an index, by binary search over run ends
+     * @param index Index less than size()
+     * @return Number of run holding index
+     */
+    private int findRun(int index) {
+        int low = 0;
+        int high = runCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (runEnds[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Private utility that appends length copies of value, extending the last run if it has the same value
+     * @param value Value of new elements
+     * @param length Number of new elements, at least 1
+     */
+    private void appendRun(int value, int length) {
+        if (runCount > 0 && runValues[runCount - 1] == value) {
+            runEnds[runCount - 1] += length;
+            return;
+        }
+        ensureRunCapacity(runCount + 1);
+        runValues[runCount] = value;
+        runEnds[runCount] = size() + length;
+        runCount++;
+    }
+
+    /**
+     * Private utility that appends the runs covering a range of another array, clipped to the range
+     * @param source Array to copy from (never this array)
+     * @param fromIndex Start index in source (included)
+     * @param toIndex End index in source (not included)
+     */
+    private void appendRange(RunLengthIntDynamicArray source, int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        for (int r = source.findRun(fromIndex); r < source.runCount && source.runStart(r) < toIndex; r++) {
+            int from = Math.max(fromIndex, source.runStart(r));
+            int to = Math.min(toIndex, source.runEnds[r]);
+            appendRun(source.runValues[r], to - from);
+        }
+    }
+
+    /**
+     * Private utility that merges adjacent runs with equal values among runs [from, to], closing up the arrays
+     * @param from First run to check
+     * @param to Last run to check
+     */
+    private void coalesce(int from, int to) {
+        int write = from;
+        for (int r = from + 1; r <= to; r++) {
+            if (runValues[r] == runValues[write]) {
+                runEnds[write] = runEnds[r];
+            } else {
+                write++;
+                runValues[write] = runValues[r];
+                runEnds[write] = runEnds[r];
+            }
+        }
+        int removed = to - write;
+        if (removed > 0) {
+            System.arraycopy(runValues, to + 1, runValues, write + 1, runCount - to - 1);
+            System.arraycopy(runEnds, to + 1, runEnds, write + 1, runCount - to - 1);
+            runCount -= removed;
+        }
+    }
+
+    /**
+     * Private utility that makes room for at least minRuns runs, doubling the run arrays
+     * @param minRuns Number of runs needed
+     */
+    private void ensureRunCapacity(int minRuns) {
+        if (minRuns > runValues.length) {
+            int newLength = Math.max(minRuns, runValues.length * 2);
+            int[] newValues = new int[newLength];
+            int[] newEnds = new int[newLength];
+            System.arraycopy(runValues, 0, newValues, 0, runCount);
+            System.arraycopy(runEnds, 0, newEnds, 0, runCount);
+            runValues = newValues;
+            runEnds = newEnds;
+        }
+    }
+
+    /**
+     * Private utility that checks an index refers to a stored element
+     * @param index Index to check
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+    }
+
+    /**
+     * Private utility that checks a [fromIndex, toIndex) range
+     * @param fromIndex Start index (included)
+     * @param toIndex End index (not included)
+     * @throws IndexOutOfBoundsException if indices are invalid
+     */
+    private void checkRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || fromIndex > size() || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Indices chosen are out of bounds. Please enter valid indices.");
+        }
+    }
+}
@@ -25,8 +25,12 @@ public class RunTests {
             }
         });
 
-        // run the student’s test class
-        Result result = core.run(DynamicArrayTests.class);
+        // run the student’s test classes
+        Result result = core.run(DynamicArrayTests.class, PrimitiveDynamicArrayTests.class, PersistentArrayTests.class,
+                ParallelOperationsTests.class, ConcurrentDynamicArrayTests.class, AppendOnlyConcurrentArrayTests.class,
+                OffHeapDynamicArrayTests.class, MappedDynamicArrayTests.class, DynamicArrayIOTests.class,
+                ChunkedDynamicArrayTests.class, SortedDynamicArrayTests.class,
+                ColumnarDynamicArrayTests.class, CompressedIntDynamicArrayTests.class);
 
         System.out.println("\n====================");
         System.out.println("Summary:");
@@ -0,0 +1,53 @@
+/**
+ * Strategy that decides when a DynamicArray gives back unused capacity after elements are removed
+ * Implementations return the current capacity when no shrinking should happen
+ */
+public interface ShrinkPolicy {
+
+    /**
+     * Never shrinks automatically (the default policy); capacity is only released by compact or trimToSize
+     */
+    public static final ShrinkPolicy NEVER = (capacity, size) -> capacity;
+
+    /**
+     * Halves capacity once fewer than a quarter of the slots are in use, never going below 16 slots
+     * After a batch removal it halves as many times as needed to get back above a quarter full
+     */
+    public static final ShrinkPolicy QUARTER_FULL = halveBelow(0.25, 16);
+
+    /**
+     * Computes the capacity an array should have after an element is removed
+     * @param capacity Capacity of the array right now
+     * @param size Number of elements left in the array
+     * @return New capacity, at least size; returning capacity means no change
+     */
+    public int shrink(int capacity, int size);
+
+    /**
+     * Creates a policy that halves capacity whenever occupancy drops below a threshold,
+     * repeating the halving until occupancy is back at or above the threshold or minCapacity is reached
+     * The threshold must be below one half: after halving, the array is still less than full,
+     * so it has to grow by a constant factor before it resizes again, and alternating adds and
+     * removes near the boundary cannot cause a resize on every call
+     * @param occupancy Fraction of used slots below which the array shrinks, between 0 and 0.5 (exclusive)
+     * @param minCapacity Capacity the policy never shrinks below
+     * @return Halving shrink policy
+     * @throws IllegalArgumentException if occupancy is out of range or minCapacity is negative
+     */
+    public static ShrinkPolicy halveBelow(double occupancy, int minCapacity) {
+        if (!(occupancy > 0.0 && occupancy < 0.5)) {
+            throw new IllegalArgumentException("Occupancy threshold must be between 0 and 0.5.");
+        }
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("Minimum capacity cannot be negative.");
+        }
+        return (capacity, size) -> {
+            //a batch removal can leave the array far below the threshold, so keep halving until it is not
+            int newCapacity = capacity;
+            while (newCapacity > minCapacity && size < newCapacity * occupancy) {
+                newCapacity = Math.max(Math.max(newCapacity / 2, size), minCapacity);
+            }
+            return newCapacity;
+        };
+    }
+}
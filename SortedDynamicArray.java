@@ -0,0 +1,262 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * Dynamic array that keeps its elements in order by a Comparator
+ * Lookups (binarySearch, lowerBound, upperBound, indexOfFirst) are O(log n) binary searches
+ * instead of linear scans over get(i), and mergeSorted combines two sorted arrays in O(n + m)
+ * instead of appending and sorting again
+ * Elements that compare equal keep their insertion order
+ * @param <T> Type of elements stored in array
+ */
+public class SortedDynamicArray<T> implements DynamicArrayADT<T>, Iterable<T> {
+
+    private final DynamicArray<T> elements; //always sorted by comparator
+    private final Comparator<? super T> comparator;
+
+    /**
+     * Constructor makes a new, empty SortedDynamicArray ordered by the given comparator
+     * @param comparator Order to keep elements in
+     * @throws IllegalArgumentException if comparator is null
+     */
+    public SortedDynamicArray(Comparator<? super T> comparator) {
+        this(0, comparator);
+    }
+
+    /**
+     * Constructor makes a new, empty SortedDynamicArray with specified initial capacity
+     * @param length Initial capacity of array
+     * @param comparator Order to keep elements in
+     * @throws IllegalArgumentException if length is negative or comparator is null
+     */
+    public SortedDynamicArray(int length, Comparator<? super T> comparator) {
+        if (comparator == null) {
+            throw new IllegalArgumentException("Comparator cannot be null.");
+        }
+        this.elements = new DynamicArray<>(length);
+        this.comparator = comparator;
+    }
+
+    /**
+     * Creates a SortedDynamicArray holding the elements of another array, sorted once in O(n log n) time
+     * @param <T> Type of elements stored in array
+     * @param source Array to copy elements from, in any order
+     * @param comparator Order to keep elements in
+     * @return New SortedDynamicArray with the same elements as source, in order
+     * @throws IllegalArgumentException if comparator is null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SortedDynamicArray<T> of(DynamicArrayADT<? extends T> source, Comparator<? super T> comparator) {
+        SortedDynamicArray<T> result = new SortedDynamicArray<>(source.size(), comparator);
+        Object[] values = new Object[source.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = source.get(i);
+        }
+        Arrays.sort((T[]) values, comparator);
+        result.elements.addAll(0, (T[]) values);
+        return result;
+    }
+
+    /**
+     * Returns the comparator that orders this array
+     * @return Comparator given at construction
+     */
+    public Comparator<? super T> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Returns element at specified position in array
+     * @param index The index of the returning element
+     * @return Element at specified position
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    public T get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Replaces element at specified position, as long as the new element keeps the array sorted
+     * @param index The index of the element to replace
+     * @param newElement New element to be stored at specified position
+     * @return Previous value stored at given index
+     * @throws IndexOutOfBoundsException if index is out of range
+     * @throws IllegalArgumentException if newElement sorts before the previous element or after the next one
+     */
+    public T set(int index, T newElement) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index chosen is out of bounds. It is either negative or equal to/greater than the array's size. Please enter a valid index.");
+        }
+        if ((index > 0 && comparator.compare(elements.get(index - 1), newElement) > 0)
+                || (index < size() - 1 && comparator.compare(newElement, elements.get(index + 1)) > 0)) {
+            throw new IllegalArgumentException("New element would break the sorted order. Use insertSorted instead.");
+        }
+        return elements.set(index, newElement);
+    }
+
+    /**
+     * Returns number of elements in array
+     * @return Number of elements in array
+     */
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Searches for an element equal to key in O(log n) time, like Arrays.binarySearch
+     * If several elements are equal to key, any one of them may be found; use indexOfFirst for the first
+     * @param key Value to search for
+     * @return Index of an equal element, or (-(insertion point) - 1) if there is none
+     */
+    public int binarySearch(T key) {
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int order = comparator.compare(elements.get(mid), key);
+            if (order < 0) {
+                low = mid + 1;
+            } else if (order > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Returns the index of the first element not less than key, in O(log n) time
+     * @param key Value to search for
+     * @return First index whose element is greater than or equal to key, or size() if there is none
+     */
+    public int lowerBound(T key) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elements.get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element greater than key, in O(log n) time
+     * upperBound(key) - lowerBound(key) is the number of elements equal to key
+     * @param key Value to search for
+     * @return First index whose element is greater than key, or size() if there is none
+     */
+    public int upperBound(T key) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(elements.get(mid), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element equal to key, in O(log n) time
+     * @param key Value to search for
+     * @return Index of first equal element, or -1 if there is none
+     */
+    public int indexOfFirst(T key) {
+        int index = lowerBound(key);
+        return index < size() && comparator.compare(elements.get(index), key) == 0 ? index : -1;
+    }
+
+    /**
+     * Inserts an element at its place in the order, after any elements equal to it
+     * Finding the place is O(log n); shifting later elements is O(n) as in DynamicArray.add(index, value)
+     * @param value Element to be inserted
+     * @return Index the element was inserted at
+     */
+    public int insertSorted(T value) {
+        int index = upperBound(value);
+        elements.add(index, value);
+        return index;
+    }
+
+    /**
+     * Removes and returns element at specified index
+     * @param index Index of element to remove
+     * @return Element previously at specified index
+     * @throws IndexOutOfBoundsException if index out of range
+     */
+    public T remove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Removes the first element equal to key, if there is one
+     * @param key Value to remove
+     * @return true if an element was removed
+     */
+    public boolean removeFirstEqual(T key) {
+        int index = indexOfFirst(key);
+        if (index < 0) {
+            return false;
+        }
+        elements.remove(index);
+        return true;
+    }
+
+    /**
+     * Merges this array with another array already sorted by the same comparator, in O(n + m) time
+     * Neither input changes; when elements are equal, this array's come first
+     * @param other Array sorted by this array's comparator
+     * @return New SortedDynamicArray holding the elements of both arrays, in order
+     * @throws IllegalArgumentException if other is not sorted by this array's comparator
+     */
+    public SortedDynamicArray<T> mergeSorted(DynamicArrayADT<? extends T> other) {
+        int n = size();
+        int m = other.size();
+        SortedDynamicArray<T> result = new SortedDynamicArray<>(n + m, comparator);
+        DynamicArray<T> merged = result.elements;
+        int i = 0;
+        int j = 0;
+        T previous = null; //last element taken from other, to check other's order as we go
+        while (j < m) {
+            T next = other.get(j);
+            if (j > 0 && comparator.compare(previous, next) > 0) {
+                throw new IllegalArgumentException("Array to merge is not sorted by this array's comparator.");
+            }
+            while (i < n && comparator.compare(elements.get(i), next) <= 0) {
+                merged.add(elements.get(i++));
+            }
+            merged.add(next);
+            previous = next;
+            j++;
+        }
+        while (i < n) {
+            merged.add(elements.get(i++));
+        }
+        return result;
+    }
+
+    /**
+     * Copies the elements, in order, into a new DynamicArray
+     * @return New DynamicArray with the same elements
+     */
+    public DynamicArray<T> toDynamicArray() {
+        return new DynamicArray<>(elements);
+    }
+
+    /**
+     * Returns an iterator over the elements in order
+     * @return Iterator that fails fast if the array is changed during iteration
+     */
+    public Iterator<T> iterator() {
+        return elements.iterator();
+    }
+}
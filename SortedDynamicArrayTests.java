@@ -0,0 +1,195 @@
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+public class SortedDynamicArrayTests {
+
+    private SortedDynamicArray<Integer> a1;
+    private SortedDynamicArray<Integer> empty;
+
+    /**
+     * Initializes SortedDynamicArray<Integer> instances to be used for testing.
+     */
+    @Before
+    public void setUp() {
+        a1 = new SortedDynamicArray<>(Comparator.naturalOrder());
+        for (int value : new int[] {5, 1, 3, 3, 9, 7, 3}) {
+            a1.insertSorted(value);
+        }
+        empty = new SortedDynamicArray<>(Comparator.naturalOrder());
+    }
+
+    /**
+     * Checks that an array holds exactly the given values, in order
+     */
+    public void compareToValues(DynamicArrayADT<Integer> arr, int... values) {
+        assertEquals("Array lengths are equal", values.length, arr.size());
+        for (int i = 0; i < values.length; i++) {
+            assertEquals("Elements are equal at index " + i, values[i], arr.get(i).intValue());
+        }
+    }
+
+    /**
+     * Tests that insertSorted puts each value in order and returns where it went
+     */
+    @Test
+    public void testInsertSortedKeepsOrder() {
+        compareToValues(a1, 1, 3, 3, 3, 5, 7, 9);
+        assertEquals(0, a1.insertSorted(0));
+        assertEquals(8, a1.insertSorted(10));
+        assertEquals(5, a1.insertSorted(4));
+        compareToValues(a1, 0, 1, 3, 3, 3, 4, 5, 7, 9, 10);
+    }
+
+    /**
+     * Tests that elements that compare equal stay in the order they were inserted
+     */
+    @Test
+    public void testEqualElementsKeepInsertionOrder() {
+        SortedDynamicArray<String> byLength = new SortedDynamicArray<>(Comparator.comparingInt(String::length));
+        byLength.insertSorted("ccc");
+        byLength.insertSorted("a");
+        byLength.insertSorted("bbb");
+        byLength.insertSorted("dd");
+        byLength.insertSorted("eee");
+        assertEquals("a dd ccc bbb eee", String.join(" ", byLength));
+    }
+
+    /**
+     * Tests lowerBound, upperBound, indexOfFirst and binarySearch on present,
+     * missing and out-of-range keys, and on an empty array
+     */
+    @Test
+    public void testSearches() {
+        assertEquals(1, a1.lowerBound(3));
+        assertEquals(4, a1.upperBound(3));
+        assertEquals(1, a1.indexOfFirst(3));
+        assertEquals(-1, a1.indexOfFirst(4));
+        assertEquals(4, a1.lowerBound(4));
+        assertEquals(4, a1.upperBound(4));
+        assertEquals(0, a1.lowerBound(-5));
+        assertEquals(7, a1.upperBound(100));
+        assertEquals(Integer.valueOf(3), a1.get(a1.binarySearch(3)));
+        assertEquals(-5, a1.binarySearch(4));
+        assertEquals(-8, a1.binarySearch(10));
+        assertEquals(-1, empty.binarySearch(1));
+        assertEquals(-1, empty.indexOfFirst(1));
+    }
+
+    /**
+     * Tests that mergeSorted interleaves two sorted arrays without changing either input
+     */
+    @Test
+    public void testMergeSorted() {
+        DynamicArray<Integer> other = new DynamicArray<>(0);
+        for (int value : new int[] {0, 3, 4, 8, 12}) {
+            other.add(value);
+        }
+        compareToValues(a1.mergeSorted(other), 0, 1, 3, 3, 3, 3, 4, 5, 7, 8, 9, 12);
+        compareToValues(a1.mergeSorted(empty), 1, 3, 3, 3, 5, 7, 9);
+        compareToValues(empty.mergeSorted(a1), 1, 3, 3, 3, 5, 7, 9);
+        compareToValues(a1, 1, 3, 3, 3, 5, 7, 9);
+    }
+
+    /**
+     * Tests that building by insertSorted, by of and by mergeSorted all agree with
+     * a plain sort, and that the bounds count every key correctly
+     */
+    @Test
+    public void testMatchesSortedDynamicArray() {
+        Random random = new Random(210);
+        DynamicArray<Integer> source = new DynamicArray<>(0);
+        for (int i = 0; i < 2000; i++) {
+            source.add(random.nextInt(500));
+        }
+        SortedDynamicArray<Integer> sorted = SortedDynamicArray.of(source, Comparator.naturalOrder());
+        SortedDynamicArray<Integer> built = new SortedDynamicArray<>(Comparator.naturalOrder());
+        for (Integer value : source) {
+            built.insertSorted(value);
+        }
+        compareToValues(sorted.mergeSorted(built).mergeSorted(empty).toDynamicArray(), merged(sorted, built));
+        for (int key = -1; key <= 500; key++) {
+            int count = 0;
+            for (Integer value : source) {
+                count += value == key ? 1 : 0;
+            }
+            assertEquals(count, sorted.upperBound(key) - sorted.lowerBound(key));
+            assertEquals(count > 0, sorted.binarySearch(key) >= 0);
+        }
+    }
+
+    /**
+     * Concatenates two arrays' values and sorts them, the slow way
+     */
+    private int[] merged(SortedDynamicArray<Integer> first, SortedDynamicArray<Integer> second) {
+        int[] values = new int[first.size() + second.size()];
+        for (int i = 0; i < first.size(); i++) {
+            values[i] = first.get(i);
+        }
+        for (int i = 0; i < second.size(); i++) {
+            values[first.size() + i] = second.get(i);
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    /**
+     * Tests that removeFirstEqual reports whether it found the value, and that remove keeps the order
+     */
+    @Test
+    public void testRemove() {
+        assertTrue(a1.removeFirstEqual(3));
+        assertFalse(a1.removeFirstEqual(4));
+        assertEquals(Integer.valueOf(9), a1.remove(5));
+        compareToValues(a1, 1, 3, 3, 5, 7);
+    }
+
+    /**
+     * Tests that set accepts a value that still fits between its neighbours
+     */
+    @Test
+    public void testSetKeepingOrder() {
+        assertEquals(Integer.valueOf(5), a1.set(4, 6));
+        assertEquals(Integer.valueOf(1), a1.set(0, 3));
+        compareToValues(a1, 3, 3, 3, 3, 6, 7, 9);
+    }
+
+    /**
+     * Tests that set rejects a value that would break the order
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetBreakingOrder() {
+        a1.set(4, 8);
+    }
+
+    /**
+     * Tests that mergeSorted rejects an input that is not sorted
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeUnsorted() {
+        DynamicArray<Integer> other = new DynamicArray<>(0);
+        other.add(4);
+        other.add(2);
+        a1.mergeSorted(other);
+    }
+
+    /**
+     * Tests that a sorted array cannot be made without a comparator
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullComparator() {
+        new SortedDynamicArray<Integer>(null);
+    }
+
+    /**
+     * Tests that get past the last element throws
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        a1.get(7);
+    }
+}
@@ -1,15 +1,18 @@
 /**
  * Interface for operations that deal with entire arrays
+ * Operations take and return arrays of the implementing type, so each implementation
+ * can combine its own arrays without converting them
  * @param <T> Type of elements in arrays
+ * @param <A> Type of array the operations take and return
  */
-public interface WholeArrayOperationsADT<T> {
+public interface WholeArrayOperationsADT<T, A extends WholeArrayOperationsADT<T, A>> {
 
     /**
      * Adds another array to end of this array
      * @param other Array to add to end
      * @return New array with both arrays combined
      */
-    public DynamicArray<T> append(DynamicArray<T> other);
+    public A append(A other);
 
     /**
      * Puts another array into this array at a specified index
@@ -17,21 +20,21 @@ public interface WholeArrayOperationsADT<T> {
      * @param other Array to insert
      * @return New array with inserted elements
      */
-    public DynamicArray<T> insert(int index, DynamicArray<T> other);
+    public A insert(int index, A other);
 
     /**
      * Gets part of array from an index to the end
      * @param index Starting position
      * @return New array with elements from index to end
      */
-    public DynamicArray<T> splitSuffix(int index);
+    public A splitSuffix(int index);
 
     /**
      * Gets part of array from start to before index
      * @param index Ending position (not included)
      * @return New array with elements from start to before index
      */
-    public DynamicArray<T> splitPrefix(int index);
+    public A splitPrefix(int index);
 
     /**
      * Removes element(s) between two indices
@@ -39,7 +42,7 @@ public interface WholeArrayOperationsADT<T> {
      * @param toIndex End position (not included)
      * @return New array with specified elements removed
      */
-    public DynamicArray<T> delete(int fromIndex, int toIndex);
+    public A delete(int fromIndex, int toIndex);
 
     /**
      * Gets elements between two indices
@@ -47,5 +50,5 @@ public interface WholeArrayOperationsADT<T> {
      * @param toIndex End position (not included)
      * @return New array with only specified elements
      */
-    public DynamicArray<T> extract(int fromIndex, int toIndex);
+    public A extract(int fromIndex, int toIndex);
 }
\ No newline at end of file